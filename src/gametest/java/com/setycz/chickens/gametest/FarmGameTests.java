@@ -0,0 +1,269 @@
+package com.setycz.chickens.gametest;
+
+import com.setycz.chickens.ChickensMod;
+import com.setycz.chickens.ChickensRegistry;
+import com.setycz.chickens.ChickensRegistryItem;
+import com.setycz.chickens.LiquidEggRegistry;
+import com.setycz.chickens.LiquidEggRegistryItem;
+import com.setycz.chickens.blockentity.AvianDousingMachineBlockEntity;
+import com.setycz.chickens.blockentity.AvianFluidConverterBlockEntity;
+import com.setycz.chickens.blockentity.AvianFluxConverterBlockEntity;
+import com.setycz.chickens.blockentity.BreederBlockEntity;
+import com.setycz.chickens.blockentity.CollectorBlockEntity;
+import com.setycz.chickens.blockentity.HenhouseBlockEntity;
+import com.setycz.chickens.blockentity.RoostBlockEntity;
+import com.setycz.chickens.entity.ChickensChicken;
+import com.setycz.chickens.item.ChickenItemHelper;
+import com.setycz.chickens.item.ChickenStats;
+import com.setycz.chickens.item.FluxEggItem;
+import com.setycz.chickens.item.LiquidEggItem;
+import com.setycz.chickens.registry.ModEntityTypes;
+import com.setycz.chickens.registry.ModRegistry;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.Container;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.ChestBlockEntity;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+import net.neoforged.neoforge.gametest.PrefixGameTestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Farm-scale throughput tests. Every test builds its farm on the empty
+ * {@code farm_floor} template, runs it for a fixed number of ticks, checks
+ * that the farm produced what it should, and then checks the recorded tick
+ * costs against {@code chickens-gametest.properties}. Each test has its own
+ * batch so farms never tick alongside each other and skew the timings.
+ */
+@GameTestHolder(ChickensMod.MOD_ID)
+@PrefixGameTestTemplate(false)
+public final class FarmGameTests {
+    private static final String FLOOR = "farm_floor";
+    private static final ChickenStats MAX_STATS = new ChickenStats(10, 10, 10, false);
+    private static final int ROOST_WALL_TIMEOUT = 600;
+    private static final int HOPPER_BREEDERS_TIMEOUT = 1500;
+    private static final int HENHOUSE_PEN_TIMEOUT = 400;
+    private static final int DOUSING_CHAIN_TIMEOUT = 800;
+
+    private FarmGameTests() {
+    }
+
+    /** 10x10 wall of roosts holding 16 chickens each, emptied by four collectors behind it. */
+    @GameTest(template = FLOOR, batch = "roost_wall", timeoutTicks = ROOST_WALL_TIMEOUT)
+    public static void roostWallWithCollectors(GameTestHelper helper) {
+        TickCostRecorder costs = TickCostRecorder.start(helper, "roostWallWithCollectors", ROOST_WALL_TIMEOUT);
+        ItemStack chickens = chickenStack(helper, "WhiteChicken", 16);
+        List<RoostBlockEntity> roosts = new ArrayList<>();
+        for (int x = 1; x <= 10; x++) {
+            for (int y = 1; y <= 10; y++) {
+                BlockPos pos = new BlockPos(x, y, 1);
+                helper.setBlock(pos, ModRegistry.ROOST.get());
+                RoostBlockEntity roost = helper.getBlockEntity(pos);
+                roost.setItem(RoostBlockEntity.CHICKEN_SLOT, chickens.copy());
+                roosts.add(roost);
+            }
+        }
+        List<CollectorBlockEntity> collectors = new ArrayList<>();
+        for (int x : new int[] { 3, 8 }) {
+            for (int y : new int[] { 3, 8 }) {
+                BlockPos pos = new BlockPos(x, y, 2);
+                helper.setBlock(pos, ModRegistry.COLLECTOR.get());
+                collectors.add(helper.getBlockEntity(pos));
+            }
+        }
+
+        helper.runAfterDelay(400, () -> {
+            try {
+                int collected = collectors.stream().mapToInt(FarmGameTests::countItems).sum();
+                helper.assertTrue(collected >= roosts.size(),
+                        "Collectors gathered " + collected + " items from " + roosts.size() + " roosts");
+            } finally {
+                costs.stop();
+            }
+            costs.assertWithinThresholds(helper);
+            helper.succeed();
+        });
+    }
+
+    /** A row of breeders whose seeds arrive through hoppers from chests above them. */
+    @GameTest(template = FLOOR, batch = "hopper_breeders", timeoutTicks = HOPPER_BREEDERS_TIMEOUT)
+    public static void breedersFedByHoppers(GameTestHelper helper) {
+        TickCostRecorder costs = TickCostRecorder.start(helper, "breedersFedByHoppers", HOPPER_BREEDERS_TIMEOUT);
+        ItemStack parent = chickenStack(helper, "WhiteChicken", 1);
+        List<BreederBlockEntity> breeders = new ArrayList<>();
+        List<ChestBlockEntity> chests = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            int x = 1 + i * 2;
+            BlockPos breederPos = new BlockPos(x, 1, 2);
+            helper.setBlock(breederPos, ModRegistry.BREEDER.get());
+            BreederBlockEntity breeder = helper.getBlockEntity(breederPos);
+            breeder.setItem(BreederBlockEntity.LEFT_CHICKEN_SLOT, parent.copy());
+            breeder.setItem(BreederBlockEntity.RIGHT_CHICKEN_SLOT, parent.copy());
+            breeders.add(breeder);
+
+            // Hoppers face down by default, straight into the breeder's seed slot.
+            helper.setBlock(x, 2, 2, Blocks.HOPPER);
+            helper.setBlock(x, 3, 2, Blocks.CHEST);
+            ChestBlockEntity chest = helper.getBlockEntity(new BlockPos(x, 3, 2));
+            chest.setItem(0, new ItemStack(Items.WHEAT_SEEDS, 64));
+            chests.add(chest);
+        }
+
+        helper.runAfterDelay(1300, () -> {
+            try {
+                for (int i = 0; i < breeders.size(); i++) {
+                    BreederBlockEntity breeder = breeders.get(i);
+                    int offspring = 0;
+                    for (int slot = BreederBlockEntity.SEED_SLOT + 1; slot < breeder.getContainerSize(); slot++) {
+                        offspring += breeder.getItem(slot).getCount();
+                    }
+                    helper.assertTrue(offspring > 0, "Breeder " + i + " produced no offspring");
+                    helper.assertTrue(countItems(chests.get(i)) < 64, "Hopper " + i + " never fed its breeder");
+                }
+            } finally {
+                costs.stop();
+            }
+            costs.assertWithinThresholds(helper);
+            helper.succeed();
+        });
+    }
+
+    /**
+     * A fenced pen of 300 chickens around four henhouses. Natural lay timers
+     * are far longer than a test, so every tick a tenth of the flock hands its
+     * lay item to {@link HenhouseBlockEntity#pushItemStack} the way a laying
+     * chicken does, and each call is timed.
+     */
+    @GameTest(template = FLOOR, batch = "henhouse_pen", timeoutTicks = HENHOUSE_PEN_TIMEOUT)
+    public static void henhousePenWithThreeHundredChickens(GameTestHelper helper) {
+        TickCostRecorder costs = TickCostRecorder.start(helper, "henhousePenWithThreeHundredChickens", HENHOUSE_PEN_TIMEOUT);
+        ChickensRegistryItem description = chicken(helper, "WhiteChicken");
+        for (int i = 1; i <= 18; i++) {
+            helper.setBlock(i, 1, 1, Blocks.OAK_FENCE);
+            helper.setBlock(i, 1, 18, Blocks.OAK_FENCE);
+            helper.setBlock(1, 1, i, Blocks.OAK_FENCE);
+            helper.setBlock(18, 1, i, Blocks.OAK_FENCE);
+        }
+        List<HenhouseBlockEntity> henhouses = new ArrayList<>();
+        for (int x : new int[] { 6, 13 }) {
+            for (int z : new int[] { 6, 13 }) {
+                BlockPos pos = new BlockPos(x, 1, z);
+                helper.setBlock(pos, ModRegistry.HENHOUSE.get());
+                HenhouseBlockEntity henhouse = helper.getBlockEntity(pos);
+                henhouse.setItem(HenhouseBlockEntity.HAY_SLOT, new ItemStack(Blocks.HAY_BLOCK, 64));
+                henhouses.add(henhouse);
+            }
+        }
+        RandomSource random = RandomSource.create(300L);
+        List<ChickensChicken> flock = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            ChickensChicken chicken = helper.spawn(ModEntityTypes.CHICKENS_CHICKEN.get(),
+                    new Vec3(2.5D + random.nextInt(15), 1.0D, 2.5D + random.nextInt(15)));
+            chicken.setChickenType(description.getId());
+            flock.add(chicken);
+        }
+
+        int[] cursor = new int[1];
+        int[] delivered = new int[1];
+        helper.onEachTick(() -> {
+            for (int i = 0; i < flock.size() / 10; i++) {
+                ChickensChicken chicken = flock.get(cursor[0]++ % flock.size());
+                ItemStack lay = description.createLayItem();
+                long start = System.nanoTime();
+                ItemStack remaining = HenhouseBlockEntity.pushItemStack(lay, helper.getLevel(), chicken.position());
+                costs.record("henhouse_push", System.nanoTime() - start);
+                delivered[0] += lay.getCount() - remaining.getCount();
+            }
+        });
+
+        helper.runAfterDelay(200, () -> {
+            try {
+                helper.assertEntitiesPresent(ModEntityTypes.CHICKENS_CHICKEN.get(), flock.size());
+                int stored = henhouses.stream().mapToInt(henhouse -> countItems(henhouse) - henhouse.getItem(
+                        HenhouseBlockEntity.HAY_SLOT).getCount()).sum();
+                helper.assertTrue(delivered[0] > 0 && stored > 0,
+                        "Henhouses stored " + stored + " of " + delivered[0] + " delivered eggs");
+            } finally {
+                costs.stop();
+            }
+            costs.assertWithinThresholds(helper);
+            helper.succeed();
+        });
+    }
+
+    /**
+     * Flux converter and fluid converter on either side of a dousing machine,
+     * turning a Smart Chicken into the water chicken without any other input.
+     */
+    @GameTest(template = FLOOR, batch = "dousing_chain", timeoutTicks = DOUSING_CHAIN_TIMEOUT)
+    public static void dousingAndConverterChain(GameTestHelper helper) {
+        TickCostRecorder costs = TickCostRecorder.start(helper, "dousingAndConverterChain", DOUSING_CHAIN_TIMEOUT);
+        LiquidEggRegistryItem water = LiquidEggRegistry.findById(0);
+        ChickensRegistryItem smart = ChickensRegistry.getSmartChicken();
+        if (water == null || smart == null) {
+            helper.fail("Water liquid egg or Smart Chicken is not registered");
+            return;
+        }
+
+        BlockPos fluxPos = new BlockPos(2, 1, 2);
+        BlockPos machinePos = new BlockPos(3, 1, 2);
+        BlockPos fluidPos = new BlockPos(4, 1, 2);
+        helper.setBlock(fluxPos, ModRegistry.AVIAN_FLUX_CONVERTER.get());
+        helper.setBlock(machinePos, ModRegistry.AVIAN_DOUSING_MACHINE.get());
+        helper.setBlock(fluidPos, ModRegistry.AVIAN_FLUID_CONVERTER.get());
+        AvianFluxConverterBlockEntity flux = helper.getBlockEntity(fluxPos);
+        flux.setItem(0, FluxEggItem.create(AvianDousingMachineBlockEntity.LIQUID_ENERGY_COST * 4));
+        AvianFluidConverterBlockEntity fluid = helper.getBlockEntity(fluidPos);
+        fluid.setItem(0, LiquidEggItem.createFor(water).copyWithCount(16));
+        AvianDousingMachineBlockEntity machine = helper.getBlockEntity(machinePos);
+        machine.setItem(0, chickenStack(smart, 1));
+
+        helper.runAfterDelay(600, () -> {
+            try {
+                ItemStack output = machine.getItem(1);
+                helper.assertTrue(!output.isEmpty(), "Dousing machine produced nothing (fluid "
+                        + machine.getLiquidAmount() + " mB, energy " + machine.getEnergyStored() + " RF)");
+                helper.assertTrue(ChickenItemHelper.getChickenType(output) != ChickensRegistry.SMART_CHICKEN_ID,
+                        "Dousing machine output is still a Smart Chicken");
+            } finally {
+                costs.stop();
+            }
+            costs.assertWithinThresholds(helper);
+            helper.succeed();
+        });
+    }
+
+    private static ChickensRegistryItem chicken(GameTestHelper helper, String name) {
+        ChickensRegistryItem chicken = ChickensRegistry.getByEntityName(name);
+        if (chicken == null) {
+            helper.fail(name + " is not registered");
+        }
+        return chicken;
+    }
+
+    private static ItemStack chickenStack(GameTestHelper helper, String name, int count) {
+        return chickenStack(chicken(helper, name), count);
+    }
+
+    private static ItemStack chickenStack(ChickensRegistryItem chicken, int count) {
+        ItemStack stack = ModRegistry.CHICKEN_ITEM.get().createFor(chicken);
+        ChickenItemHelper.setStats(stack, MAX_STATS);
+        stack.setCount(count);
+        return stack;
+    }
+
+    private static int countItems(Container container) {
+        int total = 0;
+        for (int slot = 0; slot < container.getContainerSize(); slot++) {
+            total += container.getItem(slot).getCount();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,164 @@
+package com.setycz.chickens.gametest;
+
+import com.setycz.chickens.blockentity.BlockEntityTickTimer;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.phys.AABB;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Collects tick durations for the block entities inside one GameTest's bounds
+ * and checks their mean and 99th percentile against the limits in
+ * {@code chickens-gametest.properties}. Samples arrive through
+ * {@link BlockEntityTickTimer}; tests can add their own under a custom key.
+ *
+ * <p>A test that fails or times out never reaches its {@link #stop()} call, so
+ * every recorder also expires one tick after its test's timeout and is dropped
+ * by the next sample or the next {@link #start}, before it can pick up ticks
+ * from a later test built on the same spot.</p>
+ */
+final class TickCostRecorder {
+    private static final Logger LOGGER = LoggerFactory.getLogger("ChickensGameTest");
+    private static final String PROPERTY_PREFIX = "chickens.gametest.";
+    private static final Properties THRESHOLDS = loadThresholds();
+    private static final List<TickCostRecorder> ACTIVE = new CopyOnWriteArrayList<>();
+    private static final BlockEntityTickTimer.Listener DISPATCHER = TickCostRecorder::dispatch;
+
+    private final String testName;
+    private final AABB bounds;
+    private final long expiresAt;
+    private final Map<String, LongArrayList> samples = new TreeMap<>();
+
+    private TickCostRecorder(String testName, AABB bounds, long expiresAt) {
+        this.testName = testName;
+        this.bounds = bounds;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Starts recording every mod block entity tick inside the test's structure
+     * until {@link #stop()} or until the test's timeout has passed.
+     */
+    static TickCostRecorder start(GameTestHelper helper, String testName, int timeoutTicks) {
+        long now = helper.getLevel().getGameTime();
+        for (TickCostRecorder stale : ACTIVE) {
+            stale.stopIfExpired(now);
+        }
+        TickCostRecorder recorder = new TickCostRecorder(testName, helper.getBounds(), now + timeoutTicks + 1);
+        if (ACTIVE.isEmpty()) {
+            BlockEntityTickTimer.addListener(DISPATCHER);
+        }
+        ACTIVE.add(recorder);
+        return recorder;
+    }
+
+    private static void dispatch(BlockEntity blockEntity, long nanos) {
+        BlockPos pos = blockEntity.getBlockPos();
+        Level level = blockEntity.getLevel();
+        for (TickCostRecorder recorder : ACTIVE) {
+            if (level != null && recorder.stopIfExpired(level.getGameTime())) {
+                continue;
+            }
+            if (recorder.bounds.contains(pos.getX() + 0.5D, pos.getY() + 0.5D, pos.getZ() + 0.5D)) {
+                ResourceLocation type = BuiltInRegistries.BLOCK_ENTITY_TYPE.getKey(blockEntity.getType());
+                recorder.record(type != null ? type.getPath() : "unknown", nanos);
+            }
+        }
+    }
+
+    void record(String key, long nanos) {
+        samples.computeIfAbsent(key, ignored -> new LongArrayList()).add(nanos);
+    }
+
+    /** Stops recording; safe to call more than once. */
+    void stop() {
+        if (ACTIVE.remove(this) && ACTIVE.isEmpty()) {
+            BlockEntityTickTimer.removeListener(DISPATCHER);
+        }
+    }
+
+    private boolean stopIfExpired(long gameTime) {
+        if (gameTime <= expiresAt) {
+            return false;
+        }
+        LOGGER.warn("{}: test ended without stopping its tick cost recorder; dropping it", testName);
+        stop();
+        return true;
+    }
+
+    /**
+     * Logs the per-type summary and fails the test when any type exceeds its
+     * configured mean or p99. Call after {@link #stop()}.
+     */
+    void assertWithinThresholds(GameTestHelper helper) {
+        List<String> failures = new ArrayList<>();
+        for (Map.Entry<String, LongArrayList> entry : samples.entrySet()) {
+            String key = entry.getKey();
+            long[] values = entry.getValue().toLongArray();
+            Arrays.sort(values);
+            double meanMicros = mean(values) / 1000.0D;
+            double p99Micros = values[Math.min(values.length - 1, (int) Math.ceil(values.length * 0.99D) - 1)] / 1000.0D;
+            LOGGER.info("{}: {} n={} mean={}us p99={}us", testName, key, values.length,
+                    format(meanMicros), format(p99Micros));
+            check(failures, key, "mean", meanMicros);
+            check(failures, key, "p99", p99Micros);
+        }
+        if (!failures.isEmpty()) {
+            helper.fail(testName + " exceeded tick cost thresholds: " + String.join(", ", failures));
+        }
+    }
+
+    private static void check(List<String> failures, String key, String statistic, double micros) {
+        String limit = System.getProperty(PROPERTY_PREFIX + key + "." + statistic,
+                THRESHOLDS.getProperty(key + "." + statistic));
+        if (limit == null) {
+            return;
+        }
+        double scaled = Double.parseDouble(limit) * Double.parseDouble(System.getProperty(PROPERTY_PREFIX + "thresholdScale", "1.0"));
+        if (micros > scaled) {
+            failures.add(key + " " + statistic + " " + format(micros) + "us > " + format(scaled) + "us");
+        }
+    }
+
+    private static double mean(long[] values) {
+        double total = 0.0D;
+        for (long value : values) {
+            total += value;
+        }
+        return values.length == 0 ? 0.0D : total / values.length;
+    }
+
+    private static String format(double micros) {
+        return String.format(Locale.ROOT, "%.1f", micros);
+    }
+
+    private static Properties loadThresholds() {
+        Properties properties = new Properties();
+        try (InputStream stream = TickCostRecorder.class.getResourceAsStream("/chickens-gametest.properties")) {
+            if (stream != null) {
+                properties.load(stream);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return properties;
+    }
+}
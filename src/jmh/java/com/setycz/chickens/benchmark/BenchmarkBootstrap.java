@@ -0,0 +1,41 @@
+package com.setycz.chickens.benchmark;
+
+import com.setycz.chickens.item.ChickenItemData;
+import com.setycz.chickens.registry.ModDataComponents;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.MappedRegistry;
+import net.minecraft.core.Registry;
+import net.minecraft.core.component.DataComponentType;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.server.Bootstrap;
+
+/**
+ * Brings up just enough of the game for the benchmarks to run in a plain JVM:
+ * the vanilla bootstrap for items and data components, plus the mod's chicken
+ * component so {@link ModDataComponents#CHICKEN} resolves without the mod
+ * loader. Mod items and blocks stay unregistered, which is why the fixtures
+ * are built from vanilla items.
+ */
+public final class BenchmarkBootstrap {
+    private static boolean initialised;
+
+    private BenchmarkBootstrap() {
+    }
+
+    public static synchronized void init() {
+        if (initialised) {
+            return;
+        }
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        MappedRegistry<DataComponentType<?>> components =
+                (MappedRegistry<DataComponentType<?>>) BuiltInRegistries.DATA_COMPONENT_TYPE;
+        components.unfreeze();
+        Registry.register(components, ModDataComponents.CHICKEN.getId(), DataComponentType.<ChickenItemData>builder()
+                .persistent(ChickenItemData.CODEC)
+                .networkSynchronized(ChickenItemData.STREAM_CODEC)
+                .build());
+        components.freeze();
+        initialised = true;
+    }
+}
@@ -0,0 +1,111 @@
+package com.setycz.chickens.benchmark;
+
+import com.setycz.chickens.ChickensMod;
+import com.setycz.chickens.ChickensRegistry;
+import com.setycz.chickens.ChickensRegistryItem;
+import com.setycz.chickens.SpawnType;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Synthetic chicken registries shaped like the shipped one. The default and
+ * modded definitions lay liquid, flux and mod items that only exist once the
+ * mod loader has run, so the fixtures rebuild the same structure from vanilla
+ * items instead: roughly one in eight chickens is a spawnable tier-one base
+ * breed and every other chicken is bred from two earlier ones, giving the deep
+ * parent chains and shared parent pairs the real data has.
+ *
+ * <p>The chicken registry cannot be cleared, so each JVM may populate it once.
+ * JMH forks a fresh JVM per parameter set, which keeps sizes apart.</p>
+ */
+public final class ChickenFixtures {
+    public static final int FIRST_ID = 1000;
+    private static final SpawnType[] SPAWN_TYPES = { SpawnType.NORMAL, SpawnType.NORMAL, SpawnType.SNOW, SpawnType.HELL };
+
+    private static List<ChickensRegistryItem> populated;
+
+    private ChickenFixtures() {
+    }
+
+    /** Registers {@code size} chickens and returns them in id order. */
+    public static synchronized List<ChickensRegistryItem> populate(int size) {
+        if (populated != null) {
+            if (populated.size() != size) {
+                throw new IllegalStateException("Registry already holds " + populated.size() + " benchmark chickens");
+            }
+            return populated;
+        }
+        BenchmarkBootstrap.init();
+        List<Item> layItems = new ArrayList<>();
+        for (Item item : BuiltInRegistries.ITEM) {
+            if (item != Items.AIR) {
+                layItems.add(item);
+            }
+        }
+
+        Random random = new Random(size);
+        int roots = Math.max(size / 8, 2);
+        List<ChickensRegistryItem> chickens = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int id = FIRST_ID + i;
+            String name = "BenchChicken" + i;
+            ItemStack layItem = new ItemStack(layItems.get(i % layItems.size()));
+            ChickensRegistryItem chicken;
+            if (i < roots) {
+                chicken = new ChickensRegistryItem(id, name, texture(name), layItem, random.nextInt(), random.nextInt())
+                        .setSpawnType(SPAWN_TYPES[i % SPAWN_TYPES.length]);
+            } else {
+                // Favour recent chickens as parents so tiers keep climbing the way
+                // the shipped chains do instead of flattening out at tier two.
+                ChickensRegistryItem parent1 = chickens.get(recentIndex(random, i));
+                ChickensRegistryItem parent2 = chickens.get(random.nextInt(i));
+                chicken = new ChickensRegistryItem(id, name, texture(name), layItem, random.nextInt(), random.nextInt(),
+                        parent1, parent2).setSpawnType(SpawnType.NONE);
+            }
+            ChickensRegistry.register(chicken);
+            chickens.add(chicken);
+        }
+        ChickensRegistry.refreshSnapshot();
+        populated = List.copyOf(chickens);
+        return populated;
+    }
+
+    /**
+     * Parent pairs to look up, half taken from real children so the breeding
+     * table has an entry and half random so misses are measured too. The
+     * length is a power of two so callers can cycle with a mask.
+     */
+    public static ChickensRegistryItem[][] breedingPairs(List<ChickensRegistryItem> chickens, int count) {
+        if (Integer.bitCount(count) != 1) {
+            throw new IllegalArgumentException("count must be a power of two");
+        }
+        Random random = new Random(count);
+        ChickensRegistryItem[][] pairs = new ChickensRegistryItem[count][];
+        for (int i = 0; i < count; i++) {
+            ChickensRegistryItem child = chickens.get(random.nextInt(chickens.size()));
+            if (i % 2 == 0 && child.getParent1() != null && child.getParent2() != null) {
+                pairs[i] = new ChickensRegistryItem[] { child.getParent1(), child.getParent2() };
+            } else {
+                pairs[i] = new ChickensRegistryItem[] { child, chickens.get(random.nextInt(chickens.size())) };
+            }
+        }
+        return pairs;
+    }
+
+    private static int recentIndex(Random random, int bound) {
+        int window = Math.max(bound / 4, 1);
+        return bound - 1 - random.nextInt(window);
+    }
+
+    private static ResourceLocation texture(String name) {
+        return ResourceLocation.fromNamespaceAndPath(ChickensMod.MOD_ID, "textures/entity/" + name.toLowerCase(Locale.ROOT) + ".png");
+    }
+}
@@ -0,0 +1,78 @@
+package com.setycz.chickens.benchmark;
+
+import com.setycz.chickens.ChickensRegistryItem;
+import com.setycz.chickens.item.ChickenItemHelper;
+import com.setycz.chickens.item.ChickenStats;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chicken stack reads performed by every roost, breeder and tooltip. The
+ * stacks carry the chicken component on a vanilla item because the mod's own
+ * items are not registered outside the game; the helper never looks at the
+ * item itself.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChickenItemBenchmark {
+    private static final int STACKS = 256;
+
+    @Param({ "100", "500", "2000" })
+    public int chickens;
+
+    private ItemStack[] stacks;
+    private ItemStack plainStack;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<ChickensRegistryItem> items = ChickenFixtures.populate(chickens);
+        stacks = new ItemStack[STACKS];
+        for (int i = 0; i < STACKS; i++) {
+            ItemStack stack = new ItemStack(Items.EGG);
+            ChickenItemHelper.setChickenType(stack, items.get(i % items.size()).getId());
+            ChickenItemHelper.setStats(stack, new ChickenStats(1 + i % 10, 1 + i / 10 % 10, 1 + i / 100 % 10, i % 2 == 0));
+            stacks[i] = stack;
+        }
+        plainStack = new ItemStack(Items.EGG);
+    }
+
+    private ItemStack nextStack() {
+        cursor = (cursor + 1) & (STACKS - 1);
+        return stacks[cursor];
+    }
+
+    @Benchmark
+    public ChickenStats getStats() {
+        return ChickenItemHelper.getStats(nextStack());
+    }
+
+    @Benchmark
+    public int getChickenType() {
+        return ChickenItemHelper.getChickenType(nextStack());
+    }
+
+    @Benchmark
+    public ChickensRegistryItem resolve() {
+        return ChickenItemHelper.resolve(nextStack());
+    }
+
+    @Benchmark
+    public int getChickenTypeWithoutData() {
+        // Stacks without the component fall through to the legacy custom data probe.
+        return ChickenItemHelper.getChickenType(plainStack);
+    }
+}
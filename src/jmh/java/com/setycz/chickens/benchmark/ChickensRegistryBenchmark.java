@@ -0,0 +1,82 @@
+package com.setycz.chickens.benchmark;
+
+import com.setycz.chickens.ChickenBreedingCalculator;
+import com.setycz.chickens.ChickensRegistry;
+import com.setycz.chickens.ChickensRegistryItem;
+import com.setycz.chickens.ChickensRegistrySnapshot;
+import com.setycz.chickens.item.ChickenStats;
+import net.minecraft.util.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Breeding table and tier lookups as the entity, breeder and JEI plugin use
+ * them, plus the stat inheritance rolled for every bred chicken.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChickensRegistryBenchmark {
+    private static final int PAIRS = 1024;
+
+    @Param({ "100", "500", "2000" })
+    public int chickens;
+
+    private List<ChickensRegistryItem> items;
+    private ChickensRegistryItem[][] pairs;
+    private RandomSource random;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        items = ChickenFixtures.populate(chickens);
+        pairs = ChickenFixtures.breedingPairs(items, PAIRS);
+        random = RandomSource.create(42L);
+    }
+
+    private ChickensRegistryItem[] nextPair() {
+        cursor = (cursor + 1) & (PAIRS - 1);
+        return pairs[cursor];
+    }
+
+    @Benchmark
+    public ChickensRegistrySnapshot.BreedingOutcome getChildren() {
+        ChickensRegistryItem[] pair = nextPair();
+        return ChickensRegistry.snapshot().getOutcome(pair[0], pair[1]);
+    }
+
+    @Benchmark
+    public ChickensRegistryItem getRandomChild() {
+        ChickensRegistryItem[] pair = nextPair();
+        return ChickensRegistry.getRandomChild(pair[0], pair[1]);
+    }
+
+    @Benchmark
+    public int getTier() {
+        return nextPair()[0].getTier();
+    }
+
+    @Benchmark
+    public ChickenBreedingCalculator.Offspring breed() {
+        ChickensRegistryItem[] pair = nextPair();
+        return ChickenBreedingCalculator.breed(pair[0], ChickenStats.DEFAULT, pair[1], ChickenStats.DEFAULT, random);
+    }
+
+    @Benchmark
+    public ChickenStats inheritMutatedStats() {
+        // Same-breed parents producing their own breed take the weighted mutation path.
+        ChickensRegistryItem chicken = nextPair()[0];
+        return ChickenBreedingCalculator.childStats(chicken, new ChickenStats(4, 6, 3, true), chicken,
+                new ChickenStats(7, 2, 5, false), chicken, random);
+    }
+}
@@ -0,0 +1,85 @@
+package com.setycz.chickens.benchmark;
+
+import com.setycz.chickens.integration.kubejs.MachineRecipeRegistry;
+import com.setycz.chickens.integration.kubejs.MachineRecipeRegistry.DousingRecipe;
+import com.setycz.chickens.integration.kubejs.MachineRecipeRegistry.DousingType;
+import com.setycz.chickens.integration.kubejs.MachineRecipeRegistry.FluidConverterRecipe;
+import net.minecraft.resources.ResourceLocation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KubeJS machine recipe lookups made by the dousing machine and converters
+ * each time their input changes. One dousing recipe is registered per chicken
+ * and reagent, which is the upper end of what packs script.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MachineRecipeBenchmark {
+    private static final int REAGENTS = 8;
+    private static final int LOOKUPS = 1024;
+
+    @Param({ "100", "500", "2000" })
+    public int chickens;
+
+    private final ResourceLocation[] reagents = new ResourceLocation[REAGENTS];
+    private int[] inputIds;
+    private ResourceLocation[] inputReagents;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        MachineRecipeRegistry.clear();
+        for (int i = 0; i < REAGENTS; i++) {
+            reagents[i] = ResourceLocation.fromNamespaceAndPath("bench", "fluid_" + i);
+            MachineRecipeRegistry.addFluidConverterRecipe(new FluidConverterRecipe(reagents[i],
+                    ResourceLocation.fromNamespaceAndPath("bench", "converted_" + i), 100));
+        }
+        for (int i = 0; i < chickens; i++) {
+            int input = ChickenFixtures.FIRST_ID + i;
+            MachineRecipeRegistry.addDousingRecipe(new DousingRecipe(input, input + chickens, DousingType.FLUID,
+                    reagents[i % REAGENTS], 1000, 2000));
+        }
+        MachineRecipeRegistry.freeze();
+
+        // Every other lookup targets a chicken with no recipe.
+        inputIds = new int[LOOKUPS];
+        inputReagents = new ResourceLocation[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            int chicken = i % 2 == 0 ? i % chickens : chickens + i;
+            inputIds[i] = ChickenFixtures.FIRST_ID + chicken;
+            inputReagents[i] = reagents[chicken % REAGENTS];
+        }
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (LOOKUPS - 1);
+        return cursor;
+    }
+
+    @Benchmark
+    public DousingRecipe findDousingRecipe() {
+        int i = next();
+        return MachineRecipeRegistry.findDousingRecipe(DousingType.FLUID, inputIds[i], inputReagents[i]);
+    }
+
+    @Benchmark
+    public boolean hasDousingRecipeForInput() {
+        return MachineRecipeRegistry.hasDousingRecipeForInput(inputIds[next()]);
+    }
+
+    @Benchmark
+    public FluidConverterRecipe findFluidConverterRecipe() {
+        return MachineRecipeRegistry.findFluidConverterRecipe(reagents[next() % REAGENTS]);
+    }
+}
@@ -0,0 +1,94 @@
+package com.setycz.chickens.blockentity;
+
+import net.minecraft.core.BlockPos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Synthetic collector scan over a farm of chicken containers, without a
+ * level. {@link #indexedScan} walks the section buckets the event-driven
+ * collector rebuilds its queue from; {@link #cubeSweep} probes every block of
+ * the scan cube the way the legacy sweep does, with a map lookup standing in
+ * for {@code Level.getBlockEntity}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CollectorScanBenchmark {
+    private static final int COLLECTORS = 64;
+
+    @Param({ "100", "500", "2000" })
+    public int containers;
+
+    @Param({ "4", "16" })
+    public int range;
+
+    private final SectionBuckets<BlockPos> index = new SectionBuckets<>();
+    private final Map<BlockPos, BlockPos> blockEntities = new HashMap<>();
+    private final BlockPos[] collectors = new BlockPos[COLLECTORS];
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // Roost walls: columns of containers stacked four high, packed into a
+        // square footprint sized so density stays similar across farm sizes.
+        Random random = new Random(containers);
+        int side = Math.max((int) Math.ceil(Math.sqrt(containers / 4.0D)) * 2, 2);
+        for (int placed = 0; placed < containers; ) {
+            BlockPos pos = new BlockPos(random.nextInt(side), 64 + random.nextInt(4), random.nextInt(side));
+            if (blockEntities.putIfAbsent(pos, pos) == null) {
+                index.add(pos, pos);
+                placed++;
+            }
+        }
+        for (int i = 0; i < COLLECTORS; i++) {
+            collectors[i] = new BlockPos(random.nextInt(side), 65, random.nextInt(side));
+        }
+    }
+
+    private BlockPos nextCollector() {
+        cursor = (cursor + 1) & (COLLECTORS - 1);
+        return collectors[cursor];
+    }
+
+    @Benchmark
+    public void indexedScan(Blackhole blackhole) {
+        BlockPos center = nextCollector();
+        index.forEachInRange(center, range, pos -> {
+            if (Math.abs(pos.getX() - center.getX()) <= range
+                    && Math.abs(pos.getY() - center.getY()) <= range
+                    && Math.abs(pos.getZ() - center.getZ()) <= range) {
+                blackhole.consume(pos);
+            }
+        });
+    }
+
+    @Benchmark
+    public void cubeSweep(Blackhole blackhole) {
+        BlockPos center = nextCollector();
+        BlockPos.MutableBlockPos probe = new BlockPos.MutableBlockPos();
+        for (int x = -range; x <= range; x++) {
+            for (int y = -range; y <= range; y++) {
+                for (int z = -range; z <= range; z++) {
+                    BlockPos found = blockEntities.get(probe.setWithOffset(center, x, y, z));
+                    if (found != null) {
+                        blackhole.consume(found);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.setycz.chickens;
+
+import com.setycz.chickens.item.ChickenStats;
+import net.minecraft.util.RandomSource;
+
+import javax.annotation.Nullable;
+
+/**
+ * Side-effect-free version of the legacy breeding rules. Picks the child from
+ * the registry's breeding table and derives its stats from the parents:
+ * breeding two chickens of the same kind into that kind mutates the stats
+ * upwards, a child matching one parent copies that parent, and anything new
+ * starts from the default stats. Shared by the chicken entity and the breeder
+ * so neither has to construct entities just to learn the outcome.
+ */
+public final class ChickenBreedingCalculator {
+    private static final int MIN_STAT = 1;
+    private static final int MAX_STAT = 10;
+
+    private ChickenBreedingCalculator() {
+    }
+
+    /**
+     * Rolls an offspring for the two parents, or returns {@code null} when the
+     * pair cannot produce any enabled chicken.
+     */
+    @Nullable
+    public static Offspring breed(ChickensRegistryItem parent1, ChickenStats stats1,
+            ChickensRegistryItem parent2, ChickenStats stats2, RandomSource random) {
+        ChickensRegistrySnapshot.BreedingOutcome outcome = ChickensRegistry.snapshot().getOutcome(parent1, parent2);
+        if (outcome.getTotalWeight() <= 0) {
+            return null;
+        }
+        ChickensRegistryItem child = outcome.pick(random.nextInt(outcome.getTotalWeight()));
+        if (child == null) {
+            return null;
+        }
+        return new Offspring(child, childStats(parent1, stats1, parent2, stats2, child, random));
+    }
+
+    /**
+     * Stats a child of the given type receives from its parents. The result is
+     * never marked as analysed.
+     */
+    public static ChickenStats childStats(ChickensRegistryItem parent1, ChickenStats stats1,
+            ChickensRegistryItem parent2, ChickenStats stats2, ChickensRegistryItem child, RandomSource random) {
+        boolean mutating = parent1.getId() == parent2.getId() && child.getId() == parent1.getId();
+        if (mutating) {
+            int strength1 = stats1.strength();
+            int strength2 = stats2.strength();
+            // Keep the legacy roll order (growth, gain, strength) so seeded runs match the entity.
+            int growth = calculateNewStat(strength1, strength2, stats1.growth(), stats2.growth(), random);
+            int gain = calculateNewStat(strength1, strength2, stats1.gain(), stats2.gain(), random);
+            int strength = calculateNewStat(strength1, strength2, strength1, strength2, random);
+            return new ChickenStats(growth, gain, strength, false);
+        }
+        if (parent1.getId() == child.getId()) {
+            return new ChickenStats(stats1.growth(), stats1.gain(), stats1.strength(), false);
+        }
+        if (parent2.getId() == child.getId()) {
+            return new ChickenStats(stats2.growth(), stats2.gain(), stats2.strength(), false);
+        }
+        return ChickenStats.DEFAULT;
+    }
+
+    /**
+     * Strength-weighted average of the parents' stat plus a mutation of one or
+     * two points, clamped to the valid stat range.
+     */
+    public static int calculateNewStat(int strength1, int strength2, int stat1, int stat2, RandomSource random) {
+        int mutation = random.nextInt(2) + 1;
+        int weighted = (stat1 * strength1 + stat2 * strength2) / Math.max(strength1 + strength2, 1);
+        int value = weighted + mutation;
+        if (value <= MIN_STAT) {
+            return MIN_STAT;
+        }
+        if (value >= MAX_STAT) {
+            return MAX_STAT;
+        }
+        return value;
+    }
+
+    public record Offspring(ChickensRegistryItem chicken, ChickenStats stats) {
+    }
+}
@@ -1,5 +1,8 @@
 package com.setycz.chickens;
 
+import com.setycz.chickens.blockentity.ChickenContainerIndex;
+import com.setycz.chickens.blockentity.HenhouseIndex;
+import com.setycz.chickens.blockentity.RoosterAuraField;
 import com.setycz.chickens.command.ChickensCommands;
 import com.setycz.chickens.ChickensRegistry;
 import com.setycz.chickens.data.ChickensDataLoader;
@@ -7,6 +10,7 @@ import com.setycz.chickens.data.BreedingGraphExporter;
 import com.setycz.chickens.RoostEggPreventer;
 import com.setycz.chickens.entity.NetherPopulationHandler;
 import com.setycz.chickens.registry.ModRegistry;
+import com.setycz.chickens.perf.ChickensProfiler;
 import com.setycz.chickens.data.ChickenItemModelProvider;
 import com.setycz.chickens.spawn.SpawnPlanDataLoader;
 import com.setycz.chickens.spawn.ChickensSpawnManager;
@@ -38,6 +42,10 @@ public final class ChickensMod {
         NetherPopulationHandler.init();
         OverworldPopulationHandler.init();
         RoostEggPreventer.init();
+        ChickenContainerIndex.init();
+        HenhouseIndex.init();
+        RoosterAuraField.init();
+        ChickensProfiler.init();
         NeoForge.EVENT_BUS.addListener(ChickensDataLoader::onTagsUpdated);
         NeoForge.EVENT_BUS.addListener(SpawnPlanDataLoader::onAddReloadListeners);
         NeoForge.EVENT_BUS.addListener(this::onServerAboutToStart);
@@ -67,6 +75,7 @@ public final class ChickensMod {
             LOGGER.error("Failed to resolve KubeJS chicken parents", e);
         }
         // Refresh spawn tables and export the breeding graph once KubeJS chickens are registered.
+        ChickensRegistry.refreshSnapshot();
         ChickensSpawnManager.refreshFromRegistry();
         BreedingGraphExporter.export(ChickensRegistry.getItems());
     }
@@ -7,16 +7,25 @@ import net.neoforged.neoforge.common.Tags;
 
 import javax.annotation.Nullable;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Central registry that keeps track of every chicken descriptor. Mirrors
  * the responsibilities of the legacy implementation but upgrades the
  * biome logic to make use of modern tag helpers.
+ *
+ * <p>Read paths go through an immutable {@link ChickensRegistrySnapshot}.
+ * Registration and any change to a chicken's parents, tier, lay item or
+ * enabled flag bump the registry version; the snapshot is rebuilt eagerly at
+ * the known load points and lazily on the first read after any other change.</p>
  */
 public final class ChickensRegistry {
     private static final Map<Integer, ChickensRegistryItem> ITEMS = new HashMap<>();
+    private static final Map<String, ChickensRegistryItem> NAMES = new HashMap<>();
     public static final int SMART_CHICKEN_ID = 50;
     private static final Random RAND = new Random();
+    private static final AtomicInteger VERSION = new AtomicInteger();
+    private static volatile ChickensRegistrySnapshot snapshot = ChickensRegistrySnapshot.EMPTY;
 
     private ChickensRegistry() {
     }
@@ -24,70 +33,83 @@ public final class ChickensRegistry {
     public static void register(ChickensRegistryItem entity) {
         validate(entity);
         ITEMS.put(entity.getId(), entity);
+        NAMES.put(entity.getEntityName().toLowerCase(Locale.ROOT), entity);
+        markDirty();
+    }
+
+    /**
+     * Invalidates the current snapshot. Called by the registry and by the
+     * {@link ChickensRegistryItem} setters that affect tiers, breeding or lays.
+     */
+    static void markDirty() {
+        VERSION.incrementAndGet();
+    }
+
+    /** Current registry version; consumers can key their own caches on it. */
+    public static int getVersion() {
+        return VERSION.get();
+    }
+
+    /**
+     * Returns a snapshot matching the current registry version, rebuilding it
+     * if a registration or chicken change happened since the last build.
+     */
+    public static ChickensRegistrySnapshot snapshot() {
+        ChickensRegistrySnapshot current = snapshot;
+        if (current.getVersion() == VERSION.get()) {
+            return current;
+        }
+        return rebuildSnapshot();
+    }
+
+    /**
+     * Rebuilds the snapshot now rather than on the next read. Invoked once
+     * bootstrap, KubeJS registration or a data reload has settled.
+     */
+    public static void refreshSnapshot() {
+        snapshot();
+    }
+
+    private static synchronized ChickensRegistrySnapshot rebuildSnapshot() {
+        int version = VERSION.get();
+        ChickensRegistrySnapshot current = snapshot;
+        if (current.getVersion() == version) {
+            return current;
+        }
+        // A change racing with the build leaves the snapshot one version behind,
+        // so the next read simply rebuilds again.
+        ChickensRegistrySnapshot rebuilt = new ChickensRegistrySnapshot(version, ITEMS.values());
+        snapshot = rebuilt;
+        return rebuilt;
     }
 
     private static void validate(ChickensRegistryItem entity) {
-        for (ChickensRegistryItem item : ITEMS.values()) {
-            if (entity.getId() == item.getId()) {
-                throw new IllegalStateException("Duplicate chicken id " + entity.getId());
-            }
-            if (entity.getEntityName().equalsIgnoreCase(item.getEntityName())) {
-                throw new IllegalStateException("Duplicate chicken name " + entity.getEntityName());
-            }
+        if (ITEMS.containsKey(entity.getId())) {
+            throw new IllegalStateException("Duplicate chicken id " + entity.getId());
+        }
+        if (NAMES.containsKey(entity.getEntityName().toLowerCase(Locale.ROOT))) {
+            throw new IllegalStateException("Duplicate chicken name " + entity.getEntityName());
         }
     }
 
+    // Id and name lookups read the live maps so registration loops that look up
+    // freshly added chickens do not force a snapshot rebuild per entry.
     public static ChickensRegistryItem getByType(int type) {
         return ITEMS.get(type);
     }
 
     @Nullable
     public static ChickensRegistryItem getByEntityName(String name) {
-        if (name == null) {
-            return null;
-        }
-        for (ChickensRegistryItem item : ITEMS.values()) {
-            if (item.getEntityName().equalsIgnoreCase(name)) {
-                return item;
-            }
-        }
-        return null;
+        return name == null ? null : NAMES.get(name.toLowerCase(Locale.ROOT));
     }
 
+    /** Enabled chickens as an immutable list shared until the next registry change. */
     public static Collection<ChickensRegistryItem> getItems() {
-        List<ChickensRegistryItem> result = new ArrayList<>();
-        for (ChickensRegistryItem chicken : ITEMS.values()) {
-            if (chicken.isEnabled()) {
-                result.add(chicken);
-            }
-        }
-        return result;
+        return snapshot().getItems();
     }
 
     public static Collection<ChickensRegistryItem> getDisabledItems() {
-        List<ChickensRegistryItem> result = new ArrayList<>();
-        for (ChickensRegistryItem chicken : ITEMS.values()) {
-            if (!chicken.isEnabled()) {
-                result.add(chicken);
-            }
-        }
-        return result;
-    }
-
-    private static List<ChickensRegistryItem> getChildren(ChickensRegistryItem parent1, ChickensRegistryItem parent2) {
-        List<ChickensRegistryItem> result = new ArrayList<>();
-        if (parent1.isEnabled()) {
-            result.add(parent1);
-        }
-        if (parent2.isEnabled()) {
-            result.add(parent2);
-        }
-        for (ChickensRegistryItem item : ITEMS.values()) {
-            if (item.isEnabled() && item.isChildOf(parent1, parent2)) {
-                result.add(item);
-            }
-        }
-        return result;
+        return snapshot().getDisabledItems();
     }
 
     @Nullable
@@ -112,8 +134,8 @@ public final class ChickensRegistry {
 
     public static List<ChickensRegistryItem> getPossibleChickensToSpawn(SpawnType spawnType) {
         List<ChickensRegistryItem> result = new ArrayList<>();
-        for (ChickensRegistryItem chicken : ITEMS.values()) {
-            if (chicken.canSpawn() && chicken.getSpawnType() == spawnType && chicken.isEnabled()) {
+        for (ChickensRegistryItem chicken : snapshot().getItems()) {
+            if (chicken.canSpawn() && chicken.getSpawnType() == spawnType) {
                 result.add(chicken);
             }
         }
@@ -137,55 +159,17 @@ public final class ChickensRegistry {
         if (child.getTier() <= 1) {
             return 0;
         }
-        List<ChickensRegistryItem> possibleChildren = getChildren(child.getParent1(), child.getParent2());
-        int maxChance = getMaxChance(possibleChildren);
-        int maxDiceValue = getMaxDiceValue(possibleChildren, maxChance);
-        return ((maxChance - child.getTier()) * 100.0f) / maxDiceValue;
+        return snapshot().getOutcome(child.getParent1(), child.getParent2()).getChancePercent(child.getTier());
     }
 
     @Nullable
     public static ChickensRegistryItem getRandomChild(ChickensRegistryItem parent1, ChickensRegistryItem parent2) {
-        List<ChickensRegistryItem> possibleChildren = getChildren(parent1, parent2);
-        if (possibleChildren.isEmpty()) {
-            return null;
-        }
-        int maxChance = getMaxChance(possibleChildren);
-        int maxDiceValue = getMaxDiceValue(possibleChildren, maxChance);
-        int diceValue = RAND.nextInt(maxDiceValue);
-        return getChickenToBeBorn(possibleChildren, maxChance, diceValue);
-    }
-
-    @Nullable
-    private static ChickensRegistryItem getChickenToBeBorn(List<ChickensRegistryItem> possibleChildren, int maxChance, int diceValue) {
-        int currentValue = 0;
-        for (ChickensRegistryItem child : possibleChildren) {
-            currentValue += maxChance - child.getTier();
-            if (diceValue < currentValue) {
-                return child;
-            }
-        }
-        return null;
-    }
-
-    private static int getMaxDiceValue(List<ChickensRegistryItem> possibleChildren, int maxChance) {
-        int maxDiceValue = 0;
-        for (ChickensRegistryItem child : possibleChildren) {
-            maxDiceValue += maxChance - child.getTier();
-        }
-        return maxDiceValue;
-    }
-
-    private static int getMaxChance(List<ChickensRegistryItem> possibleChildren) {
-        int maxChance = 0;
-        for (ChickensRegistryItem child : possibleChildren) {
-            maxChance = Math.max(maxChance, child.getTier());
-        }
-        return maxChance + 1;
+        return snapshot().getOutcome(parent1, parent2).pick(RAND);
     }
 
     public static boolean isAnyIn(SpawnType spawnType) {
-        for (ChickensRegistryItem chicken : ITEMS.values()) {
-            if (chicken.canSpawn() && chicken.isEnabled() && chicken.getSpawnType() == spawnType) {
+        for (ChickensRegistryItem chicken : snapshot().getItems()) {
+            if (chicken.canSpawn() && chicken.getSpawnType() == spawnType) {
                 return true;
             }
         }
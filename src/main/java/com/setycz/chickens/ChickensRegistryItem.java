@@ -97,6 +97,7 @@ public class ChickensRegistryItem {
 
     public ChickensRegistryItem setTierOverride(int tier) {
         tierOverride = Math.max(1, tier);
+        ChickensRegistry.markDirty();
         return this;
     }
 
@@ -153,13 +154,22 @@ public class ChickensRegistryItem {
     }
 
     public int getTier() {
+        return ChickensRegistry.snapshot().getTier(this);
+    }
+
+    /**
+     * Resolves the tier by walking the parents without consulting the
+     * registry snapshot. Used for chickens that are not part of it and while
+     * the snapshot itself is being built.
+     */
+    int computeTier() {
         if (tierOverride > 0) {
             return tierOverride;
         }
         if (parent1 == null || parent2 == null) {
             return 1;
         }
-        return Math.max(parent1.getTier(), parent2.getTier()) + 1;
+        return Math.max(parent1.computeTier(), parent2.computeTier()) + 1;
     }
 
     public boolean isChildOf(ChickensRegistryItem possibleParent1, ChickensRegistryItem possibleParent2) {
@@ -221,24 +231,42 @@ public class ChickensRegistryItem {
 
     public void setEnabled(boolean value) {
         enabled = value;
+        ChickensRegistry.markDirty();
     }
 
     public boolean isEnabled() {
-        return enabled && (parent1 == null || parent1.isEnabled()) && (parent2 == null || parent2.isEnabled());
+        return ChickensRegistry.snapshot().isEnabled(this);
+    }
+
+    boolean computeEnabled() {
+        return enabled && (parent1 == null || parent1.computeEnabled())
+                && (parent2 == null || parent2.computeEnabled());
+    }
+
+    /** Own enabled flag, ignoring the parents. */
+    boolean isEnabledFlag() {
+        return enabled;
+    }
+
+    int getTierOverride() {
+        return tierOverride;
     }
 
     public void setLayItem(ItemStack itemStack) {
         layItem = itemStack.copy();
+        ChickensRegistry.markDirty();
     }
 
     public void setNoParents() {
         parent1 = null;
         parent2 = null;
+        ChickensRegistry.markDirty();
     }
 
     public ChickensRegistryItem setParentsNew(ChickensRegistryItem newParent1, ChickensRegistryItem newParent2) {
         parent1 = newParent1;
         parent2 = newParent2;
+        ChickensRegistry.markDirty();
         return this;
     }
 
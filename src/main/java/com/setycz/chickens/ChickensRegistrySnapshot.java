@@ -0,0 +1,258 @@
+package com.setycz.chickens;
+
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Immutable view of {@link ChickensRegistry} taken at a given registry
+ * version. Tiers and enabled flags are resolved once into arrays indexed by a
+ * dense per-snapshot slot (chicken ids are sparse, with dynamic chickens in
+ * the millions), and every parent pair that can breed something maps to a
+ * precomputed weighted outcome, so breeding no longer walks the registry.
+ */
+public final class ChickensRegistrySnapshot {
+    static final ChickensRegistrySnapshot EMPTY = new ChickensRegistrySnapshot(-1, List.of());
+
+    private final int version;
+    private final ChickensRegistryItem[] items;
+    private final Int2IntMap slotById = new Int2IntOpenHashMap();
+    private final Map<String, ChickensRegistryItem> byName = new HashMap<>();
+    private final int[] tiers;
+    private final boolean[] enabled;
+    private final List<ChickensRegistryItem> enabledItems;
+    private final List<ChickensRegistryItem> disabledItems;
+    private final Long2ObjectMap<BreedingOutcome> outcomes = new Long2ObjectOpenHashMap<>();
+
+    ChickensRegistrySnapshot(int version, Collection<ChickensRegistryItem> registered) {
+        this.version = version;
+        this.items = registered.toArray(new ChickensRegistryItem[0]);
+        this.tiers = new int[items.length];
+        this.enabled = new boolean[items.length];
+        slotById.defaultReturnValue(-1);
+        for (int slot = 0; slot < items.length; slot++) {
+            slotById.put(items[slot].getId(), slot);
+            byName.put(items[slot].getEntityName().toLowerCase(Locale.ROOT), items[slot]);
+        }
+
+        // Resolve every tier and enabled flag up front; parents are memoised so
+        // deep dynamic chains cost one visit per chicken instead of a recursion per call.
+        byte[] state = new byte[items.length];
+        for (int slot = 0; slot < items.length; slot++) {
+            resolve(slot, state);
+        }
+
+        List<ChickensRegistryItem> on = new ArrayList<>();
+        List<ChickensRegistryItem> off = new ArrayList<>();
+        Long2ObjectMap<List<ChickensRegistryItem>> childrenByPair = new Long2ObjectOpenHashMap<>();
+        for (int slot = 0; slot < items.length; slot++) {
+            ChickensRegistryItem item = items[slot];
+            if (!enabled[slot]) {
+                off.add(item);
+                continue;
+            }
+            on.add(item);
+            ChickensRegistryItem parent1 = item.getParent1();
+            ChickensRegistryItem parent2 = item.getParent2();
+            if (parent1 != null && parent2 != null) {
+                childrenByPair.computeIfAbsent(pairKey(parent1, parent2), ignored -> new ArrayList<>()).add(item);
+            }
+        }
+        this.enabledItems = List.copyOf(on);
+        this.disabledItems = List.copyOf(off);
+
+        for (Long2ObjectMap.Entry<List<ChickensRegistryItem>> entry : childrenByPair.long2ObjectEntrySet()) {
+            ChickensRegistryItem child = entry.getValue().get(0);
+            outcomes.put(entry.getLongKey(), createOutcome(child.getParent1(), child.getParent2(), entry.getValue()));
+        }
+    }
+
+    /** Registry version this snapshot was built from. */
+    public int getVersion() {
+        return version;
+    }
+
+    @Nullable
+    public ChickensRegistryItem getByType(int type) {
+        int slot = slotById.get(type);
+        return slot < 0 ? null : items[slot];
+    }
+
+    @Nullable
+    public ChickensRegistryItem getByEntityName(String name) {
+        return name == null ? null : byName.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    public List<ChickensRegistryItem> getItems() {
+        return enabledItems;
+    }
+
+    public List<ChickensRegistryItem> getDisabledItems() {
+        return disabledItems;
+    }
+
+    public int getTier(ChickensRegistryItem item) {
+        int slot = slotOf(item);
+        return slot < 0 ? item.computeTier() : tiers[slot];
+    }
+
+    public boolean isEnabled(ChickensRegistryItem item) {
+        int slot = slotOf(item);
+        return slot < 0 ? item.computeEnabled() : enabled[slot];
+    }
+
+    /**
+     * Returns the weighted candidates two parents can produce: the enabled
+     * parents themselves followed by every enabled child of the pair. Pairs
+     * without registered children are answered without touching the table.
+     */
+    public BreedingOutcome getOutcome(ChickensRegistryItem parent1, ChickensRegistryItem parent2) {
+        BreedingOutcome outcome = outcomes.get(pairKey(parent1, parent2));
+        return outcome != null ? outcome : createOutcome(parent1, parent2, List.of());
+    }
+
+    private int slotOf(ChickensRegistryItem item) {
+        int slot = slotById.get(item.getId());
+        return slot >= 0 && items[slot] == item ? slot : -1;
+    }
+
+    private void resolve(int slot, byte[] state) {
+        if (state[slot] != 0) {
+            // Already resolved, or a parent cycle; the cycle member keeps its own flag and tier 1.
+            return;
+        }
+        state[slot] = 1;
+        ChickensRegistryItem item = items[slot];
+        ChickensRegistryItem parent1 = item.getParent1();
+        ChickensRegistryItem parent2 = item.getParent2();
+        int tier = 1;
+        boolean active = item.isEnabledFlag();
+        if (parent1 != null && parent2 != null) {
+            int parentTier = Math.max(resolveTier(parent1, state), resolveTier(parent2, state));
+            tier = parentTier + 1;
+        }
+        if (parent1 != null) {
+            active &= resolveEnabled(parent1, state);
+        }
+        if (parent2 != null) {
+            active &= resolveEnabled(parent2, state);
+        }
+        tiers[slot] = item.getTierOverride() > 0 ? item.getTierOverride() : tier;
+        enabled[slot] = active;
+        state[slot] = 2;
+    }
+
+    private int resolveTier(ChickensRegistryItem parent, byte[] state) {
+        int slot = slotOf(parent);
+        if (slot < 0) {
+            return parent.computeTier();
+        }
+        resolve(slot, state);
+        return state[slot] == 2 ? tiers[slot] : 1;
+    }
+
+    private boolean resolveEnabled(ChickensRegistryItem parent, byte[] state) {
+        int slot = slotOf(parent);
+        if (slot < 0) {
+            return parent.computeEnabled();
+        }
+        resolve(slot, state);
+        return state[slot] == 2 ? enabled[slot] : parent.isEnabledFlag();
+    }
+
+    private BreedingOutcome createOutcome(ChickensRegistryItem parent1, ChickensRegistryItem parent2,
+            List<ChickensRegistryItem> children) {
+        List<ChickensRegistryItem> candidates = new ArrayList<>(children.size() + 2);
+        if (isEnabled(parent1)) {
+            candidates.add(parent1);
+        }
+        if (isEnabled(parent2)) {
+            candidates.add(parent2);
+        }
+        candidates.addAll(children);
+        return new BreedingOutcome(this, candidates);
+    }
+
+    private static long pairKey(ChickensRegistryItem parent1, ChickensRegistryItem parent2) {
+        int low = Math.min(parent1.getId(), parent2.getId());
+        int high = Math.max(parent1.getId(), parent2.getId());
+        return ((long) low << 32) | (high & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Candidates of one parent pair with the legacy dice weights baked in:
+     * each entry weighs {@code maxChance - tier}, where {@code maxChance} is
+     * one above the highest candidate tier.
+     */
+    public static final class BreedingOutcome {
+        private final ChickensRegistryItem[] candidates;
+        private final int[] tiers;
+        private final int[] cumulativeWeights;
+        private final int maxChance;
+        private final int totalWeight;
+
+        private BreedingOutcome(ChickensRegistrySnapshot snapshot, List<ChickensRegistryItem> candidates) {
+            this.candidates = candidates.toArray(new ChickensRegistryItem[0]);
+            this.tiers = new int[this.candidates.length];
+            int highest = 0;
+            for (int i = 0; i < this.candidates.length; i++) {
+                tiers[i] = snapshot.getTier(this.candidates[i]);
+                highest = Math.max(highest, tiers[i]);
+            }
+            this.maxChance = highest + 1;
+            this.cumulativeWeights = new int[this.candidates.length];
+            int running = 0;
+            for (int i = 0; i < this.candidates.length; i++) {
+                running += maxChance - tiers[i];
+                cumulativeWeights[i] = running;
+            }
+            this.totalWeight = running;
+        }
+
+        public boolean isEmpty() {
+            return candidates.length == 0;
+        }
+
+        public int getMaxChance() {
+            return maxChance;
+        }
+
+        public int getTotalWeight() {
+            return totalWeight;
+        }
+
+        /** Percentage chance that this pair produces a chicken of the given tier. */
+        public float getChancePercent(int tier) {
+            return totalWeight <= 0 ? 0 : ((maxChance - tier) * 100.0f) / totalWeight;
+        }
+
+        @Nullable
+        public ChickensRegistryItem pick(Random random) {
+            if (totalWeight <= 0) {
+                return null;
+            }
+            return pick(random.nextInt(totalWeight));
+        }
+
+        /** Maps a dice value in {@code [0, totalWeight)} onto its candidate. */
+        @Nullable
+        public ChickensRegistryItem pick(int diceValue) {
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (diceValue < cumulativeWeights[i]) {
+                    return candidates[i];
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.setycz.chickens.ChemicalEggRegistry;
 import com.setycz.chickens.ChemicalEggRegistryItem;
 import com.setycz.chickens.GasEggRegistry;
 import com.setycz.chickens.blockentity.AvianChemicalConverterBlockEntity;
+import com.setycz.chickens.blockentity.BlockEntityTickTimer;
 import com.setycz.chickens.config.ChickensConfigHolder;
 import com.setycz.chickens.registry.ModBlockEntities;
 import net.minecraft.core.BlockPos;
@@ -94,7 +95,7 @@ public class AvianChemicalConverterBlock extends HorizontalDirectionalBlock impl
         if (type != ModBlockEntities.AVIAN_CHEMICAL_CONVERTER.get()) {
             return null;
         }
-        return (BlockEntityTicker<T>) AvianChemicalConverterBlockEntity.serverTicker();
+        return BlockEntityTickTimer.timed((BlockEntityTicker<T>) AvianChemicalConverterBlockEntity.serverTicker());
     }
 
     @Override
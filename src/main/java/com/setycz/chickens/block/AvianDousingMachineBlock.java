@@ -2,6 +2,7 @@ package com.setycz.chickens.block;
 
 import com.mojang.serialization.MapCodec;
 import com.setycz.chickens.blockentity.AvianDousingMachineBlockEntity;
+import com.setycz.chickens.blockentity.BlockEntityTickTimer;
 import com.setycz.chickens.registry.ModBlockEntities;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -85,7 +86,7 @@ public class AvianDousingMachineBlock extends HorizontalDirectionalBlock impleme
         if (type != ModBlockEntities.AVIAN_DOUSING_MACHINE.get()) {
             return null;
         }
-        return (BlockEntityTicker<T>) AvianDousingMachineBlockEntity.serverTicker();
+        return BlockEntityTickTimer.timed((BlockEntityTicker<T>) AvianDousingMachineBlockEntity.serverTicker());
     }
 
     @Override
@@ -2,6 +2,7 @@ package com.setycz.chickens.block;
 
 import com.mojang.serialization.MapCodec;
 import com.setycz.chickens.blockentity.AvianFluidConverterBlockEntity;
+import com.setycz.chickens.blockentity.BlockEntityTickTimer;
 import com.setycz.chickens.config.ChickensConfigHolder;
 import com.setycz.chickens.registry.ModBlockEntities;
 import net.minecraft.core.BlockPos;
@@ -95,7 +96,7 @@ public class AvianFluidConverterBlock extends HorizontalDirectionalBlock impleme
         if (type != ModBlockEntities.AVIAN_FLUID_CONVERTER.get()) {
             return null;
         }
-        return (BlockEntityTicker<T>) AvianFluidConverterBlockEntity.serverTicker();
+        return BlockEntityTickTimer.timed((BlockEntityTicker<T>) AvianFluidConverterBlockEntity.serverTicker());
     }
 
     @Override
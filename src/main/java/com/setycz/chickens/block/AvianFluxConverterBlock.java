@@ -2,6 +2,7 @@ package com.setycz.chickens.block;
 
 import com.mojang.serialization.MapCodec;
 import com.setycz.chickens.blockentity.AvianFluxConverterBlockEntity;
+import com.setycz.chickens.blockentity.BlockEntityTickTimer;
 import com.setycz.chickens.config.ChickensConfigHolder;
 import com.setycz.chickens.registry.ModBlockEntities;
 import net.minecraft.core.BlockPos;
@@ -89,11 +90,11 @@ public class AvianFluxConverterBlock extends HorizontalDirectionalBlock implemen
         if (type != ModBlockEntities.AVIAN_FLUX_CONVERTER.get()) {
             return null;
         }
-        return (lvl, blockPos, blockState, blockEntity) -> {
+        return BlockEntityTickTimer.timed((lvl, blockPos, blockState, blockEntity) -> {
             if (blockEntity instanceof AvianFluxConverterBlockEntity converter) {
                 AvianFluxConverterBlockEntity.serverTick(lvl, blockPos, blockState, converter);
             }
-        };
+        });
     }
 
     @Override
@@ -2,6 +2,7 @@ package com.setycz.chickens.block;
 
 import com.mojang.serialization.MapCodec;
 import com.setycz.chickens.blockentity.AbstractChickenContainerBlockEntity;
+import com.setycz.chickens.blockentity.BlockEntityTickTimer;
 import com.setycz.chickens.blockentity.BreederBlockEntity;
 import com.setycz.chickens.registry.ModBlockEntities;
 import net.minecraft.core.BlockPos;
@@ -81,11 +82,11 @@ public class BreederBlock extends HorizontalDirectionalBlock implements EntityBl
         if (type != ModBlockEntities.BREEDER.get()) {
             return null;
         }
-        return (lvl, pos, blockState, blockEntity) -> {
+        return BlockEntityTickTimer.timed((lvl, pos, blockState, blockEntity) -> {
             if (blockEntity instanceof BreederBlockEntity breeder) {
                 AbstractChickenContainerBlockEntity.serverTick(lvl, pos, blockState, breeder);
             }
-        };
+        });
     }
 
     @Override
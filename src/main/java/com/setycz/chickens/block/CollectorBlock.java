@@ -2,6 +2,7 @@ package com.setycz.chickens.block;
 
 import com.mojang.serialization.MapCodec;
 import com.setycz.chickens.blockentity.AbstractChickenContainerBlockEntity;
+import com.setycz.chickens.blockentity.BlockEntityTickTimer;
 import com.setycz.chickens.blockentity.CollectorBlockEntity;
 import com.setycz.chickens.registry.ModBlockEntities;
 import net.minecraft.core.BlockPos;
@@ -62,11 +63,11 @@ public class CollectorBlock extends Block implements EntityBlock {
         if (type != ModBlockEntities.COLLECTOR.get()) {
             return null;
         }
-        return (lvl, pos, blockState, blockEntity) -> {
+        return BlockEntityTickTimer.timed((lvl, pos, blockState, blockEntity) -> {
             if (blockEntity instanceof CollectorBlockEntity collector) {
                 AbstractChickenContainerBlockEntity.serverTick(lvl, pos, blockState, collector);
             }
-        };
+        });
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.setycz.chickens.block;
 
 import com.mojang.serialization.MapCodec;
+import com.setycz.chickens.blockentity.BlockEntityTickTimer;
 import com.setycz.chickens.blockentity.IncubatorBlockEntity;
 import com.setycz.chickens.config.ChickensConfigHolder;
 import com.setycz.chickens.registry.ModBlockEntities;
@@ -93,11 +94,11 @@ public class IncubatorBlock extends HorizontalDirectionalBlock implements Entity
         if (type != ModBlockEntities.INCUBATOR.get()) {
             return null;
         }
-        return (lvl, blockPos, blockState, blockEntity) -> {
+        return BlockEntityTickTimer.timed((lvl, blockPos, blockState, blockEntity) -> {
             if (blockEntity instanceof IncubatorBlockEntity incubator) {
                 IncubatorBlockEntity.serverTick(lvl, blockPos, blockState, incubator);
             }
-        };
+        });
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.setycz.chickens.block;
 
 import com.mojang.serialization.MapCodec;
+import com.setycz.chickens.blockentity.BlockEntityTickTimer;
 import com.setycz.chickens.blockentity.NestBlockEntity;
 import com.setycz.chickens.blockentity.AbstractChickenContainerBlockEntity;
 import com.setycz.chickens.registry.ModBlockEntities;
@@ -71,11 +72,11 @@ public class NestBlock extends HorizontalDirectionalBlock implements EntityBlock
         if (type != ModBlockEntities.NEST.get()) {
             return null;
         }
-        return (lvl, pos, blockState, blockEntity) -> {
+        return BlockEntityTickTimer.timed((lvl, pos, blockState, blockEntity) -> {
             if (blockEntity instanceof NestBlockEntity nest) {
                 NestBlockEntity.serverTick(lvl, pos, blockState, nest);
             }
-        };
+        });
     }
 
     @Override
@@ -2,6 +2,7 @@ package com.setycz.chickens.block;
 
 import com.mojang.serialization.MapCodec;
 import com.setycz.chickens.blockentity.AbstractChickenContainerBlockEntity;
+import com.setycz.chickens.blockentity.BlockEntityTickTimer;
 import com.setycz.chickens.blockentity.RoostBlockEntity;
 import com.setycz.chickens.registry.ModBlockEntities;
 import net.minecraft.core.BlockPos;
@@ -69,11 +70,11 @@ public class RoostBlock extends HorizontalDirectionalBlock implements EntityBloc
         if (type != ModBlockEntities.ROOST.get()) {
             return null;
         }
-        return (lvl, pos, blockState, blockEntity) -> {
+        return BlockEntityTickTimer.timed((lvl, pos, blockState, blockEntity) -> {
             if (blockEntity instanceof RoostBlockEntity roost) {
                 AbstractChickenContainerBlockEntity.serverTick(lvl, pos, blockState, roost);
             }
-        };
+        });
     }
 
     @Override
@@ -3,11 +3,16 @@ package com.setycz.chickens.blockentity;
 import com.setycz.chickens.ChickensRegistryItem;
 import com.setycz.chickens.item.ChickenItemHelper;
 import com.setycz.chickens.item.ChickenStats;
+import com.setycz.chickens.network.BlockEntitySyncPayload;
+import com.setycz.chickens.network.ClientSyncedBlockEntity;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.NonNullList;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.Connection;
+import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.chat.Component;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.ContainerHelper;
@@ -20,7 +25,6 @@ import net.minecraft.world.inventory.ContainerData;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
@@ -29,6 +33,7 @@ import net.minecraft.network.protocol.game.ClientGamePacketListener;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
 
 import javax.annotation.Nullable;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
@@ -37,7 +42,8 @@ import java.util.Objects;
  * container tracks chicken stacks, internal timers and output slots while
  * remaining agnostic about the concrete drop behaviour.
  */
-public abstract class AbstractChickenContainerBlockEntity extends BlockEntity implements WorldlyContainer, MenuProvider {
+public abstract class AbstractChickenContainerBlockEntity extends BlockEntity implements WorldlyContainer, MenuProvider,
+        ClientSyncedBlockEntity {
     protected static final class ChickenContainerEntry {
         private final ChickensRegistryItem chicken;
         private final ChickenStats stats;
@@ -108,33 +114,47 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
     public record RenderData(ChickensRegistryItem chicken, ChickenStats stats, int count) {
     }
 
+    /** {@link #layDeadline} while no lay is scheduled. */
+    private static final long IDLE = Long.MAX_VALUE;
+
     private final NonNullList<ItemStack> items;
     private final ChickenContainerEntry[] chickenData;
     private final ContainerData dataAccess;
     private boolean needsChickenUpdate = true;
     private boolean skipNextTimerReset = false;
     private int timeUntilNextDrop = 0;
+    /** Progress units completed when the current schedule started at {@link #layStart}. */
     private int timeElapsed = 0;
-    private int progress = 0;
+    private long layStart = 0L;
+    /** Game time the current cycle completes at {@link #layRate}, or {@link #IDLE}. */
+    private long layDeadline = IDLE;
+    /** Progress units per tick the schedule was built for; not saved, so loading always reschedules. */
+    private int layRate = 0;
+    private boolean scheduleDirty = true;
+    private boolean scheduleSyncPending = false;
     private boolean fullOfChickens = false;
     private boolean fullOfSeeds = false;
+    private boolean sourceIndexed = false;
+    /** Client-visible stacks as last sent to tracking players; see {@link #flushClientSync()}. */
+    private final ItemStack[] syncedStacks;
+    private boolean clientSyncPending = false;
 
     protected AbstractChickenContainerBlockEntity(BlockEntityType<?> type, BlockPos pos, BlockState state,
             int inventorySize, int chickenSlotCount) {
         super(type, pos, state);
         this.items = NonNullList.withSize(inventorySize, ItemStack.EMPTY);
         this.chickenData = new ChickenContainerEntry[chickenSlotCount];
+        this.syncedStacks = new ItemStack[inventorySize];
+        Arrays.fill(this.syncedStacks, ItemStack.EMPTY);
         this.dataAccess = new ContainerData() {
             @Override
             public int get(int index) {
-                return index == 0 ? progress : 0;
+                return index == 0 ? getProgress() : 0;
             }
 
             @Override
             public void set(int index, int value) {
-                if (index == 0) {
-                    progress = value;
-                }
+                // Progress is derived from the synced schedule on both sides.
             }
 
             @Override
@@ -147,16 +167,22 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
     public static <T extends AbstractChickenContainerBlockEntity> void serverTick(Level level, BlockPos pos, BlockState state,
             T container) {
         container.runServerTick(level);
+        container.flushClientSync();
     }
 
     protected void runServerTick(Level level) {
         if (level.isClientSide) {
             return;
         }
+        long now = level.getGameTime();
+        // Between lays nothing changes unless an inventory edit or a speed
+        // change dirtied the schedule, so almost every tick stops here.
+        if (!needsChickenUpdate && !scheduleDirty && now < layDeadline) {
+            return;
+        }
         updateChickenInfoIfNeeded(level);
-        updateTimerIfNeeded(level);
-        spawnChickenItemIfNeeded(level);
-        updateProgress();
+        spawnChickenItemIfNeeded(level, now);
+        updateSchedule(now);
         skipNextTimerReset = false;
     }
 
@@ -168,24 +194,14 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
         boolean wasFullOfSeeds = fullOfSeeds;
         fullOfChickens = isFullOfChickens();
         fullOfSeeds = isFullOfSeeds();
-        // Always push a block update when chicken inventory data changes so the client
-        // receives the refreshed stack counts without needing an extra GUI sync.
-        notifyBlockUpdate(level);
         if (wasFullOfChickens != fullOfChickens || wasFullOfSeeds != fullOfSeeds) {
             onFullnessChanged(level, fullOfChickens, fullOfSeeds);
         }
         needsChickenUpdate = false;
     }
 
-    private void updateTimerIfNeeded(Level level) {
-        if (fullOfChickens && fullOfSeeds && !outputIsFull()) {
-            timeElapsed += getTimeElapsed();
-            setChanged();
-        }
-    }
-
-    private void spawnChickenItemIfNeeded(Level level) {
-        if (fullOfChickens && fullOfSeeds && timeElapsed >= timeUntilNextDrop) {
+    private void spawnChickenItemIfNeeded(Level level, long now) {
+        if (fullOfChickens && fullOfSeeds && elapsedAt(now) >= timeUntilNextDrop) {
             if (timeUntilNextDrop > 0) {
                 consumeSeeds();
                 spawnChickenItem(level.random);
@@ -194,8 +210,49 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
         }
     }
 
-    private void updateProgress() {
-        progress = timeUntilNextDrop == 0 ? 0 : Math.min(1000, timeElapsed * 1000 / Math.max(timeUntilNextDrop, 1));
+    /**
+     * Turns the current rate into an absolute deadline. The running schedule
+     * is kept when the rate did not change; otherwise the progress made so far
+     * is folded into {@link #timeElapsed} and a new schedule starts now.
+     */
+    private void updateSchedule(long now) {
+        scheduleDirty = false;
+        int rate = fullOfChickens && fullOfSeeds && !outputIsFull() ? getTimeElapsed() : 0;
+        boolean scheduled = layDeadline != IDLE;
+        if (rate == layRate && (rate > 0) == scheduled && (!scheduled || now < layDeadline)) {
+            return;
+        }
+        timeElapsed = elapsedAt(now);
+        layStart = now;
+        layRate = rate;
+        if (rate > 0) {
+            int remaining = Math.max(timeUntilNextDrop - timeElapsed, 0);
+            layDeadline = now + Math.max((remaining + rate - 1) / rate, 1);
+        } else {
+            layDeadline = IDLE;
+        }
+        scheduleSyncPending = true;
+        setChanged();
+    }
+
+    /**
+     * Progress units completed by {@code now}, interpolated between the start
+     * of the schedule and its deadline. Both sides use this, so the client bar
+     * moves without per-tick updates from the server.
+     */
+    private int elapsedAt(long now) {
+        if (layDeadline == IDLE || now <= layStart) {
+            return timeElapsed;
+        }
+        if (now >= layDeadline) {
+            return Math.max(timeElapsed, timeUntilNextDrop);
+        }
+        long remaining = Math.max(timeUntilNextDrop - timeElapsed, 0);
+        return timeElapsed + (int) (remaining * (now - layStart) / (layDeadline - layStart));
+    }
+
+    private long gameTime() {
+        return level != null ? level.getGameTime() : layStart;
     }
 
     private int getTimeElapsed() {
@@ -224,6 +281,7 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
     private void resetTimer(Level level) {
         timeElapsed = 0;
         timeUntilNextDrop = 0;
+        clearSchedule();
         RandomSource random = level.random;
         for (ChickenContainerEntry entry : chickenData) {
             if (entry != null) {
@@ -236,6 +294,43 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
         setChanged();
     }
 
+    /** Drops the running schedule; the next tick builds a new one. */
+    private void clearSchedule() {
+        layDeadline = IDLE;
+        layRate = 0;
+        scheduleDirty = true;
+        scheduleSyncPending = true;
+    }
+
+    /** Asks the next server tick to re-check the rate without dropping the schedule. */
+    private void invalidateSchedule() {
+        if (level == null || !level.isClientSide) {
+            scheduleDirty = true;
+        }
+    }
+
+    /**
+     * Re-times the running cycle after {@link #speedMultiplier()} changed
+     * mid-way. The elapsed share of the cycle is kept and only the remaining
+     * ticks are stretched or shortened to match the new speed.
+     */
+    protected void rescheduleForSpeedChange(double previousMultiplier) {
+        if (timeUntilNextDrop <= 0) {
+            return;
+        }
+        double previous = Math.max(previousMultiplier, 0.0001D);
+        double current = Math.max(speedMultiplier(), 0.0001D);
+        if (previous == current) {
+            return;
+        }
+        timeElapsed = elapsedAt(gameTime());
+        layStart = gameTime();
+        clearSchedule();
+        int remaining = Math.max(timeUntilNextDrop - timeElapsed, 0);
+        timeUntilNextDrop = timeElapsed + (int) Math.ceil(remaining * previous / current);
+        setChanged();
+    }
+
     /**
      * spawns the item that should be spawned during @method runTick
      * @param random
@@ -257,6 +352,7 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
 
     protected void markChickenDataDirty() {
         needsChickenUpdate = true;
+        invalidateSchedule();
     }
 
     @Nullable
@@ -303,12 +399,16 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
         return dataAccess;
     }
 
+    /** Drop progress from 0 to 1000, derived from the schedule and the current game time. */
     public int getProgress() {
-        return progress;
+        if (timeUntilNextDrop <= 0) {
+            return 0;
+        }
+        return (int) Math.min(1000L, elapsedAt(gameTime()) * 1000L / timeUntilNextDrop);
     }
 
     public double getProgressFraction() {
-        return progress / 1000.0D;
+        return getProgress() / 1000.0D;
     }
 
     /**
@@ -327,7 +427,7 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
      * so callers can short-circuit any ETA display logic.
      */
     public int getRemainingLayTimeTicks() {
-        return Math.max(timeUntilNextDrop - timeElapsed, 0);
+        return Math.max(timeUntilNextDrop - elapsedAt(gameTime()), 0);
     }
 
     /**
@@ -400,6 +500,9 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
         for (int slot = start; slot < items.size() && !remaining.isEmpty(); slot++) {
             remaining = insertStack(remaining, slot);
         }
+        if (remaining.getCount() < stack.getCount()) {
+            onOutputSlotsChanged(true);
+        }
         if (remaining.isEmpty()) {
             markChickenDataDirty();
         }
@@ -448,6 +551,62 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
         return getChickenSlotCount() + (requiredSeedsForDrop() > 0 ? 1 : 0);
     }
 
+    /**
+     * Returns true when any output slot holds items a collector could pull.
+     */
+    boolean hasOutputItems() {
+        for (int slot = getOutputSlotIndex(); slot < items.size(); slot++) {
+            if (!items.get(slot).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether this container should be published to the per-level
+     * {@link ChickenContainerIndex} so collectors can drain it. Collectors
+     * stay published as well so chained collectors keep pulling from each
+     * other exactly like the original cube sweep did.
+     */
+    protected boolean isCollectorSource() {
+        return true;
+    }
+
+    /**
+     * Invoked whenever the output slots change. Additions are forwarded to
+     * nearby collectors through the container index; subclasses may react to
+     * removals, for example to resume work once space frees up.
+     */
+    protected void onOutputSlotsChanged(boolean itemsAdded) {
+        // A full output pauses the cycle and freeing a slot resumes it.
+        invalidateSchedule();
+        if (itemsAdded && sourceIndexed && level != null) {
+            ChickenContainerIndex.get(level).onSourceOutputChanged(this);
+        }
+    }
+
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        if (level != null && !level.isClientSide && isCollectorSource() && !sourceIndexed) {
+            sourceIndexed = true;
+            ChickenContainerIndex.get(level).addSource(this);
+        }
+    }
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        if (sourceIndexed && level != null) {
+            sourceIndexed = false;
+            ChickenContainerIndex index = ChickenContainerIndex.getIfPresent(level);
+            if (index != null) {
+                index.removeSource(this);
+            }
+        }
+    }
+
     @Override
     public int getContainerSize() {
         return items.size();
@@ -476,6 +635,9 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
         ItemStack result = ContainerHelper.removeItem(items, index, count);
         if (!result.isEmpty()) {
             setChanged();
+            if (index >= getOutputSlotIndex()) {
+                onOutputSlotsChanged(false);
+            }
         }
         return result;
     }
@@ -488,6 +650,9 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
         ItemStack result = ContainerHelper.takeItem(items, index);
         if (!result.isEmpty()) {
             setChanged();
+            if (index >= getOutputSlotIndex()) {
+                onOutputSlotsChanged(false);
+            }
         }
         return result;
     }
@@ -500,6 +665,8 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
         }
         if (index < getOutputSlotIndex()) {
             markChickenDataDirty();
+        } else {
+            onOutputSlotsChanged(!stack.isEmpty());
         }
         setChanged();
     }
@@ -544,6 +711,7 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
         items.clear();
         setChanged();
         markChickenDataDirty();
+        onOutputSlotsChanged(false);
     }
 
     @Override
@@ -563,6 +731,10 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
         ContainerHelper.saveAllItems(tag, items, registries);
         tag.putInt("TimeUntilNextDrop", timeUntilNextDrop);
         tag.putInt("TimeElapsed", timeElapsed);
+        if (layDeadline != IDLE) {
+            tag.putLong("LayStart", layStart);
+            tag.putLong("LayDeadline", layDeadline);
+        }
     }
 
     @Override
@@ -571,6 +743,11 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
         ContainerHelper.loadAllItems(tag, items, registries);
         timeUntilNextDrop = tag.getInt("TimeUntilNextDrop");
         timeElapsed = tag.getInt("TimeElapsed");
+        // A saved deadline keeps counting while the chunk was unloaded, but
+        // elapsedAt() caps the catch-up at the end of the current cycle.
+        layStart = tag.getLong("LayStart");
+        layDeadline = tag.contains("LayDeadline") ? tag.getLong("LayDeadline") : IDLE;
+        layRate = 0;
         skipNextTimerReset = true;
         markChickenDataDirty();
     }
@@ -583,8 +760,8 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
     @Nullable
     @Override
     public Packet<ClientGamePacketListener> getUpdatePacket() {
-        // Broadcast the full block entity tag whenever the server marks the chicken data
-        // dirty so the renderer can immediately reflect newly inserted stacks.
+        // Only used when the block itself is placed or changes state; routine inventory
+        // edits travel through the per-tick delta in flushClientSync instead.
         return ClientboundBlockEntityDataPacket.create(this);
     }
 
@@ -602,9 +779,93 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
         }
     }
 
-    private void notifyBlockUpdate(Level level) {
-        BlockState state = level.getBlockState(worldPosition);
-        level.sendBlockUpdated(worldPosition, state, state, Block.UPDATE_ALL);
+    @Override
+    public void setChanged() {
+        super.setChanged();
+        clientSyncPending = true;
+    }
+
+    /**
+     * Whether the client needs the contents of the given slot. Renderers only
+     * draw the chickens and seeds by default; output slots reach the client
+     * through the open menu instead.
+     */
+    protected boolean isClientVisibleSlot(int slot) {
+        return slot < getOutputSlotIndex();
+    }
+
+    /**
+     * Sends the client-visible slots that changed since the last flush to the
+     * players tracking this chunk, together with the lay schedule. Runs once at
+     * the end of every server tick, so any number of inventory edits within a
+     * tick collapse into at most one small payload instead of a full block
+     * entity tag per edit. The schedule only goes out when it changes; the
+     * client interpolates progress from it in between.
+     */
+    private void flushClientSync() {
+        if (!clientSyncPending) {
+            return;
+        }
+        clientSyncPending = false;
+        boolean scheduleChanged = scheduleSyncPending;
+        scheduleSyncPending = false;
+        IntList changed = null;
+        for (int slot = 0; slot < items.size(); slot++) {
+            if (!isClientVisibleSlot(slot)) {
+                continue;
+            }
+            ItemStack current = items.get(slot);
+            if (ItemStack.matches(syncedStacks[slot], current)) {
+                continue;
+            }
+            syncedStacks[slot] = current.copy();
+            if (changed == null) {
+                changed = new IntArrayList();
+            }
+            changed.add(slot);
+        }
+        if (changed == null && !scheduleChanged) {
+            return;
+        }
+        IntList slots = changed != null ? changed : IntList.of();
+        int elapsed = timeElapsed;
+        int total = timeUntilNextDrop;
+        long start = layStart;
+        long span = layDeadline == IDLE ? 0L : layDeadline - layStart;
+        BlockEntitySyncPayload.sendToTracking(this, buffer -> {
+            buffer.writeVarInt(elapsed);
+            buffer.writeVarInt(total);
+            buffer.writeVarLong(start);
+            buffer.writeVarLong(span);
+            buffer.writeVarInt(slots.size());
+            for (int i = 0; i < slots.size(); i++) {
+                int slot = slots.getInt(i);
+                buffer.writeVarInt(slot);
+                ItemStack.OPTIONAL_STREAM_CODEC.encode(buffer, syncedStacks[slot]);
+            }
+        });
+    }
+
+    @Override
+    public void readClientSync(RegistryFriendlyByteBuf buffer) {
+        timeElapsed = buffer.readVarInt();
+        timeUntilNextDrop = buffer.readVarInt();
+        layStart = buffer.readVarLong();
+        long span = buffer.readVarLong();
+        layDeadline = span > 0L ? layStart + span : IDLE;
+        int count = buffer.readVarInt();
+        for (int i = 0; i < count; i++) {
+            int slot = buffer.readVarInt();
+            ItemStack stack = ItemStack.OPTIONAL_STREAM_CODEC.decode(buffer);
+            if (slot < 0 || slot >= items.size()) {
+                continue;
+            }
+            items.set(slot, stack);
+            if (slot < chickenData.length) {
+                // Drop the cached render entry so getRenderData rebuilds it from the new stack.
+                chickenData[slot] = null;
+            }
+        }
     }
 
     public NonNullList<ItemStack> getItems() {
@@ -12,6 +12,8 @@ import com.setycz.chickens.item.ChemicalEggItem;
 import com.setycz.chickens.item.ChickenItemHelper;
 import com.setycz.chickens.item.GasEggItem;
 import com.setycz.chickens.menu.AvianChemicalConverterMenu;
+import com.setycz.chickens.network.BlockEntitySyncPayload;
+import com.setycz.chickens.network.ClientSyncedBlockEntity;
 import com.setycz.chickens.registry.ModBlockEntities;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -20,6 +22,7 @@ import net.minecraft.core.NonNullList;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtOps;
 import net.minecraft.nbt.Tag;
+import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.ComponentSerialization;
 import net.minecraft.resources.ResourceLocation;
@@ -49,7 +52,8 @@ import java.util.Map;
  * and the contents are exposed through Mekanism's chemical capability when the
  * API is available at runtime.
  */
-public class AvianChemicalConverterBlockEntity extends BlockEntity implements WorldlyContainer, MenuProvider {
+public class AvianChemicalConverterBlockEntity extends BlockEntity implements WorldlyContainer, MenuProvider,
+        ClientSyncedBlockEntity {
     public static final int SLOT_COUNT = 1;
     private static final int[] ACCESSIBLE_SLOTS = new int[] { 0 };
     private static final int DEFAULT_TANK_CAPACITY = 8_000;
@@ -61,11 +65,15 @@ public class AvianChemicalConverterBlockEntity extends BlockEntity implements Wo
     private int chemicalAmount;
     private int tankCapacity = DEFAULT_TANK_CAPACITY;
     private int transferRate = DEFAULT_TRANSFER_RATE;
+    // Created on first export because the capability only exists when Mekanism is installed.
+    @Nullable
+    private NeighborCapabilityCache<Object> chemicalNeighbors;
     @Nullable
     private ResourceLocation chemicalId;
     private int chemicalEntryId = -1;
     private boolean storedGaseous;
     private boolean cachedActiveState;
+    private boolean clientSyncPending;
     @Nullable
     private Component customName;
 
@@ -81,6 +89,7 @@ public class AvianChemicalConverterBlockEntity extends BlockEntity implements Wo
         return (level, pos, state, blockEntity) -> {
             if (blockEntity instanceof AvianChemicalConverterBlockEntity converter) {
                 converter.tickServer(level);
+                converter.flushClientSync();
             }
         };
     }
@@ -191,13 +200,15 @@ public class AvianChemicalConverterBlockEntity extends BlockEntity implements Wo
         if (!MekanismChemicalHelper.isChemicalCapabilityAvailable()) {
             return false;
         }
+        if (chemicalNeighbors == null) {
+            chemicalNeighbors = new NeighborCapabilityCache<>(MekanismChemicalHelper.getChemicalBlockCapability(), this);
+        }
         boolean exported = false;
         for (Direction direction : Direction.values()) {
             if (chemicalAmount <= 0) {
                 break;
             }
-            Object handler = MekanismChemicalHelper.getBlockChemicalHandler(level,
-                    worldPosition.relative(direction), direction.getOpposite());
+            Object handler = chemicalNeighbors.get(level, direction);
             if (handler == null) {
                 continue;
             }
@@ -208,6 +219,7 @@ public class AvianChemicalConverterBlockEntity extends BlockEntity implements Wo
             }
             Object simulated = MekanismChemicalHelper.insertChemical(handler, requested, true);
             long accepted = toSend - MekanismChemicalHelper.getStackAmount(simulated);
+            chemicalNeighbors.report(level, direction, accepted > 0);
             if (accepted <= 0) {
                 continue;
             }
@@ -244,13 +256,43 @@ public class AvianChemicalConverterBlockEntity extends BlockEntity implements Wo
     private void markChemicalDirty() {
         setChanged();
         if (level != null && !level.isClientSide) {
-            BlockState state = getBlockState();
-            level.sendBlockUpdated(worldPosition, state, state, Block.UPDATE_ALL);
-            level.updateNeighbourForOutputSignal(worldPosition, state.getBlock());
+            clientSyncPending = true;
             updateActiveState(level, shouldBlockGlow(false));
         }
     }
 
+    // Coalesces every buffer change of the tick into one comparator update and
+    // one payload carrying the stored chemical and its fill level.
+    private void flushClientSync() {
+        if (!clientSyncPending || level == null) {
+            return;
+        }
+        clientSyncPending = false;
+        level.updateNeighbourForOutputSignal(worldPosition, getBlockState().getBlock());
+        int amount = chemicalAmount;
+        ResourceLocation id = chemicalId;
+        int entryId = chemicalEntryId;
+        boolean gaseous = storedGaseous;
+        BlockEntitySyncPayload.sendToTracking(this, buffer -> {
+            buffer.writeVarInt(amount);
+            buffer.writeVarInt(entryId);
+            buffer.writeBoolean(gaseous);
+            buffer.writeBoolean(id != null);
+            if (id != null) {
+                buffer.writeResourceLocation(id);
+            }
+        });
+    }
+
+    @Override
+    public void readClientSync(RegistryFriendlyByteBuf buffer) {
+        chemicalAmount = buffer.readVarInt();
+        chemicalEntryId = buffer.readVarInt();
+        storedGaseous = buffer.readBoolean();
+        chemicalId = buffer.readBoolean() ? buffer.readResourceLocation() : null;
+        invalidateChemicalHandlers();
+    }
+
     @Nullable
     public ChemicalEggRegistryItem getStoredEntry() {
         if (chemicalId == null) {
@@ -14,7 +14,10 @@ import com.setycz.chickens.item.ChickenItemHelper;
 import com.setycz.chickens.item.ChickensSpawnEggItem;
 import com.setycz.chickens.item.ChemicalEggItem;
 import com.setycz.chickens.item.LiquidEggItem;
+import com.setycz.chickens.jfr.DousingPlanChangeEvent;
 import com.setycz.chickens.menu.AvianDousingMachineMenu;
+import com.setycz.chickens.network.BlockEntitySyncPayload;
+import com.setycz.chickens.network.ClientSyncedBlockEntity;
 import com.setycz.chickens.registry.ModBlockEntities;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -25,6 +28,7 @@ import net.minecraft.nbt.NbtOps;
 import net.minecraft.nbt.Tag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.Connection;
+import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.ClientGamePacketListener;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
@@ -64,7 +68,8 @@ import java.util.Map;
  * owns three internal buffers (RF, fluid, chemical) and only crafts when the
  * configured recipe costs are satisfied, keeping all automation-friendly.
  */
-public class AvianDousingMachineBlockEntity extends BlockEntity implements WorldlyContainer, MenuProvider {
+public class AvianDousingMachineBlockEntity extends BlockEntity implements WorldlyContainer, MenuProvider,
+        ClientSyncedBlockEntity {
     public static final int SLOT_COUNT = 2;
     private static final int INPUT_SLOT = 0;
     private static final int OUTPUT_SLOT = 1;
@@ -87,6 +92,11 @@ public class AvianDousingMachineBlockEntity extends BlockEntity implements World
     public static final int CHEMICAL_ENERGY_COST = 100_000;
     public static final int SPECIAL_ENERGY_COST = LIQUID_ENERGY_COST;
 
+    // Client sync sections; each mark*Dirty call flags the buffer it touched.
+    private static final int SYNC_ENERGY = 1;
+    private static final int SYNC_LIQUID = 1 << 1;
+    private static final int SYNC_CHEMICAL = 1 << 2;
+
     private static final Map<ResourceLocation, Integer> LIQUID_CHICKEN_CACHE = new HashMap<>();
     private static final Map<ResourceLocation, Integer> CHEMICAL_CHICKEN_CACHE = new HashMap<>();
 
@@ -110,6 +120,8 @@ public class AvianDousingMachineBlockEntity extends BlockEntity implements World
         }
     };
     private final MachineEnergyStorage energyStorage = new MachineEnergyStorage();
+    private final NeighborCapabilityCache<IEnergyStorage> energyNeighbors =
+            new NeighborCapabilityCache<>(Capabilities.EnergyStorage.BLOCK, this);
 
     private final Map<Direction, Object> chemicalHandlers = new EnumMap<>(Direction.class);
 
@@ -123,8 +135,18 @@ public class AvianDousingMachineBlockEntity extends BlockEntity implements World
     private int progress;
     private InfusionMode mode = InfusionMode.NONE;
     private boolean cachedActiveState;
+    private int pendingClientSync;
     @Nullable
     private Component customName;
+    // Last choosePlan() result and the inputs it was derived from; see currentPlan().
+    private OperationPlan cachedPlan = OperationPlan.none();
+    private boolean planDirty = true;
+    private int planRegistryVersion = -1;
+    private int planRecipeVersion = -1;
+    private ItemStack planInput = ItemStack.EMPTY;
+    private int planInputCount;
+    private ItemStack planOutput = ItemStack.EMPTY;
+    private int planOutputCount;
 
     public AvianDousingMachineBlockEntity(BlockPos pos, BlockState state) {
         super(ModBlockEntities.AVIAN_DOUSING_MACHINE.get(), pos, state);
@@ -136,6 +158,7 @@ public class AvianDousingMachineBlockEntity extends BlockEntity implements World
         return (level, pos, state, blockEntity) -> {
             if (blockEntity instanceof AvianDousingMachineBlockEntity machine) {
                 machine.tickServer(level);
+                machine.flushClientSync();
             }
         };
     }
@@ -147,7 +170,7 @@ public class AvianDousingMachineBlockEntity extends BlockEntity implements World
 
         boolean inventoryChanged = false;
         boolean pulledEnergy = pullEnergyFromNeighbors(level);
-        OperationPlan plan = choosePlan();
+        OperationPlan plan = currentPlan();
         mode = plan.mode();
         if (plan.mode() == InfusionMode.NONE) {
             if (progress != 0) {
@@ -179,6 +202,52 @@ public class AvianDousingMachineBlockEntity extends BlockEntity implements World
         }
     }
 
+    /**
+     * Returns the plan for the current inputs, re-running {@link #choosePlan()}
+     * only when a slot stack, the tanks, the chicken registry or the KubeJS
+     * recipes changed since the last evaluation. Energy is checked separately
+     * by {@link #hasResourcesFor(OperationPlan)}, so it does not invalidate.
+     */
+    private OperationPlan currentPlan() {
+        ItemStack input = items.get(INPUT_SLOT);
+        ItemStack output = items.get(OUTPUT_SLOT);
+        int registryVersion = ChickensRegistry.getVersion();
+        int recipeVersion = MachineRecipeRegistry.getVersion();
+        // Slot stacks are compared by identity and count because menus and
+        // completeOperation() grow or shrink them in place.
+        if (planDirty || registryVersion != planRegistryVersion || recipeVersion != planRecipeVersion
+                || input != planInput || input.getCount() != planInputCount
+                || output != planOutput || output.getCount() != planOutputCount) {
+            OperationPlan previous = cachedPlan;
+            cachedPlan = choosePlan();
+            recordPlanChange(previous, cachedPlan);
+            planDirty = false;
+            planRegistryVersion = registryVersion;
+            planRecipeVersion = recipeVersion;
+            planInput = input;
+            planInputCount = input.getCount();
+            planOutput = output;
+            planOutputCount = output.getCount();
+        }
+        return cachedPlan;
+    }
+
+    private void recordPlanChange(OperationPlan previous, OperationPlan plan) {
+        DousingPlanChangeEvent event = new DousingPlanChangeEvent();
+        if (!event.isEnabled() || (previous.mode() == plan.mode() && previous.chicken() == plan.chicken()
+                && previous.special() == plan.special())) {
+            return;
+        }
+        event.x = worldPosition.getX();
+        event.y = worldPosition.getY();
+        event.z = worldPosition.getZ();
+        event.previousMode = previous.mode().name();
+        event.mode = plan.mode().name();
+        event.chicken = plan.chicken() != null ? plan.chicken().getEntityName() : null;
+        event.energyCost = plan.energyCost();
+        event.commit();
+    }
+
     private OperationPlan choosePlan() {
         ItemStack input = items.get(INPUT_SLOT);
         ChickensRegistryItem inputChicken = getChicken(input);
@@ -364,20 +433,84 @@ public class AvianDousingMachineBlockEntity extends BlockEntity implements World
     }
 
     private void markLiquidDirty() {
-        setChanged();
-        if (level != null && !level.isClientSide) {
-            BlockState state = getBlockState();
-            level.sendBlockUpdated(worldPosition, state, state, Block.UPDATE_ALL);
-            level.updateNeighbourForOutputSignal(worldPosition, state.getBlock());
-        }
+        planDirty = true;
+        markClientDirty(SYNC_LIQUID);
     }
 
     private void markEnergyDirty() {
+        markClientDirty(SYNC_ENERGY);
+    }
+
+    private void markClientDirty(int section) {
         setChanged();
         if (level != null && !level.isClientSide) {
-            BlockState state = getBlockState();
-            level.sendBlockUpdated(worldPosition, state, state, Block.UPDATE_ALL);
-            level.updateNeighbourForOutputSignal(worldPosition, state.getBlock());
+            pendingClientSync |= section;
+        }
+    }
+
+    /**
+     * Sends the buffers flagged during this tick to the players tracking the
+     * chunk and updates comparators once. Only the touched sections are
+     * written, so steady energy intake no longer resends the tank, chemical
+     * store and inventory every tick.
+     */
+    private void flushClientSync() {
+        if (pendingClientSync == 0 || level == null) {
+            return;
+        }
+        int sections = pendingClientSync;
+        pendingClientSync = 0;
+        level.updateNeighbourForOutputSignal(worldPosition, getBlockState().getBlock());
+        int energy = energyStorage.getEnergyStored();
+        int currentProgress = progress;
+        InfusionMode currentMode = mode;
+        FluidStack fluid = liquidTank.getFluid().copy();
+        SpecialInfusion infusion = specialInfusion;
+        int special = specialAmount;
+        int chemical = chemicalAmount;
+        ResourceLocation chemicalKey = chemicalId;
+        int entryId = chemicalEntryId;
+        BlockEntitySyncPayload.sendToTracking(this, buffer -> {
+            buffer.writeByte(sections);
+            if ((sections & SYNC_ENERGY) != 0) {
+                buffer.writeVarInt(energy);
+                buffer.writeVarInt(currentProgress);
+                buffer.writeEnum(currentMode);
+            }
+            if ((sections & SYNC_LIQUID) != 0) {
+                FluidStack.OPTIONAL_STREAM_CODEC.encode(buffer, fluid);
+                buffer.writeEnum(infusion);
+                buffer.writeVarInt(special);
+            }
+            if ((sections & SYNC_CHEMICAL) != 0) {
+                buffer.writeVarInt(chemical);
+                buffer.writeVarInt(entryId);
+                buffer.writeBoolean(chemicalKey != null);
+                if (chemicalKey != null) {
+                    buffer.writeResourceLocation(chemicalKey);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void readClientSync(RegistryFriendlyByteBuf buffer) {
+        int sections = buffer.readByte();
+        if ((sections & SYNC_ENERGY) != 0) {
+            energyStorage.setEnergy(buffer.readVarInt());
+            progress = Mth.clamp(buffer.readVarInt(), 0, MAX_PROGRESS);
+            mode = buffer.readEnum(InfusionMode.class);
+        }
+        if ((sections & SYNC_LIQUID) != 0) {
+            liquidTank.setFluid(FluidStack.OPTIONAL_STREAM_CODEC.decode(buffer));
+            specialInfusion = buffer.readEnum(SpecialInfusion.class);
+            specialAmount = Mth.clamp(buffer.readVarInt(), 0, SPECIAL_LIQUID_CAPACITY);
+        }
+        if ((sections & SYNC_CHEMICAL) != 0) {
+            chemicalAmount = Mth.clamp(buffer.readVarInt(), 0, CHEMICAL_CAPACITY);
+            chemicalEntryId = buffer.readVarInt();
+            chemicalId = buffer.readBoolean() ? buffer.readResourceLocation() : null;
+            invalidateChemicalHandlers();
         }
     }
 
@@ -390,8 +523,7 @@ public class AvianDousingMachineBlockEntity extends BlockEntity implements World
             if (energyStorage.getEnergyStored() >= ENERGY_CAPACITY) {
                 break;
             }
-            IEnergyStorage neighbor = level.getCapability(Capabilities.EnergyStorage.BLOCK,
-                    worldPosition.relative(direction), direction.getOpposite());
+            IEnergyStorage neighbor = energyNeighbors.get(level, direction);
             if (neighbor == null) {
                 continue;
             }
@@ -400,6 +532,7 @@ public class AvianDousingMachineBlockEntity extends BlockEntity implements World
                 break;
             }
             int available = neighbor.extractEnergy(space, true);
+            energyNeighbors.report(level, direction, available > 0);
             if (available <= 0) {
                 continue;
             }
@@ -418,12 +551,8 @@ public class AvianDousingMachineBlockEntity extends BlockEntity implements World
     }
 
     private void markChemicalDirty() {
-        setChanged();
-        if (level != null && !level.isClientSide) {
-            BlockState state = getBlockState();
-            level.sendBlockUpdated(worldPosition, state, state, Block.UPDATE_ALL);
-            level.updateNeighbourForOutputSignal(worldPosition, state.getBlock());
-        }
+        planDirty = true;
+        markClientDirty(SYNC_CHEMICAL);
     }
 
     @Override
@@ -668,6 +797,7 @@ public class AvianDousingMachineBlockEntity extends BlockEntity implements World
     @Override
     protected void loadAdditional(CompoundTag tag, HolderLookup.Provider provider) {
         super.loadAdditional(tag, provider);
+        planDirty = true;
         ContainerHelper.loadAllItems(tag, items, provider);
         energyStorage.setEnergy(Mth.clamp(tag.getInt("Energy"), 0, ENERGY_CAPACITY));
         progress = Mth.clamp(tag.getInt("Progress"), 0, MAX_PROGRESS);
@@ -1005,17 +1135,7 @@ public class AvianDousingMachineBlockEntity extends BlockEntity implements World
 
     @Nullable
     private static ChickensRegistryItem findChickenByName(String entityName) {
-        for (ChickensRegistryItem chicken : ChickensRegistry.getItems()) {
-            if (chicken.getEntityName().equalsIgnoreCase(entityName)) {
-                return chicken;
-            }
-        }
-        for (ChickensRegistryItem chicken : ChickensRegistry.getDisabledItems()) {
-            if (chicken.getEntityName().equalsIgnoreCase(entityName)) {
-                return chicken;
-            }
-        }
-        return null;
+        return ChickensRegistry.getByEntityName(entityName);
     }
 
     public boolean isSpecialInfusionItem(ItemStack stack) {
@@ -9,6 +9,8 @@ import com.setycz.chickens.integration.kubejs.MachineRecipeRegistry;
 import com.setycz.chickens.item.ChickenItemHelper;
 import com.setycz.chickens.item.LiquidEggItem;
 import com.setycz.chickens.menu.AvianFluidConverterMenu;
+import com.setycz.chickens.network.BlockEntitySyncPayload;
+import com.setycz.chickens.network.ClientSyncedBlockEntity;
 import com.setycz.chickens.registry.ModBlockEntities;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -18,6 +20,7 @@ import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtOps;
 import net.minecraft.nbt.Tag;
+import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.ComponentSerialization;
 import net.minecraft.resources.ResourceLocation;
@@ -48,7 +51,8 @@ import javax.annotation.Nullable;
  * adjacent handlers each tick so automation can hook directly into the stored
  * fluids.
  */
-public class AvianFluidConverterBlockEntity extends BlockEntity implements WorldlyContainer, MenuProvider {
+public class AvianFluidConverterBlockEntity extends BlockEntity implements WorldlyContainer, MenuProvider,
+        ClientSyncedBlockEntity {
     public static final int SLOT_COUNT = 1;
     private static final int[] ACCESSIBLE_SLOTS = new int[] { 0 };
     private static final int DEFAULT_TANK_CAPACITY = FluidType.BUCKET_VOLUME * 8;
@@ -69,7 +73,10 @@ public class AvianFluidConverterBlockEntity extends BlockEntity implements World
     };
 
     private int transferRate = DEFAULT_TRANSFER_RATE;
+    private final NeighborCapabilityCache<IFluidHandler> fluidNeighbors =
+            new NeighborCapabilityCache<>(Capabilities.FluidHandler.BLOCK, this);
     private boolean cachedActiveState = false;
+    private boolean clientSyncPending = false;
     @Nullable
     private Component customName;
 
@@ -85,6 +92,7 @@ public class AvianFluidConverterBlockEntity extends BlockEntity implements World
         return (level, pos, state, blockEntity) -> {
             if (blockEntity instanceof AvianFluidConverterBlockEntity converter) {
                 converter.tickServer(level);
+                converter.flushClientSync();
             }
         };
     }
@@ -152,12 +160,12 @@ public class AvianFluidConverterBlockEntity extends BlockEntity implements World
             if (toDrain.isEmpty()) {
                 return;
             }
-            var target = level.getCapability(Capabilities.FluidHandler.BLOCK, worldPosition.relative(direction),
-                    direction.getOpposite());
+            IFluidHandler target = fluidNeighbors.get(level, direction);
             if (target == null) {
                 continue;
             }
             int accepted = target.fill(toDrain, IFluidHandler.FluidAction.EXECUTE);
+            fluidNeighbors.report(level, direction, accepted > 0);
             if (accepted > 0) {
                 tank.drain(accepted, IFluidHandler.FluidAction.EXECUTE);
             }
@@ -167,13 +175,29 @@ public class AvianFluidConverterBlockEntity extends BlockEntity implements World
     private void markFluidDirty() {
         setChanged();
         if (level != null && !level.isClientSide) {
-            BlockState state = getBlockState();
-            level.sendBlockUpdated(worldPosition, state, state, Block.UPDATE_ALL);
-            level.updateNeighbourForOutputSignal(worldPosition, state.getBlock());
+            clientSyncPending = true;
             updateActiveState(level, shouldBlockGlow(false));
         }
     }
 
+    // Coalesces every tank change of the tick into one comparator update and
+    // one fill-level payload for the players tracking this chunk.
+    private void flushClientSync() {
+        if (!clientSyncPending || level == null) {
+            return;
+        }
+        clientSyncPending = false;
+        level.updateNeighbourForOutputSignal(worldPosition, getBlockState().getBlock());
+        FluidStack snapshot = tank.getFluid().copy();
+        BlockEntitySyncPayload.sendToTracking(this,
+                buffer -> FluidStack.OPTIONAL_STREAM_CODEC.encode(buffer, snapshot));
+    }
+
+    @Override
+    public void readClientSync(RegistryFriendlyByteBuf buffer) {
+        tank.setFluid(FluidStack.OPTIONAL_STREAM_CODEC.decode(buffer));
+    }
+
     public NonNullList<ItemStack> getItems() {
         return items;
     }
@@ -5,6 +5,8 @@ import com.setycz.chickens.config.ChickensConfigHolder;
 import com.setycz.chickens.config.ChickensConfigValues;
 import com.setycz.chickens.item.FluxEggItem;
 import com.setycz.chickens.menu.AvianFluxConverterMenu;
+import com.setycz.chickens.network.BlockEntitySyncPayload;
+import com.setycz.chickens.network.ClientSyncedBlockEntity;
 import com.setycz.chickens.registry.ModBlockEntities;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -13,6 +15,7 @@ import net.minecraft.core.NonNullList;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtOps;
 import net.minecraft.nbt.Tag;
+import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.ComponentSerialization;
 import net.minecraft.util.Mth;
@@ -39,7 +42,8 @@ import javax.annotation.Nullable;
  * synchronises its energy buffer to the menu so the GUI can render live
  * progress bars without repeatedly probing the storage backend.
  */
-public class AvianFluxConverterBlockEntity extends BlockEntity implements WorldlyContainer, MenuProvider {
+public class AvianFluxConverterBlockEntity extends BlockEntity implements WorldlyContainer, MenuProvider,
+        ClientSyncedBlockEntity {
     public static final int SLOT_COUNT = 1;
     private static final int[] ACCESSIBLE_SLOTS = new int[] { 0 };
     private static final int DEFAULT_CAPACITY = 50_000;
@@ -47,6 +51,8 @@ public class AvianFluxConverterBlockEntity extends BlockEntity implements Worldl
     private static final int DEFAULT_MAX_EXTRACT = 4_000;
 
     private final NonNullList<ItemStack> items = NonNullList.withSize(SLOT_COUNT, ItemStack.EMPTY);
+    private final NeighborCapabilityCache<IEnergyStorage> energyNeighbors =
+            new NeighborCapabilityCache<>(Capabilities.EnergyStorage.BLOCK, this);
     private final EnergyStorage energyStorage = new EnergyStorage(DEFAULT_CAPACITY, DEFAULT_MAX_RECEIVE, DEFAULT_MAX_EXTRACT) {
         @Override
         public int receiveEnergy(int requestedReceive, boolean simulate) {
@@ -103,6 +109,7 @@ public class AvianFluxConverterBlockEntity extends BlockEntity implements Worldl
     private int maxReceive = DEFAULT_MAX_RECEIVE;
     private int maxExtract = DEFAULT_MAX_EXTRACT;
     private boolean cachedActiveState = false;
+    private boolean clientSyncPending = false;
     @Nullable
     private Component customName;
 
@@ -116,6 +123,7 @@ public class AvianFluxConverterBlockEntity extends BlockEntity implements Worldl
 
     public static void serverTick(Level level, BlockPos pos, BlockState state, AvianFluxConverterBlockEntity converter) {
         converter.tickServer(level);
+        converter.flushClientSync();
     }
 
     private void tickServer(Level level) {
@@ -139,14 +147,29 @@ public class AvianFluxConverterBlockEntity extends BlockEntity implements Worldl
     private void markEnergyDirty() {
         setChanged();
         if (level != null && !level.isClientSide) {
-            BlockState state = getBlockState();
-            level.sendBlockUpdated(worldPosition, state, state, Block.UPDATE_ALL);
-            level.updateNeighbourForOutputSignal(worldPosition, state.getBlock());
+            clientSyncPending = true;
             // Keep the visual state in sync with external energy transfers (pipes, etc.).
             updateActiveState(level, shouldBlockGlow(false));
         }
     }
 
+    // Runs once per server tick so every energy transfer in that tick collapses
+    // into a single comparator update and one small payload for nearby players.
+    private void flushClientSync() {
+        if (!clientSyncPending || level == null) {
+            return;
+        }
+        clientSyncPending = false;
+        level.updateNeighbourForOutputSignal(worldPosition, getBlockState().getBlock());
+        int stored = energy;
+        BlockEntitySyncPayload.sendToTracking(this, buffer -> buffer.writeVarInt(stored));
+    }
+
+    @Override
+    public void readClientSync(RegistryFriendlyByteBuf buffer) {
+        energy = Mth.clamp(buffer.readVarInt(), 0, capacity);
+    }
+
     // Pulls Redstone Flux out of the inserted egg, returning whether the stack was
     // mutated so the caller can refresh container state when needed.
     private boolean drainFluxEgg() {
@@ -178,9 +201,7 @@ public class AvianFluxConverterBlockEntity extends BlockEntity implements Worldl
             if (energy <= 0) {
                 return;
             }
-            BlockPos targetPos = worldPosition.relative(direction);
-            IEnergyStorage target = level.getCapability(Capabilities.EnergyStorage.BLOCK, targetPos,
-                    direction.getOpposite());
+            IEnergyStorage target = energyNeighbors.get(level, direction);
             if (target == null) {
                 continue;
             }
@@ -193,6 +214,7 @@ public class AvianFluxConverterBlockEntity extends BlockEntity implements Worldl
                 continue;
             }
             int accepted = target.receiveEnergy(available, false);
+            energyNeighbors.report(level, direction, accepted > 0);
             if (accepted <= 0) {
                 continue;
             }
@@ -0,0 +1,65 @@
+package com.setycz.chickens.blockentity;
+
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityTicker;
+
+import java.util.Arrays;
+
+/**
+ * Optional timing around the server tickers of the mod's block entities.
+ * Every machine block wraps its ticker with {@link #timed}; until a listener
+ * is installed the wrapper only reads one field before delegating, so normal
+ * play pays nothing measurable. The {@code /chickens perf} profiler and the
+ * GameTest suite install listeners to record per-type tick costs.
+ */
+public final class BlockEntityTickTimer {
+    private static final Listener[] NONE = new Listener[0];
+    private static volatile Listener[] listeners = NONE;
+
+    private BlockEntityTickTimer() {
+    }
+
+    /** Starts passing tick durations to {@code listener}. */
+    public static synchronized void addListener(Listener listener) {
+        Listener[] current = listeners;
+        Listener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners = updated;
+    }
+
+    /** Stops passing tick durations to {@code listener}; unknown listeners are ignored. */
+    public static synchronized void removeListener(Listener listener) {
+        Listener[] current = listeners;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                Listener[] updated = new Listener[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                listeners = updated.length == 0 ? NONE : updated;
+                return;
+            }
+        }
+    }
+
+    public static <T extends BlockEntity> BlockEntityTicker<T> timed(BlockEntityTicker<T> ticker) {
+        return (level, pos, state, blockEntity) -> {
+            Listener[] current = listeners;
+            if (current.length == 0) {
+                ticker.tick(level, pos, state, blockEntity);
+                return;
+            }
+            long start = System.nanoTime();
+            ticker.tick(level, pos, state, blockEntity);
+            long nanos = System.nanoTime() - start;
+            for (Listener listener : current) {
+                listener.onTicked(blockEntity, nanos);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    public interface Listener {
+        /** Called on the server thread after each tick of a mod block entity. */
+        void onTicked(BlockEntity blockEntity, long nanos);
+    }
+}
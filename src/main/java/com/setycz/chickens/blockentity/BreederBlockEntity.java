@@ -1,15 +1,15 @@
 package com.setycz.chickens.blockentity;
 
+import com.setycz.chickens.ChickenBreedingCalculator;
 import com.setycz.chickens.ChickensRegistry;
 import com.setycz.chickens.ChickensRegistryItem;
 import com.setycz.chickens.block.BreederBlock;
 import com.setycz.chickens.config.ChickensConfigHolder;
-import com.setycz.chickens.entity.ChickensChicken;
 import com.setycz.chickens.item.ChickenItemHelper;
 import com.setycz.chickens.item.ChickenStats;
+import com.setycz.chickens.jfr.BreederOffspringEvent;
 import com.setycz.chickens.menu.BreederMenu;
 import com.setycz.chickens.registry.ModBlockEntities;
-import com.setycz.chickens.registry.ModEntityTypes;
 import com.setycz.chickens.registry.ModRegistry;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
@@ -56,38 +56,50 @@ public class BreederBlockEntity extends AbstractChickenContainerBlockEntity {
         if (!(level instanceof ServerLevel serverLevel)) {
             return;
         }
-        ChickensChicken parentA = createParentFromSlot(serverLevel, LEFT_CHICKEN_SLOT);
-        ChickensChicken parentB = createParentFromSlot(serverLevel, RIGHT_CHICKEN_SLOT);
+        ItemStack left = getItem(LEFT_CHICKEN_SLOT);
+        ItemStack right = getItem(RIGHT_CHICKEN_SLOT);
+        ChickensRegistryItem parentA = resolveParent(left);
+        ChickensRegistryItem parentB = resolveParent(right);
         if (parentA == null || parentB == null) {
             return;
         }
-        ChickensChicken child = parentA.getBreedOffspring(serverLevel, parentB);
-        if (child == null) {
+        // Work straight off the item data; no throwaway entities are needed to roll the child.
+        ChickenBreedingCalculator.Offspring offspring = ChickenBreedingCalculator.breed(
+                parentA, ChickenItemHelper.getStats(left), parentB, ChickenItemHelper.getStats(right), random);
+        if (offspring == null) {
             return;
         }
         ItemStack stack = new ItemStack(ModRegistry.CHICKEN_ITEM.get());
-        ChickenItemHelper.copyFromEntity(stack, child);
+        ChickenItemHelper.setChickenType(stack, offspring.chicken().getId());
+        ChickenItemHelper.setStats(stack, offspring.stats());
         ItemStack remaining = pushIntoOutput(stack);
         if (!remaining.isEmpty()) {
             Containers.dropItemStack(serverLevel, worldPosition.getX(), worldPosition.getY(), worldPosition.getZ(), remaining);
         } else {
             playSpawnEffects(serverLevel);
         }
+        BreederOffspringEvent event = new BreederOffspringEvent();
+        if (event.isEnabled()) {
+            event.x = worldPosition.getX();
+            event.y = worldPosition.getY();
+            event.z = worldPosition.getZ();
+            event.parentA = parentA.getEntityName();
+            event.parentB = parentB.getEntityName();
+            event.child = offspring.chicken().getEntityName();
+            event.growth = offspring.stats().growth();
+            event.gain = offspring.stats().gain();
+            event.strength = offspring.stats().strength();
+            event.dropped = !remaining.isEmpty();
+            event.commit();
+        }
     }
-    
 
     @Nullable
-    private ChickensChicken createParentFromSlot(ServerLevel level, int slot) {
-        ItemStack stack = getItem(slot);
-        if (!ChickenItemHelper.isChicken(stack) || stack.isEmpty()) {
-            return null;
-        }
-        ChickensChicken parent = ModEntityTypes.CHICKENS_CHICKEN.get().create(level);
-        if (parent == null) {
+    private static ChickensRegistryItem resolveParent(ItemStack stack) {
+        if (stack.isEmpty() || !ChickenItemHelper.isChicken(stack)) {
             return null;
         }
-        ChickenItemHelper.applyToEntity(stack, parent);
-        return parent;
+        return ChickenItemHelper.resolve(stack);
     }
 
     private void playSpawnEffects(ServerLevel level) {
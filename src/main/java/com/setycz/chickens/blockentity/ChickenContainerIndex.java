@@ -0,0 +1,89 @@
+package com.setycz.chickens.blockentity;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.level.LevelEvent;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Per-level spatial index of chicken containers and collectors, bucketed by
+ * chunk section. Containers register while loaded so collectors can be told
+ * about fresh output instead of sweeping their whole scan cube every tick.
+ * The index only lives on the logical server and is dropped with its level.
+ */
+public final class ChickenContainerIndex {
+    private static final Map<Level, ChickenContainerIndex> INDEXES = new HashMap<>();
+
+    private final SectionBuckets<AbstractChickenContainerBlockEntity> sources = new SectionBuckets<>();
+    private final SectionBuckets<CollectorBlockEntity> collectors = new SectionBuckets<>();
+
+    private ChickenContainerIndex() {
+    }
+
+    public static void init() {
+        NeoForge.EVENT_BUS.addListener(ChickenContainerIndex::onLevelUnload);
+    }
+
+    private static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof Level level) {
+            INDEXES.remove(level);
+        }
+    }
+
+    static ChickenContainerIndex get(Level level) {
+        return INDEXES.computeIfAbsent(level, ignored -> new ChickenContainerIndex());
+    }
+
+    /**
+     * Looks up the index without creating one. Removal paths use this because
+     * block entities are still being discarded after the level unloaded, and
+     * {@link #get} would otherwise resurrect an index nobody clears again.
+     */
+    @Nullable
+    static ChickenContainerIndex getIfPresent(Level level) {
+        return INDEXES.get(level);
+    }
+
+    void addSource(AbstractChickenContainerBlockEntity source) {
+        sources.add(source.getBlockPos(), source);
+        // Announce stock that was already sitting in the container when its
+        // chunk loaded so collectors that loaded first still pick it up.
+        if (source.hasOutputItems()) {
+            onSourceOutputChanged(source);
+        }
+    }
+
+    void removeSource(AbstractChickenContainerBlockEntity source) {
+        sources.remove(source.getBlockPos(), source);
+        // Collectors may still queue or park the source; let them drop it so a
+        // full collector does not keep a broken or unloaded container alive.
+        collectors.forEachInRange(source.getBlockPos(), CollectorBlockEntity.MAX_SCAN_RANGE,
+                collector -> collector.forgetSource(source));
+    }
+
+    void addCollector(CollectorBlockEntity collector) {
+        collectors.add(collector.getBlockPos(), collector);
+    }
+
+    void removeCollector(CollectorBlockEntity collector) {
+        collectors.remove(collector.getBlockPos(), collector);
+    }
+
+    /**
+     * Forwards an output change to every collector whose scan cube could
+     * contain the source. Collectors perform the exact range check.
+     */
+    void onSourceOutputChanged(AbstractChickenContainerBlockEntity source) {
+        collectors.forEachInRange(source.getBlockPos(), CollectorBlockEntity.MAX_SCAN_RANGE,
+                collector -> collector.offerSource(source));
+    }
+
+    void forEachSourceInRange(BlockPos center, int range, Consumer<AbstractChickenContainerBlockEntity> consumer) {
+        sources.forEachInRange(center, range, consumer);
+    }
+}
@@ -1,9 +1,13 @@
 package com.setycz.chickens.blockentity;
 
 import com.setycz.chickens.config.ChickensConfigHolder;
+import com.setycz.chickens.jfr.CollectorSweepEvent;
 import com.setycz.chickens.menu.CollectorMenu;
+import com.setycz.chickens.perf.ChickensProfiler;
 import com.setycz.chickens.registry.ModBlockEntities;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.chat.Component;
 import net.minecraft.util.RandomSource;
 import net.minecraft.util.Mth;
@@ -16,16 +20,46 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Block entity that periodically scans nearby roost-style containers and pulls
  * drops into its own inventory. The logic mirrors the legacy collector while
- * reusing the shared container base for inventory persistence.
+ * reusing the shared container base for inventory persistence. By default the
+ * collector is event driven: containers announce new output through the
+ * {@link ChickenContainerIndex} and the collector only visits those sources,
+ * falling back to the legacy cube sweep when the config disables the index.
+ *
+ * <p>Collectors are sources too, so chains keep working, but in the event
+ * driven mode items only flow one way between two collectors: once this
+ * collector pulled from another, that one no longer pulls back, which would
+ * otherwise bounce the same stacks (and full inventory syncs) every tick.</p>
  */
 public class CollectorBlockEntity extends AbstractChickenContainerBlockEntity {
     public static final int INVENTORY_SIZE = 27;
-    private static final int MAX_SCAN_RANGE = 16;
+    static final int MAX_SCAN_RANGE = 16;
+    private static final int MAX_DISPLAY_ITEMS = 4;
+
+    /** Sources with unclaimed output, visited in round-robin order. */
+    private final ArrayDeque<AbstractChickenContainerBlockEntity> pendingSources = new ArrayDeque<>();
+    private final Set<AbstractChickenContainerBlockEntity> queuedSources = new HashSet<>();
+    /** Sources whose output did not fit; retried once this collector frees space. */
+    private final Set<AbstractChickenContainerBlockEntity> stalledSources = new HashSet<>();
+    /** Collectors this one pulled items from; they never pull from this one in turn. */
+    private final Set<CollectorBlockEntity> upstreamCollectors = new HashSet<>();
+    private boolean collectorIndexed = false;
+    private int indexedRange = -1;
+    // Work done by the current gather pass, reported through CollectorSweepEvent.
+    private int positionsScanned;
+    private int itemsMoved;
+    /** Client-side orbit snapshot; {@code null} until rebuilt after an inventory change. */
+    @Nullable
+    private List<ItemStack> displayStacks;
 
     public CollectorBlockEntity(BlockPos pos, BlockState state) {
         super(ModBlockEntities.COLLECTOR.get(), pos, state, INVENTORY_SIZE, 0);
@@ -35,7 +69,97 @@ public class CollectorBlockEntity extends AbstractChickenContainerBlockEntity {
     protected void runServerTick(Level level) {
         super.runServerTick(level);
         int range = clampRange(ChickensConfigHolder.get().getCollectorScanRange());
+        long profilerStart = ChickensProfiler.begin();
         gatherItems(level, range);
+        ChickensProfiler.end(ChickensProfiler.COLLECTOR_GATHER, profilerStart);
+    }
+
+    @Override
+    protected boolean isClientVisibleSlot(int slot) {
+        // The renderer orbits the stored items, so every slot matters client-side.
+        return true;
+    }
+
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        if (level != null && !level.isClientSide && !collectorIndexed) {
+            collectorIndexed = true;
+            indexedRange = -1;
+            ChickenContainerIndex.get(level).addCollector(this);
+        }
+    }
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        if (collectorIndexed && level != null) {
+            collectorIndexed = false;
+            ChickenContainerIndex index = ChickenContainerIndex.getIfPresent(level);
+            if (index != null) {
+                index.removeCollector(this);
+            }
+        }
+        pendingSources.clear();
+        queuedSources.clear();
+        stalledSources.clear();
+        upstreamCollectors.clear();
+    }
+
+    @Override
+    protected void onOutputSlotsChanged(boolean itemsAdded) {
+        super.onOutputSlotsChanged(itemsAdded);
+        if (!itemsAdded && !stalledSources.isEmpty()) {
+            // Space was freed (hopper, player or comparator-driven extraction),
+            // so give every stalled source another chance on the next tick.
+            for (AbstractChickenContainerBlockEntity source : stalledSources) {
+                enqueue(source);
+            }
+            stalledSources.clear();
+        }
+    }
+
+    /**
+     * Called by the {@link ChickenContainerIndex} when a nearby container
+     * gained output. Sources outside the configured range are ignored.
+     */
+    void offerSource(AbstractChickenContainerBlockEntity source) {
+        if (indexedRange < 0 || !isWithinRange(source.getBlockPos(), indexedRange) || isDownstream(source)) {
+            return;
+        }
+        // Fresh output may be a different item that fits, so un-stall the source.
+        stalledSources.remove(source);
+        enqueue(source);
+    }
+
+    /**
+     * Called by the {@link ChickenContainerIndex} when a nearby container is
+     * broken or unloaded, so it is no longer queued or parked here.
+     */
+    void forgetSource(AbstractChickenContainerBlockEntity source) {
+        stalledSources.remove(source);
+        upstreamCollectors.remove(source);
+        if (queuedSources.remove(source)) {
+            pendingSources.remove(source);
+        }
+    }
+
+    /** True when the source is a collector holding items it pulled from this one. */
+    private boolean isDownstream(AbstractChickenContainerBlockEntity source) {
+        return source instanceof CollectorBlockEntity collector && collector.upstreamCollectors.contains(this);
+    }
+
+    private void enqueue(AbstractChickenContainerBlockEntity source) {
+        if (queuedSources.add(source)) {
+            pendingSources.addLast(source);
+        }
+    }
+
+    private boolean isWithinRange(BlockPos pos, int range) {
+        return Math.abs(pos.getX() - worldPosition.getX()) <= range
+                && Math.abs(pos.getY() - worldPosition.getY()) <= range
+                && Math.abs(pos.getZ() - worldPosition.getZ()) <= range
+                && !pos.equals(worldPosition);
     }
 
     @Override
@@ -77,6 +201,74 @@ public class CollectorBlockEntity extends AbstractChickenContainerBlockEntity {
         if (range <= 0) {
             return;
         }
+        CollectorSweepEvent event = new CollectorSweepEvent();
+        event.begin();
+        positionsScanned = 0;
+        itemsMoved = 0;
+        boolean eventDriven = ChickensConfigHolder.get().isCollectorEventDriven();
+        if (eventDriven) {
+            drainPendingSources(level, range);
+        } else {
+            sweepForItems(level, range);
+        }
+        if (event.shouldCommit()) {
+            event.x = worldPosition.getX();
+            event.y = worldPosition.getY();
+            event.z = worldPosition.getZ();
+            event.range = range;
+            event.eventDriven = eventDriven;
+            event.positionsScanned = positionsScanned;
+            event.itemsMoved = itemsMoved;
+            event.commit();
+        }
+    }
+
+    private void drainPendingSources(Level level, int range) {
+        if (range != indexedRange) {
+            // First tick after loading, or the scan range changed: rebuild the
+            // queue from the index so no pre-existing output is missed.
+            indexedRange = range;
+            pendingSources.clear();
+            queuedSources.clear();
+            stalledSources.clear();
+            ChickenContainerIndex.get(level).forEachSourceInRange(worldPosition, range, source -> {
+                if (source.hasOutputItems()) {
+                    offerSource(source);
+                }
+            });
+        }
+        // Visit each queued source at most once per tick in arrival order so a
+        // busy neighbour cannot starve the rest; idle ticks skip this loop.
+        int visits = pendingSources.size();
+        for (int i = 0; i < visits; i++) {
+            AbstractChickenContainerBlockEntity source = pendingSources.pollFirst();
+            if (source == null) {
+                break;
+            }
+            queuedSources.remove(source);
+            positionsScanned++;
+            if (source.isRemoved() || !isWithinRange(source.getBlockPos(), range) || isDownstream(source)) {
+                continue;
+            }
+            int movedBefore = itemsMoved;
+            boolean stalled = drainContainer(source);
+            if (itemsMoved > movedBefore && source instanceof CollectorBlockEntity collector) {
+                upstreamCollectors.add(collector);
+            }
+            if (stalled) {
+                stalledSources.add(source);
+                if (isOutputInventoryFull()) {
+                    // Nothing else can fit either; park the rest until space frees up.
+                    stalledSources.addAll(pendingSources);
+                    pendingSources.clear();
+                    queuedSources.clear();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void sweepForItems(Level level, int range) {
         // Sweep the entire configured cube (default 9x9x9) each tick to mirror the original mod reach.
         BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
         for (int xOffset = -range; xOffset <= range; xOffset++) {
@@ -86,6 +278,7 @@ public class CollectorBlockEntity extends AbstractChickenContainerBlockEntity {
                         continue;
                     }
                     cursor.setWithOffset(worldPosition, xOffset, yOffset, zOffset);
+                    positionsScanned++;
                     if (!level.hasChunkAt(cursor)) {
                         continue;
                     }
@@ -113,6 +306,7 @@ public class CollectorBlockEntity extends AbstractChickenContainerBlockEntity {
                     return true;
                 }
                 other.removeItem(slot, transferred);
+                itemsMoved += transferred;
                 if (isOutputInventoryFull()) {
                     return true;
                 }
@@ -122,6 +316,62 @@ public class CollectorBlockEntity extends AbstractChickenContainerBlockEntity {
         return false;
     }
 
+    /**
+     * Up to {@link #MAX_DISPLAY_ITEMS} distinct stored items, one of each, for
+     * the renderer's orbit. The list is built once after the client-side
+     * inventory changes and reused every frame until the next sync.
+     */
+    public List<ItemStack> getDisplayStacks() {
+        List<ItemStack> snapshot = displayStacks;
+        if (snapshot == null) {
+            snapshot = collectDisplayStacks();
+            displayStacks = snapshot;
+        }
+        return snapshot;
+    }
+
+    private List<ItemStack> collectDisplayStacks() {
+        List<ItemStack> result = new ArrayList<>(MAX_DISPLAY_ITEMS);
+        for (ItemStack stack : getItems()) {
+            if (stack.isEmpty() || containsSameItem(result, stack)) {
+                continue;
+            }
+            // Render a single item so the orbit stays readable regardless of the real stack size.
+            result.add(stack.copyWithCount(1));
+            if (result.size() >= MAX_DISPLAY_ITEMS) {
+                break;
+            }
+        }
+        return List.copyOf(result);
+    }
+
+    private static boolean containsSameItem(List<ItemStack> stacks, ItemStack stack) {
+        for (ItemStack existing : stacks) {
+            if (ItemStack.isSameItemSameComponents(existing, stack)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void readClientSync(RegistryFriendlyByteBuf buffer) {
+        super.readClientSync(buffer);
+        displayStacks = null;
+    }
+
+    @Override
+    protected void loadAdditional(CompoundTag tag, HolderLookup.Provider registries) {
+        super.loadAdditional(tag, registries);
+        displayStacks = null;
+    }
+
+    @Override
+    public void setChanged() {
+        super.setChanged();
+        displayStacks = null;
+    }
+
     @Override
     public void storeTooltipData(CompoundTag tag) {
         super.storeTooltipData(tag);
@@ -1,6 +1,8 @@
 package com.setycz.chickens.blockentity;
 
+import com.setycz.chickens.jfr.HenhouseSearchEvent;
 import com.setycz.chickens.menu.HenhouseMenu;
+import com.setycz.chickens.perf.ChickensProfiler;
 import com.setycz.chickens.registry.ModBlockEntities;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -89,21 +91,63 @@ public class HenhouseBlockEntity extends BlockEntity implements WorldlyContainer
     private int energy;
     @Nullable
     private Component customName;
+    private boolean indexed;
 
     public HenhouseBlockEntity(BlockPos pos, BlockState state) {
         super(ModBlockEntities.HENHOUSE.get(), pos, state);
     }
 
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        if (level != null && !level.isClientSide && !indexed) {
+            indexed = true;
+            HenhouseIndex.get(level).add(this);
+        }
+    }
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        if (indexed && level != null) {
+            indexed = false;
+            HenhouseIndex index = HenhouseIndex.getIfPresent(level);
+            if (index != null) {
+                index.remove(this);
+            }
+        }
+    }
+
     /**
      * Attempts to push the provided stack into nearby henhouses. This mirrors the
      * static helper from the legacy tile entity so chickens can deliver eggs
      * before falling back to spawning them in the world.
      */
     public static ItemStack pushItemStack(ItemStack stack, Level level, Vec3 origin) {
+        return pushItemStack(stack, level, origin, null);
+    }
+
+    /**
+     * Variant of {@link #pushItemStack(ItemStack, Level, Vec3)} that reuses the
+     * caller's previous henhouse lookup while nothing changed around it.
+     */
+    public static ItemStack pushItemStack(ItemStack stack, Level level, Vec3 origin,
+            @Nullable HenhouseIndex.NearbyCache cache) {
         if (stack.isEmpty() || level.isClientSide) {
             return stack;
         }
-        List<HenhouseBlockEntity> henhouses = findHenhouses(level, origin, SEARCH_RADIUS);
+        long profilerStart = ChickensProfiler.begin();
+        ItemStack remaining = pushIntoNearest(stack, level, origin, cache);
+        ChickensProfiler.end(ChickensProfiler.HENHOUSE_PUSH, profilerStart);
+        return remaining;
+    }
+
+    private static ItemStack pushIntoNearest(ItemStack stack, Level level, Vec3 origin,
+            @Nullable HenhouseIndex.NearbyCache cache) {
+        List<HenhouseBlockEntity> henhouses = findHenhouses(level, origin, SEARCH_RADIUS, cache);
+        if (henhouses.isEmpty()) {
+            return stack;
+        }
         ItemStack remaining = stack.copy();
         for (HenhouseBlockEntity henhouse : henhouses) {
             remaining = henhouse.pushIntoInventory(remaining);
@@ -114,7 +158,24 @@ public class HenhouseBlockEntity extends BlockEntity implements WorldlyContainer
         return remaining;
     }
 
-    private static List<HenhouseBlockEntity> findHenhouses(Level level, Vec3 origin, double radius) {
+    private static List<HenhouseBlockEntity> findHenhouses(Level level, Vec3 origin, double radius,
+            @Nullable HenhouseIndex.NearbyCache cache) {
+        HenhouseSearchEvent event = new HenhouseSearchEvent();
+        event.begin();
+        List<HenhouseBlockEntity> result = searchHenhouses(level, origin, radius, cache, event);
+        if (event.shouldCommit()) {
+            event.x = origin.x;
+            event.y = origin.y;
+            event.z = origin.z;
+            event.matches = result.size();
+            event.cached = cache != null;
+            event.commit();
+        }
+        return result;
+    }
+
+    private static List<HenhouseBlockEntity> searchHenhouses(Level level, Vec3 origin, double radius,
+            @Nullable HenhouseIndex.NearbyCache cache, HenhouseSearchEvent event) {
         int minX = Mth.floor((origin.x - radius - MAX_ENTITY_RADIUS));
         int maxX = Mth.ceil((origin.x + radius + MAX_ENTITY_RADIUS));
         int minY = Mth.floor((origin.y - radius - MAX_ENTITY_RADIUS));
@@ -122,25 +183,26 @@ public class HenhouseBlockEntity extends BlockEntity implements WorldlyContainer
         int minZ = Mth.floor((origin.z - radius - MAX_ENTITY_RADIUS));
         int maxZ = Mth.ceil((origin.z + radius + MAX_ENTITY_RADIUS));
 
-        List<Double> distances = new ArrayList<>();
-        List<HenhouseBlockEntity> result = new ArrayList<>();
-        BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
-        for (int x = minX; x <= maxX; x++) {
-            for (int y = minY; y <= maxY; y++) {
-                for (int z = minZ; z <= maxZ; z++) {
-                    cursor.set(x, y, z);
-                    BlockEntity blockEntity = level.getBlockEntity(cursor);
-                    if (!(blockEntity instanceof HenhouseBlockEntity henhouse)) {
-                        continue;
-                    }
-                    Vec3 target = Vec3.atLowerCornerOf(cursor).add(HENHOUSE_RADIUS, HENHOUSE_RADIUS, HENHOUSE_RADIUS);
-                    if (!isWithinRange(origin, target, radius)) {
-                        continue;
-                    }
-                    double distance = target.distanceTo(origin);
-                    insertSorted(result, distances, henhouse, distance);
-                }
+        // The index only hands back henhouses from the handful of sections the
+        // box touches, so the exact range filter below runs over a tiny list.
+        List<HenhouseBlockEntity> candidates = HenhouseIndex.get(level).candidates(minX, minY, minZ, maxX, maxY, maxZ,
+                cache);
+        event.candidates = candidates.size();
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        List<Double> distances = new ArrayList<>(candidates.size());
+        List<HenhouseBlockEntity> result = new ArrayList<>(candidates.size());
+        for (HenhouseBlockEntity henhouse : candidates) {
+            if (henhouse.isRemoved()) {
+                continue;
+            }
+            Vec3 target = Vec3.atLowerCornerOf(henhouse.worldPosition).add(HENHOUSE_RADIUS, HENHOUSE_RADIUS,
+                    HENHOUSE_RADIUS);
+            if (!isWithinRange(origin, target, radius)) {
+                continue;
             }
+            insertSorted(result, distances, henhouse, target.distanceTo(origin));
         }
         return result;
     }
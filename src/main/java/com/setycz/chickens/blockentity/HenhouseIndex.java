@@ -0,0 +1,118 @@
+package com.setycz.chickens.blockentity;
+
+import net.minecraft.world.level.Level;
+import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.level.LevelEvent;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-level registry of loaded henhouses keyed by chunk section. Chickens ask
+ * it for the henhouses around them when laying instead of probing every block
+ * in their delivery box, and may keep a {@link NearbyCache} that stays valid
+ * until a henhouse is placed, broken or unloaded in the sections it covers.
+ */
+public final class HenhouseIndex {
+    private static final Map<Level, HenhouseIndex> INDEXES = new HashMap<>();
+
+    private final SectionBuckets<HenhouseBlockEntity> henhouses = new SectionBuckets<>();
+
+    private HenhouseIndex() {
+    }
+
+    public static void init() {
+        NeoForge.EVENT_BUS.addListener(HenhouseIndex::onLevelUnload);
+    }
+
+    private static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof Level level) {
+            INDEXES.remove(level);
+        }
+    }
+
+    static HenhouseIndex get(Level level) {
+        return INDEXES.computeIfAbsent(level, ignored -> new HenhouseIndex());
+    }
+
+    /**
+     * Looks up the index without creating one, for removals that may run
+     * after the level unloaded and the index was already dropped.
+     */
+    @Nullable
+    static HenhouseIndex getIfPresent(Level level) {
+        return INDEXES.get(level);
+    }
+
+    void add(HenhouseBlockEntity henhouse) {
+        henhouses.add(henhouse.getBlockPos(), henhouse);
+    }
+
+    void remove(HenhouseBlockEntity henhouse) {
+        henhouses.remove(henhouse.getBlockPos(), henhouse);
+    }
+
+    /**
+     * Returns every henhouse stored in the sections overlapping the block box.
+     * Callers still apply their exact range check. When a cache is supplied
+     * the previous answer is reused as long as the box maps onto the same
+     * sections and none of them changed since.
+     */
+    List<HenhouseBlockEntity> candidates(int minX, int minY, int minZ, int maxX, int maxY, int maxZ,
+            @Nullable NearbyCache cache) {
+        if (henhouses.isEmpty()) {
+            return List.of();
+        }
+        long stamp = henhouses.stampInBox(minX, minY, minZ, maxX, maxY, maxZ);
+        if (cache != null && cache.matches(this, stamp, minX, minY, minZ, maxX, maxY, maxZ)) {
+            return cache.candidates;
+        }
+        List<HenhouseBlockEntity> result = new ArrayList<>();
+        henhouses.forEachInBox(minX, minY, minZ, maxX, maxY, maxZ, result::add);
+        if (cache != null) {
+            cache.store(this, stamp, minX, minY, minZ, maxX, maxY, maxZ, result);
+        }
+        return result;
+    }
+
+    /**
+     * Per-caller memo of the last henhouse lookup. Chickens hold one so the
+     * repeated deliveries of a single lay, and every lay while they stay in
+     * the same sections, skip the index walk entirely.
+     */
+    public static final class NearbyCache {
+        @Nullable
+        private HenhouseIndex owner;
+        private long stamp = -1L;
+        private int minSectionX;
+        private int minSectionY;
+        private int minSectionZ;
+        private int maxSectionX;
+        private int maxSectionY;
+        private int maxSectionZ;
+        private List<HenhouseBlockEntity> candidates = List.of();
+
+        private boolean matches(HenhouseIndex index, long currentStamp, int minX, int minY, int minZ,
+                int maxX, int maxY, int maxZ) {
+            return owner == index && stamp == currentStamp
+                    && minSectionX == (minX >> 4) && minSectionY == (minY >> 4) && minSectionZ == (minZ >> 4)
+                    && maxSectionX == (maxX >> 4) && maxSectionY == (maxY >> 4) && maxSectionZ == (maxZ >> 4);
+        }
+
+        private void store(HenhouseIndex index, long currentStamp, int minX, int minY, int minZ,
+                int maxX, int maxY, int maxZ, List<HenhouseBlockEntity> result) {
+            owner = index;
+            stamp = currentStamp;
+            minSectionX = minX >> 4;
+            minSectionY = minY >> 4;
+            minSectionZ = minZ >> 4;
+            maxSectionX = maxX >> 4;
+            maxSectionY = maxY >> 4;
+            maxSectionZ = maxZ >> 4;
+            candidates = result;
+        }
+    }
+}
@@ -6,6 +6,8 @@ import com.setycz.chickens.config.ChickensConfigHolder;
 import com.setycz.chickens.item.ChickenItemHelper;
 import com.setycz.chickens.item.ChickensSpawnEggItem;
 import com.setycz.chickens.menu.IncubatorMenu;
+import com.setycz.chickens.network.BlockEntitySyncPayload;
+import com.setycz.chickens.network.ClientSyncedBlockEntity;
 import com.setycz.chickens.registry.ModBlockEntities;
 import com.setycz.chickens.registry.ModRegistry;
 import net.minecraft.core.BlockPos;
@@ -15,6 +17,7 @@ import net.minecraft.core.NonNullList;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtOps;
 import net.minecraft.nbt.Tag;
+import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.ComponentSerialization;
 import net.minecraft.util.Mth;
@@ -40,7 +43,8 @@ import javax.annotation.Nullable;
  * small RF buffer, and incubation progress so automation mods can interact
  * with the machine using vanilla container and NeoForge energy capabilities.
  */
-public class IncubatorBlockEntity extends BlockEntity implements WorldlyContainer, MenuProvider {
+public class IncubatorBlockEntity extends BlockEntity implements WorldlyContainer, MenuProvider,
+        ClientSyncedBlockEntity {
     public static final int SLOT_COUNT = 2;
     private static final int INPUT_SLOT = 0;
     private static final int OUTPUT_SLOT = 1;
@@ -56,10 +60,13 @@ public class IncubatorBlockEntity extends BlockEntity implements WorldlyContaine
     private int capacity = DEFAULT_ENERGY_CAPACITY;
     private int maxReceive = DEFAULT_ENERGY_MAX_RECEIVE;
     private final MachineEnergyStorage energyStorage = new MachineEnergyStorage();
+    private final NeighborCapabilityCache<IEnergyStorage> energyNeighbors =
+            new NeighborCapabilityCache<>(Capabilities.EnergyStorage.BLOCK, this);
     private int progress;
     private int energyReserved;
     private int cachedEnergyCost = DEFAULT_ENERGY_COST;
     private boolean cachedActiveState;
+    private boolean clientSyncPending;
     @Nullable
     private Component customName;
 
@@ -71,6 +78,7 @@ public class IncubatorBlockEntity extends BlockEntity implements WorldlyContaine
 
     public static void serverTick(Level level, BlockPos pos, BlockState state, IncubatorBlockEntity incubator) {
         incubator.tickServer(level);
+        incubator.flushClientSync();
     }
 
     private void tickServer(Level level) {
@@ -220,12 +228,32 @@ public class IncubatorBlockEntity extends BlockEntity implements WorldlyContaine
     private void markEnergyDirty() {
         setChanged();
         if (level != null && !level.isClientSide) {
-            BlockState state = getBlockState();
-            level.sendBlockUpdated(worldPosition, state, state, Block.UPDATE_CLIENTS);
-            level.updateNeighbourForOutputSignal(worldPosition, state.getBlock());
+            clientSyncPending = true;
         }
     }
 
+    // The incubator draws power every working tick, so the comparator update
+    // and client payload are deferred to once per tick instead of per transfer.
+    private void flushClientSync() {
+        if (!clientSyncPending || level == null) {
+            return;
+        }
+        clientSyncPending = false;
+        level.updateNeighbourForOutputSignal(worldPosition, getBlockState().getBlock());
+        int stored = energyStorage.getEnergyStored();
+        int currentProgress = progress;
+        BlockEntitySyncPayload.sendToTracking(this, buffer -> {
+            buffer.writeVarInt(stored);
+            buffer.writeVarInt(currentProgress);
+        });
+    }
+
+    @Override
+    public void readClientSync(RegistryFriendlyByteBuf buffer) {
+        energyStorage.setEnergy(buffer.readVarInt());
+        progress = Mth.clamp(buffer.readVarInt(), 0, MAX_PROGRESS);
+    }
+
     private boolean pullEnergyFromNeighbors(Level level) {
         if (energyStorage.getEnergyStored() >= capacity || maxReceive <= 0) {
             return false;
@@ -235,8 +263,7 @@ public class IncubatorBlockEntity extends BlockEntity implements WorldlyContaine
             if (energyStorage.getEnergyStored() >= capacity) {
                 break;
             }
-            IEnergyStorage neighbor = level.getCapability(Capabilities.EnergyStorage.BLOCK,
-                    worldPosition.relative(direction), direction.getOpposite());
+            IEnergyStorage neighbor = energyNeighbors.get(level, direction);
             if (neighbor == null) {
                 continue;
             }
@@ -245,6 +272,7 @@ public class IncubatorBlockEntity extends BlockEntity implements WorldlyContaine
                 break;
             }
             int available = neighbor.extractEnergy(space, true);
+            energyNeighbors.report(level, direction, available > 0);
             if (available <= 0) {
                 continue;
             }
@@ -0,0 +1,89 @@
+package com.setycz.chickens.blockentity;
+
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.neoforged.neoforge.capabilities.BlockCapability;
+import net.neoforged.neoforge.capabilities.BlockCapabilityCache;
+
+import javax.annotation.Nullable;
+
+/**
+ * Per-side neighbour capability lookups for a machine that pushes or pulls
+ * through all six faces. Each side keeps a {@link BlockCapabilityCache}, so
+ * the handler is only resolved again after the neighbouring block changes;
+ * sides without a handler are skipped outright until then. Sides whose
+ * handler keeps refusing transfers are polled with an exponential back-off
+ * instead of every tick, and any topology change resets that back-off.
+ */
+final class NeighborCapabilityCache<T> {
+    private static final Direction[] SIDES = Direction.values();
+    /** Consecutive idle transfers tolerated before a side starts backing off. */
+    private static final int IDLE_THRESHOLD = 4;
+    private static final int MAX_BACKOFF_TICKS = 20;
+
+    private final BlockCapability<T, Direction> capability;
+    private final BlockEntity owner;
+    @SuppressWarnings("unchecked")
+    private final BlockCapabilityCache<T, Direction>[] caches = new BlockCapabilityCache[SIDES.length];
+    private final boolean[] knownEmpty = new boolean[SIDES.length];
+    private final int[] idleTransfers = new int[SIDES.length];
+    private final long[] retryAt = new long[SIDES.length];
+
+    NeighborCapabilityCache(BlockCapability<T, Direction> capability, BlockEntity owner) {
+        this.capability = capability;
+        this.owner = owner;
+    }
+
+    /**
+     * Returns the neighbour's handler facing this machine, or {@code null} if
+     * the side has none or is currently backing off.
+     */
+    @Nullable
+    T get(Level level, Direction side) {
+        if (!(level instanceof ServerLevel serverLevel)) {
+            return null;
+        }
+        int index = side.ordinal();
+        if (knownEmpty[index] || level.getGameTime() < retryAt[index]) {
+            return null;
+        }
+        BlockCapabilityCache<T, Direction> cache = caches[index];
+        if (cache == null || cache.level() != serverLevel) {
+            cache = BlockCapabilityCache.create(capability, serverLevel, owner.getBlockPos().relative(side),
+                    side.getOpposite(), () -> !owner.isRemoved(), () -> onInvalidated(index));
+            caches[index] = cache;
+        }
+        T handler = cache.getCapability();
+        if (handler == null) {
+            knownEmpty[index] = true;
+        }
+        return handler;
+    }
+
+    /**
+     * Records whether the last transfer on the side moved anything. Only call
+     * this when the machine itself had something to offer or room to accept,
+     * so an idle side reflects the neighbour rather than this machine.
+     */
+    void report(Level level, Direction side, boolean moved) {
+        int index = side.ordinal();
+        if (moved) {
+            idleTransfers[index] = 0;
+            retryAt[index] = 0L;
+            return;
+        }
+        int idle = ++idleTransfers[index];
+        if (idle >= IDLE_THRESHOLD) {
+            int shift = Math.min(idle - IDLE_THRESHOLD, 5);
+            retryAt[index] = level.getGameTime() + Math.min(1 << shift, MAX_BACKOFF_TICKS);
+        }
+    }
+
+    private void onInvalidated(int index) {
+        knownEmpty[index] = false;
+        idleTransfers[index] = 0;
+        retryAt[index] = 0L;
+    }
+}
@@ -32,8 +32,9 @@ import javax.annotation.Nullable;
 /**
  * Block entity backing the rooster nest. It stores a stack of rooster items
  * alongside a seed buffer that is slowly consumed to power the rooster aura.
- * The aura itself is evaluated by nearby roosts via
- * {@link #getActiveRoosterCount()} and {@link #hasActiveAura()}.
+ * The nest publishes its contribution to the level's {@link RoosterAuraField}
+ * whenever {@link #hasActiveAura()} or the rooster count changes, and nearby
+ * roosts read the aggregated value from there.
  */
 public class NestBlockEntity extends BlockEntity implements WorldlyContainer, MenuProvider {
     public static final int ROOSTER_SLOT = 0;
@@ -44,6 +45,11 @@ public class NestBlockEntity extends BlockEntity implements WorldlyContainer, Me
     private final NonNullList<ItemStack> items = NonNullList.withSize(INVENTORY_SIZE, ItemStack.EMPTY);
     /** Remaining ticks of aura powered by the currently consumed seed. */
     private int seedTicksRemaining = 0;
+    /** Cached rooster count; -1 means the rooster slot changed since the last read. */
+    private int cachedRoosterCount = -1;
+    /** Roosters last published to the {@link RoosterAuraField}. */
+    private int publishedAura = 0;
+    private boolean auraIndexed = false;
 
     public NestBlockEntity(BlockPos pos, BlockState state) {
         super(ModBlockEntities.NEST.get(), pos, state);
@@ -69,6 +75,50 @@ public class NestBlockEntity extends BlockEntity implements WorldlyContainer, Me
             BlockState state = getBlockState();
             level.sendBlockUpdated(worldPosition, state, state, net.minecraft.world.level.block.Block.UPDATE_ALL);
         }
+        publishAura(level);
+    }
+
+    /**
+     * Pushes this nest's current contribution into the level's aura field.
+     * The field only notifies roosts when the number actually changes, so
+     * calling this every tick costs a single comparison while idle.
+     */
+    private void publishAura(Level level) {
+        int contribution = auraIndexed && hasActiveAura() ? getRoosterCount() : 0;
+        if (contribution != publishedAura) {
+            publishedAura = contribution;
+            RoosterAuraField.get(level).setContribution(worldPosition, contribution);
+        }
+    }
+
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        if (level != null && !level.isClientSide) {
+            auraIndexed = true;
+            publishAura(level);
+        }
+    }
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        if (auraIndexed && level != null) {
+            auraIndexed = false;
+            RoosterAuraField field = RoosterAuraField.getIfPresent(level);
+            if (field != null && publishedAura != 0) {
+                field.setContribution(worldPosition, 0);
+            }
+            publishedAura = 0;
+        }
+    }
+
+    @Override
+    public void setChanged() {
+        // Every inventory path (menus, hoppers, direct interaction) ends here,
+        // so this is the one place the rooster count cache must be dropped.
+        cachedRoosterCount = -1;
+        super.setChanged();
     }
 
     private void updateSeedFuel() {
@@ -105,6 +155,13 @@ public class NestBlockEntity extends BlockEntity implements WorldlyContainer, Me
      * nest. Only rooster stacks in {@link #ROOSTER_SLOT} are counted.
      */
     public int getRoosterCount() {
+        if (cachedRoosterCount < 0) {
+            cachedRoosterCount = computeRoosterCount();
+        }
+        return cachedRoosterCount;
+    }
+
+    private int computeRoosterCount() {
         ItemStack stack = items.get(ROOSTER_SLOT);
         if (stack.isEmpty() || !ChickenItemHelper.isRooster(stack)) {
             return 0;
@@ -217,6 +274,7 @@ public class NestBlockEntity extends BlockEntity implements WorldlyContainer, Me
     @Override
     public ItemStack removeItem(int index, int count) {
         ItemStack removed = ContainerHelper.removeItem(items, index, count);
+        cachedRoosterCount = -1;
         if (!removed.isEmpty()) {
             setChanged();
         }
@@ -226,6 +284,7 @@ public class NestBlockEntity extends BlockEntity implements WorldlyContainer, Me
     @Override
     public ItemStack removeItemNoUpdate(int index) {
         ItemStack removed = ContainerHelper.takeItem(items, index);
+        cachedRoosterCount = -1;
         if (!removed.isEmpty()) {
             setChanged();
         }
@@ -235,6 +294,7 @@ public class NestBlockEntity extends BlockEntity implements WorldlyContainer, Me
     @Override
     public void setItem(int index, ItemStack stack) {
         items.set(index, stack);
+        cachedRoosterCount = -1;
         if (index == ROOSTER_SLOT) {
             // Clamp rooster stacks against the configurable nest maximum.
             int max = ChickensConfigHolder.get().getNestMaxRoosters();
@@ -329,6 +389,7 @@ public class NestBlockEntity extends BlockEntity implements WorldlyContainer, Me
         super.loadAdditional(tag, provider);
         ContainerHelper.loadAllItems(tag, items, provider);
         seedTicksRemaining = tag.getInt("SeedTicks");
+        cachedRoosterCount = -1;
     }
 
     // ---------------------------------------------------------------------
@@ -3,8 +3,8 @@ package com.setycz.chickens.blockentity;
 import com.setycz.chickens.ChickensRegistry;
 import com.setycz.chickens.ChickensRegistryItem;
 import com.setycz.chickens.config.ChickensConfigHolder;
+import com.setycz.chickens.config.ChickensConfigValues;
 import com.setycz.chickens.item.ChickenItemHelper;
-import com.setycz.chickens.blockentity.NestBlockEntity;
 import com.setycz.chickens.item.ChickenStats;
 import com.setycz.chickens.menu.RoostMenu;
 import com.setycz.chickens.registry.ModBlockEntities;
@@ -14,15 +14,16 @@ import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.Containers;
-import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.inventory.ContainerData;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.util.RandomSource;
 
+import javax.annotation.Nullable;
 import java.util.List;
 
 /**
@@ -34,6 +35,12 @@ public class RoostBlockEntity extends AbstractChickenContainerBlockEntity {
     public static final int CHICKEN_SLOT = 0;
     private static final int MAX_CHICKENS = 16;
 
+    private int auraRoosters = 0;
+    private boolean auraIndexed = false;
+    /** Config snapshot {@link #auraRoosters} was counted against; reloads swap the instance. */
+    @Nullable
+    private ChickensConfigValues auraConfig;
+
     public RoostBlockEntity(BlockPos pos, BlockState state) {
         super(ModBlockEntities.ROOST.get(), pos, state, INVENTORY_SIZE, 1);
     }
@@ -56,9 +63,22 @@ public class RoostBlockEntity extends AbstractChickenContainerBlockEntity {
         return 0;
     }
 
+    @Override
+    protected void runServerTick(Level level) {
+        ChickensConfigValues config = ChickensConfigHolder.get();
+        if (auraIndexed && config != auraConfig) {
+            refreshAura(level, config);
+        }
+        super.runServerTick(level);
+    }
+
     @Override
     protected double speedMultiplier() {
-        double base = ChickensConfigHolder.get().getRoostSpeedMultiplier();
+        return speedMultiplier(ChickensConfigHolder.get(), auraRoosters);
+    }
+
+    private double speedMultiplier(ChickensConfigValues config, int activeRoosters) {
+        double base = config.getRoostSpeedMultiplier();
 
         // So the production rate can be changed per chicken in chicken.cfg
         double chickenLayCoeffient = 1.0;
@@ -67,12 +87,11 @@ public class RoostBlockEntity extends AbstractChickenContainerBlockEntity {
         }
 
 
-        double auraMultiplier = ChickensConfigHolder.get().getRoosterAuraMultiplier();
-        int auraRange = ChickensConfigHolder.get().getRoosterAuraRange();
+        double auraMultiplier = config.getRoosterAuraMultiplier();
+        int auraRange = config.getRoosterAuraRange();
         if (auraRange <= 0 || auraMultiplier <= 1.0D || level == null) {
             return base;
         }
-        int activeRoosters = countActiveRoostersInNests(level, worldPosition, auraRange);
         if (activeRoosters <= 0) {
             return base;
         }
@@ -85,25 +104,62 @@ public class RoostBlockEntity extends AbstractChickenContainerBlockEntity {
         return (base * Math.max(totalMultiplier, 0.0D)) * chickenLayCoeffient;
     }
 
-    private static int countActiveRoostersInNests(net.minecraft.world.level.Level level, BlockPos origin, int range) {
-        BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
-        int total = 0;
-        for (int dx = -range; dx <= range; dx++) {
-            for (int dy = -1; dy <= 1; dy++) {
-                for (int dz = -range; dz <= range; dz++) {
-                    cursor.set(origin.getX() + dx, origin.getY() + dy, origin.getZ() + dz);
-                    BlockEntity blockEntity = level.getBlockEntity(cursor);
-                    if (!(blockEntity instanceof NestBlockEntity nest)) {
-                        continue;
-                    }
-                    if (!nest.hasActiveAura()) {
-                        continue;
-                    }
-                    total += Math.max(0, nest.getRoosterCount());
-                }
+    /**
+     * Number of roosters in active nests within aura range, maintained by the
+     * level's {@link RoosterAuraField} rather than probed from the world.
+     */
+    int getAuraRoosters() {
+        return auraRoosters;
+    }
+
+    /**
+     * Change listener invoked by the {@link RoosterAuraField} when a nest in
+     * range gains or loses its aura. The running cycle is re-timed so the new
+     * speed applies immediately instead of only after the next drop.
+     */
+    void onAuraChanged(int roosters) {
+        int clamped = Math.max(roosters, 0);
+        if (clamped == auraRoosters) {
+            return;
+        }
+        double previousMultiplier = speedMultiplier();
+        auraRoosters = clamped;
+        rescheduleForSpeedChange(previousMultiplier);
+    }
+
+    /**
+     * Re-counts the aura after the config was reloaded, since the aura range
+     * decides which nests reach this roost. The running cycle is re-timed
+     * from the speed the previous config produced.
+     */
+    private void refreshAura(Level level, ChickensConfigValues config) {
+        ChickensConfigValues previous = auraConfig;
+        auraConfig = config;
+        double previousMultiplier = previous != null ? speedMultiplier(previous, auraRoosters) : speedMultiplier();
+        auraRoosters = RoosterAuraField.get(level).countRoosters(this);
+        rescheduleForSpeedChange(previousMultiplier);
+    }
+
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        if (level != null && !level.isClientSide && !auraIndexed) {
+            auraIndexed = true;
+            auraConfig = ChickensConfigHolder.get();
+            auraRoosters = RoosterAuraField.get(level).addRoost(this);
+        }
+    }
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        if (auraIndexed && level != null) {
+            auraIndexed = false;
+            RoosterAuraField field = RoosterAuraField.getIfPresent(level);
+            if (field != null) {
+                field.removeRoost(this);
             }
         }
-        return total;
     }
 
     @Override
@@ -0,0 +1,126 @@
+package com.setycz.chickens.blockentity;
+
+import com.setycz.chickens.config.ChickensConfigHolder;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.level.LevelEvent;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-level rooster aura bookkeeping. Nests publish how many roosters they
+ * currently contribute (zero while unfuelled or empty) and the field pushes
+ * the difference to every registered roost inside the aura box, so a roost
+ * never has to probe the world for nests when it re-times its cycle.
+ */
+public final class RoosterAuraField {
+    private static final Map<Level, RoosterAuraField> FIELDS = new HashMap<>();
+
+    /** Contributing rooster count keyed by nest position; inactive nests are absent. */
+    private final Long2IntMap contributions = new Long2IntOpenHashMap();
+    private final SectionBuckets<BlockPos> activeNests = new SectionBuckets<>();
+    private final SectionBuckets<RoostBlockEntity> roosts = new SectionBuckets<>();
+
+    private RoosterAuraField() {
+    }
+
+    public static void init() {
+        NeoForge.EVENT_BUS.addListener(RoosterAuraField::onLevelUnload);
+    }
+
+    private static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof Level level) {
+            FIELDS.remove(level);
+        }
+    }
+
+    static RoosterAuraField get(Level level) {
+        return FIELDS.computeIfAbsent(level, ignored -> new RoosterAuraField());
+    }
+
+    /**
+     * Looks up the field without creating one, for roosts and nests that are
+     * discarded after the level unloaded and the field was already dropped.
+     */
+    @Nullable
+    static RoosterAuraField getIfPresent(Level level) {
+        return FIELDS.get(level);
+    }
+
+    /**
+     * Records the number of roosters a nest contributes and notifies every
+     * roost whose aura box contains it. Passing zero retires the nest.
+     */
+    void setContribution(BlockPos nestPos, int roosters) {
+        long key = nestPos.asLong();
+        int previous = contributions.get(key);
+        int next = Math.max(roosters, 0);
+        if (previous == next) {
+            return;
+        }
+        if (next == 0) {
+            contributions.remove(key);
+            activeNests.remove(nestPos, nestPos);
+        } else {
+            contributions.put(key, next);
+            if (previous == 0) {
+                activeNests.add(nestPos, nestPos.immutable());
+            }
+        }
+        int delta = next - previous;
+        int range = auraRange();
+        roosts.forEachInBox(nestPos.getX() - range, nestPos.getY() - 1, nestPos.getZ() - range,
+                nestPos.getX() + range, nestPos.getY() + 1, nestPos.getZ() + range, roost -> {
+                    if (isInAura(roost.getBlockPos(), nestPos, range)) {
+                        roost.onAuraChanged(roost.getAuraRoosters() + delta);
+                    }
+                });
+    }
+
+    /**
+     * Registers a roost and returns the roosters currently boosting it.
+     */
+    int addRoost(RoostBlockEntity roost) {
+        roosts.add(roost.getBlockPos(), roost);
+        return countRoostersAround(roost.getBlockPos());
+    }
+
+    /**
+     * Counts the roosters boosting an already registered roost with the
+     * current aura range, used when a config reload changed that range.
+     */
+    int countRoosters(RoostBlockEntity roost) {
+        return countRoostersAround(roost.getBlockPos());
+    }
+
+    void removeRoost(RoostBlockEntity roost) {
+        roosts.remove(roost.getBlockPos(), roost);
+    }
+
+    private int countRoostersAround(BlockPos origin) {
+        int range = auraRange();
+        int[] total = new int[1];
+        activeNests.forEachInBox(origin.getX() - range, origin.getY() - 1, origin.getZ() - range,
+                origin.getX() + range, origin.getY() + 1, origin.getZ() + range, nestPos -> {
+                    if (isInAura(origin, nestPos, range)) {
+                        total[0] += contributions.get(nestPos.asLong());
+                    }
+                });
+        return total[0];
+    }
+
+    private static boolean isInAura(BlockPos roost, BlockPos nest, int range) {
+        return Math.abs(roost.getX() - nest.getX()) <= range
+                && Math.abs(roost.getY() - nest.getY()) <= 1
+                && Math.abs(roost.getZ() - nest.getZ()) <= range;
+    }
+
+    private static int auraRange() {
+        return Math.max(ChickensConfigHolder.get().getRoosterAuraRange(), 0);
+    }
+}
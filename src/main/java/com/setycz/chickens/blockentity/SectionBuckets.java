@@ -0,0 +1,96 @@
+package com.setycz.chickens.blockentity;
+
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Chunk-section buckets shared by the per-level block entity indexes. Every
+ * edit stamps the touched section with a counter that only moves forward,
+ * so callers can cheaply tell whether anything changed inside a box of
+ * sections since they last looked.
+ */
+final class SectionBuckets<T> {
+    private final Long2ObjectMap<List<T>> buckets = new Long2ObjectOpenHashMap<>();
+    private final Long2LongMap stamps = new Long2LongOpenHashMap();
+    private long nextStamp = 1L;
+
+    boolean isEmpty() {
+        return buckets.isEmpty();
+    }
+
+    void add(BlockPos pos, T entry) {
+        long key = SectionPos.asLong(pos);
+        List<T> bucket = buckets.computeIfAbsent(key, ignored -> new ArrayList<>());
+        if (!bucket.contains(entry)) {
+            bucket.add(entry);
+            stamps.put(key, nextStamp++);
+        }
+    }
+
+    void remove(BlockPos pos, T entry) {
+        long key = SectionPos.asLong(pos);
+        List<T> bucket = buckets.get(key);
+        if (bucket == null || !bucket.remove(entry)) {
+            return;
+        }
+        stamps.put(key, nextStamp++);
+        if (bucket.isEmpty()) {
+            buckets.remove(key);
+        }
+    }
+
+    /**
+     * Visits every entry stored in the sections overlapping the given block
+     * box (inclusive). Entries are not filtered by their exact position.
+     */
+    void forEachInBox(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, Consumer<T> consumer) {
+        if (buckets.isEmpty()) {
+            return;
+        }
+        for (int x = SectionPos.blockToSectionCoord(minX); x <= SectionPos.blockToSectionCoord(maxX); x++) {
+            for (int y = SectionPos.blockToSectionCoord(minY); y <= SectionPos.blockToSectionCoord(maxY); y++) {
+                for (int z = SectionPos.blockToSectionCoord(minZ); z <= SectionPos.blockToSectionCoord(maxZ); z++) {
+                    List<T> bucket = buckets.get(SectionPos.asLong(x, y, z));
+                    if (bucket == null) {
+                        continue;
+                    }
+                    for (int i = 0; i < bucket.size(); i++) {
+                        consumer.accept(bucket.get(i));
+                    }
+                }
+            }
+        }
+    }
+
+    void forEachInRange(BlockPos center, int range, Consumer<T> consumer) {
+        forEachInBox(center.getX() - range, center.getY() - range, center.getZ() - range,
+                center.getX() + range, center.getY() + range, center.getZ() + range, consumer);
+    }
+
+    /**
+     * Returns the newest edit stamp among the sections overlapping the box,
+     * or zero when none of them ever held an entry.
+     */
+    long stampInBox(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        if (stamps.isEmpty()) {
+            return 0L;
+        }
+        long newest = 0L;
+        for (int x = SectionPos.blockToSectionCoord(minX); x <= SectionPos.blockToSectionCoord(maxX); x++) {
+            for (int y = SectionPos.blockToSectionCoord(minY); y <= SectionPos.blockToSectionCoord(maxY); y++) {
+                for (int z = SectionPos.blockToSectionCoord(minZ); z <= SectionPos.blockToSectionCoord(maxZ); z++) {
+                    newest = Math.max(newest, stamps.get(SectionPos.asLong(x, y, z)));
+                }
+            }
+        }
+        return newest;
+    }
+}
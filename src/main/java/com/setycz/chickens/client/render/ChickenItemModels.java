@@ -7,6 +7,8 @@ import net.minecraft.client.resources.model.ModelResourceLocation;
 import net.minecraft.resources.ResourceLocation;
 import net.neoforged.neoforge.client.event.ModelEvent;
 
+import java.util.Map;
+
 /**
  * Utility that replaces the baked chicken item model with a version that
  * understands dynamically defined chickens. The helper stays free of event
@@ -24,7 +26,8 @@ public final class ChickenItemModels {
      * Installs the {@link CustomChickenItemOverrides} wrapper when the base
      * chicken model finishes baking. If the vanilla model is missing we skip
      * the injection so the game keeps using whatever fallback NeoForge
-     * provides.
+     * provides. The chicken sprite models are baked here as well, against the
+     * sprites and models of this bake rather than the ones still on screen.
      */
     public static void injectOverrides(ModelEvent.ModifyBakingResult event) {
         BakedModel existing = event.getModels().get(CHICKEN_MODEL);
@@ -32,6 +35,9 @@ public final class ChickenItemModels {
             return;
         }
         ModelBakery bakery = event.getModelBakery();
-        event.getModels().put(CHICKEN_MODEL, new ChickenItemOverridesModel(existing, bakery));
+        Map<ModelResourceLocation, BakedModel> models = event.getModels();
+        ChickenItemSpriteModels.BakeContext context = new ChickenItemSpriteModels.BakeContext(bakery,
+                event.getTextureGetter(), models::get);
+        models.put(CHICKEN_MODEL, new ChickenItemOverridesModel(existing, context));
     }
 }
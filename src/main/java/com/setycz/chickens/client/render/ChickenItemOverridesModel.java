@@ -1,7 +1,6 @@
 package com.setycz.chickens.client.render;
 
 import net.minecraft.client.resources.model.BakedModel;
-import net.minecraft.client.resources.model.ModelBakery;
 import net.minecraft.client.renderer.block.model.ItemOverrides;
 import net.minecraft.client.renderer.block.model.ItemTransforms;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
@@ -24,9 +23,9 @@ final class ChickenItemOverridesModel implements BakedModel {
     private final BakedModel delegate;
     private final ItemOverrides overrides;
 
-    ChickenItemOverridesModel(BakedModel delegate, ModelBakery bakery) {
+    ChickenItemOverridesModel(BakedModel delegate, ChickenItemSpriteModels.BakeContext context) {
         this.delegate = delegate;
-        this.overrides = new CustomChickenItemOverrides(delegate.getOverrides(), bakery);
+        this.overrides = new CustomChickenItemOverrides(delegate.getOverrides(), delegate, context);
     }
 
     @Override
@@ -26,7 +26,6 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nullable;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
@@ -41,6 +40,11 @@ import java.util.function.Function;
  * item models so that standard tinting continues to function. When a custom
  * sprite cannot be found the handler falls back to the vanilla white chicken
  * icon so players see a coloured item rather than a missing-texture placeholder.
+ *
+ * <p>Models are normally baked once per chicken while the model bakery runs,
+ * using the bakery's own sprites and models through a {@link BakeContext};
+ * {@link BakeContext#runtime} covers chickens that only appear afterwards.
+ * Callers own the caching of the results.</p>
  */
 public final class ChickenItemSpriteModels {
     private static final Logger LOGGER = LoggerFactory.getLogger("ChickensCustomItemSprites");
@@ -59,7 +63,6 @@ public final class ChickenItemSpriteModels {
     };
     private static final ResourceLocation GENERATED_PARENT = ResourceLocation.withDefaultNamespace("item/generated");
 
-    private static final Map<Integer, BakedModel> CACHE = new HashMap<>();
     private static final Set<ResourceLocation> LOGGED_MISSING_TEXTURES = new HashSet<>();
     private static boolean loggedBakerFailure;
     private static boolean loggedParentFailure;
@@ -72,12 +75,7 @@ public final class ChickenItemSpriteModels {
     }
 
     @Nullable
-    static BakedModel bake(ChickensRegistryItem chicken, ModelBakery bakery) {
-        return CACHE.computeIfAbsent(chicken.getId(), id -> bakeInternal(chicken, bakery));
-    }
-
-    @Nullable
-    private static BakedModel bakeInternal(ChickensRegistryItem chicken, ModelBakery bakery) {
+    static BakedModel bake(ChickensRegistryItem chicken, BakeContext context) {
         ResourceLocation texture = selectTexture(chicken);
         ResourceLocation requestedTexture = texture;
         boolean hasExplicitTexture = chicken.getItemTexture() != null;
@@ -86,7 +84,7 @@ public final class ChickenItemSpriteModels {
 
         ResourceLocation spriteLocation = toSpriteLocation(texture);
         if (hasExplicitTexture) {
-            BakedModel prebaked = tryFetchExistingModel(spriteLocation);
+            BakedModel prebaked = tryFetchExistingModel(context, spriteLocation);
             if (prebaked != null) {
                 chicken.setTintItem(false);
                 return prebaked;
@@ -118,14 +116,12 @@ public final class ChickenItemSpriteModels {
 
         Material material = materialFor(spriteLocation);
 
-        Function<Material, TextureAtlasSprite> sprites = key -> Minecraft.getInstance().getModelManager()
-                .getAtlas(key.atlasLocation()).getSprite(key.texture());
-
+        Function<Material, TextureAtlasSprite> sprites = context.sprites();
         Map<String, Either<Material, String>> textures = Map.of("layer0", Either.left(material));
         BlockModel model = new BlockModel(GENERATED_PARENT, List.of(), textures, true, null, ItemTransforms.NO_TRANSFORMS,
                 List.of());
         try {
-            model.resolveParents(id -> fetchUnbakedModel(bakery, id));
+            model.resolveParents(id -> fetchUnbakedModel(context.bakery(), id));
         } catch (RuntimeException exception) {
             logParentFailure(exception);
             if (disableTint) {
@@ -137,7 +133,7 @@ public final class ChickenItemSpriteModels {
         ResourceLocation dynamicId = ResourceLocation.fromNamespaceAndPath(ChickensMod.MOD_ID,
                 "dynamic/item/chicken_" + chicken.getId());
         ModelResourceLocation bakeLocation = new ModelResourceLocation(dynamicId, "inventory");
-        ModelBaker baker = instantiateBaker(bakery, bakeLocation, sprites);
+        ModelBaker baker = instantiateBaker(context.bakery(), bakeLocation, sprites);
         if (baker == null) {
             // Allow the vanilla override pipeline to continue colouring the
             // fallback sprite when we cannot dynamically bake the bespoke
@@ -156,7 +152,6 @@ public final class ChickenItemSpriteModels {
     }
 
     static void clear() {
-        CACHE.clear();
         LOGGED_MISSING_TEXTURES.clear();
         loggedBakerFailure = false;
         loggedParentFailure = false;
@@ -213,10 +208,11 @@ public final class ChickenItemSpriteModels {
     }
 
     @Nullable
-    private static BakedModel tryFetchExistingModel(ResourceLocation spriteLocation) {
+    private static BakedModel tryFetchExistingModel(BakeContext context, ResourceLocation spriteLocation) {
         ModelResourceLocation modelLocation = new ModelResourceLocation(spriteLocation, "inventory");
-        BakedModel model = Minecraft.getInstance().getModelManager().getModel(modelLocation);
-        if (model != null && model != Minecraft.getInstance().getModelManager().getMissingModel()) {
+        BakedModel model = context.models().apply(modelLocation);
+        BakedModel missing = context.models().apply(ModelBakery.MISSING_MODEL_VARIANT);
+        if (model != null && model != missing) {
             return model;
         }
         return null;
@@ -267,4 +263,19 @@ public final class ChickenItemSpriteModels {
             throw new RuntimeException("Unable to access model '" + id + "' for custom chicken item sprite baking", exception);
         }
     }
+
+    /**
+     * Sprites, models and bakery a bake runs against. During model baking the
+     * atlases and model manager still hold the previous resource state, so
+     * the bake-time context reads from the bakery's own results instead.
+     */
+    record BakeContext(ModelBakery bakery, Function<Material, TextureAtlasSprite> sprites,
+            Function<ModelResourceLocation, BakedModel> models) {
+        static BakeContext runtime(ModelBakery bakery) {
+            var modelManager = Minecraft.getInstance().getModelManager();
+            return new BakeContext(bakery,
+                    material -> modelManager.getAtlas(material.atlasLocation()).getSprite(material.texture()),
+                    modelManager::getModel);
+        }
+    }
 }
@@ -8,48 +8,63 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.level.Level;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
  * Small utility used by block-entity renderers to obtain pre-configured chicken
- * entities. Rendering reuses a cached instance per chicken type which mirrors
- * the original Roost baked-model behaviour without allocating a new entity
- * every frame.
+ * entities. Rendering reuses a cached instance per chicken type and stats pair
+ * which mirrors the original Roost baked-model behaviour without allocating a
+ * new entity every frame. Entities are hydrated once when created, so the
+ * steady-state lookup builds no NBT; the least recently used entries are
+ * evicted past {@link #MAX_ENTRIES} and the whole cache follows level changes.
  */
 public final class ChickenRenderHelper {
     private static final String TAG_TYPE = "Type";
-    private static final Map<Integer, ChickensChicken> CACHE = new HashMap<>();
+    private static final int MAX_ENTRIES = 64;
+    private static final Map<RenderKey, ChickensChicken> CACHE = new LinkedHashMap<>(16, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<RenderKey, ChickensChicken> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+    @Nullable
+    private static Level cachedLevel;
 
     private ChickenRenderHelper() {
     }
 
     /**
-     * Returns a client-side chicken entity for the given registry id. The
-     * entity is reinitialised with the supplied stats to keep renderers in sync
-     * with container contents.
+     * Returns a client-side chicken entity for the given registry id, hydrated
+     * with the supplied stats to keep renderers in sync with container
+     * contents.
      */
     @Nullable
     public static ChickensChicken getChicken(int type, ChickenStats stats) {
         Minecraft minecraft = Minecraft.getInstance();
         Level level = minecraft.level;
         if (level == null) {
+            if (cachedLevel != null) {
+                CACHE.clear();
+                cachedLevel = null;
+            }
             return null;
         }
-        ChickensChicken chicken = CACHE.compute(type, (key, existing) -> {
-            if (existing == null || existing.level() != level) {
-                ChickensChicken created = ModEntityTypes.CHICKENS_CHICKEN.get().create(level);
-                if (created == null) {
-                    return null;
-                }
-                return created;
-            }
-            return existing;
-        });
+        if (level != cachedLevel) {
+            // Entities hold on to their level, so a dimension change or disconnect starts afresh.
+            CACHE.clear();
+            cachedLevel = level;
+        }
+        RenderKey key = new RenderKey(type, stats);
+        ChickensChicken chicken = CACHE.get(key);
         if (chicken == null) {
-            return null;
+            chicken = ModEntityTypes.CHICKENS_CHICKEN.get().create(level);
+            if (chicken == null) {
+                return null;
+            }
+            applyStats(chicken, type, stats);
+            CACHE.put(key, chicken);
         }
-        applyStats(chicken, type, stats);
         chicken.tickCount = (int) level.getGameTime();
         return chicken;
     }
@@ -74,4 +89,7 @@ public final class ChickenRenderHelper {
         chicken.yHeadRotO = 0.0F;
         chicken.tickCount = 0;
     }
+
+    private record RenderKey(int type, ChickenStats stats) {
+    }
 }
@@ -0,0 +1,204 @@
+package com.setycz.chickens.client.render;
+
+import com.mojang.blaze3d.platform.NativeImage;
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import com.setycz.chickens.ChickensMod;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.texture.DynamicTexture;
+import net.minecraft.resources.ResourceLocation;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Packs generated chicken skins into a few large pages so a pen full of
+ * different dynamic chickens binds one texture instead of one per breed.
+ * Skins are placed with a simple shelf packer and never move; the whole
+ * atlas is dropped and rebuilt on resource reload. Render thread only.
+ *
+ * <p>Entity models address their skin with UVs in {@code [0, 1]}, so the
+ * renderer wraps its buffer source with {@link Region#remap} to move those
+ * coordinates into the skin's slot on the page.</p>
+ */
+final class ChickenTextureAtlas {
+    private static final int PREFERRED_PAGE_SIZE = 1024;
+
+    private static final List<Page> PAGES = new ArrayList<>();
+
+    private ChickenTextureAtlas() {
+    }
+
+    /**
+     * Copies the image onto a page and returns where it landed, or
+     * {@code null} when the image is larger than a page. The caller keeps
+     * ownership of the image.
+     */
+    @Nullable
+    static Region add(NativeImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int pageSize = pageSize();
+        if (width > pageSize || height > pageSize) {
+            return null;
+        }
+        Page page = PAGES.isEmpty() ? null : PAGES.get(PAGES.size() - 1);
+        if (page == null || !page.fits(width, height)) {
+            page = new Page(PAGES.size(), pageSize);
+            PAGES.add(page);
+        }
+        return page.place(image);
+    }
+
+    /** Number of pages currently allocated; exposed for diagnostics. */
+    static int pageCount() {
+        return PAGES.size();
+    }
+
+    static void clear() {
+        var textureManager = Minecraft.getInstance().getTextureManager();
+        for (Page page : PAGES) {
+            textureManager.release(page.location);
+        }
+        PAGES.clear();
+    }
+
+    private static int pageSize() {
+        return Math.min(PREFERRED_PAGE_SIZE, RenderSystem.maxSupportedTextureSize());
+    }
+
+    private static final class Page {
+        private final ResourceLocation location;
+        private final DynamicTexture texture;
+        private final int size;
+        private int cursorX;
+        private int cursorY;
+        private int rowHeight;
+
+        private Page(int index, int size) {
+            this.location = ResourceLocation.fromNamespaceAndPath(ChickensMod.MOD_ID, "dynamic/chicken_atlas_" + index);
+            this.texture = new DynamicTexture(size, size, true);
+            this.size = size;
+            Minecraft.getInstance().getTextureManager().register(location, texture);
+        }
+
+        private boolean fits(int width, int height) {
+            if (cursorX + width <= size) {
+                return cursorY + Math.max(rowHeight, height) <= size;
+            }
+            return cursorY + rowHeight + height <= size;
+        }
+
+        private Region place(NativeImage image) {
+            int width = image.getWidth();
+            int height = image.getHeight();
+            if (cursorX + width > size) {
+                cursorX = 0;
+                cursorY += rowHeight;
+                rowHeight = 0;
+            }
+            int x = cursorX;
+            int y = cursorY;
+            cursorX += width;
+            rowHeight = Math.max(rowHeight, height);
+
+            NativeImage pixels = texture.getPixels();
+            image.copyRect(pixels, 0, 0, x, y, width, height, false, false);
+            // Only push the new slot to the GPU instead of re-uploading the whole page.
+            texture.bind();
+            pixels.upload(0, x, y, x, y, width, height, false, false);
+
+            float scale = 1.0f / size;
+            return new Region(location, x * scale, y * scale, (x + width) * scale, (y + height) * scale);
+        }
+    }
+
+    /**
+     * Slot of one skin on a texture. A region covering the whole texture is
+     * used for skins that are drawn from their own file and need no remap.
+     */
+    record Region(ResourceLocation texture, float u0, float v0, float u1, float v1) {
+        static Region whole(ResourceLocation texture) {
+            return new Region(texture, 0.0f, 0.0f, 1.0f, 1.0f);
+        }
+
+        boolean isWhole() {
+            return u0 == 0.0f && v0 == 0.0f && u1 == 1.0f && v1 == 1.0f;
+        }
+
+        /**
+         * Wraps the buffer source so the render types an entity renderer
+         * derives from this region's texture receive remapped UVs. Every
+         * other render type, such as overlay layers on the block atlas,
+         * passes through untouched.
+         */
+        MultiBufferSource remap(MultiBufferSource delegate) {
+            RenderType body = RenderType.entityCutoutNoCull(texture);
+            RenderType translucent = RenderType.itemEntityTranslucentCull(texture);
+            RenderType outline = RenderType.outline(texture);
+            return type -> {
+                VertexConsumer consumer = delegate.getBuffer(type);
+                if (type == body || type == translucent || type == outline) {
+                    return new RemappingConsumer(consumer, this);
+                }
+                return consumer;
+            };
+        }
+    }
+
+    private static final class RemappingConsumer implements VertexConsumer {
+        private final VertexConsumer delegate;
+        private final float u0;
+        private final float v0;
+        private final float uScale;
+        private final float vScale;
+
+        private RemappingConsumer(VertexConsumer delegate, Region region) {
+            this.delegate = delegate;
+            this.u0 = region.u0();
+            this.v0 = region.v0();
+            this.uScale = region.u1() - region.u0();
+            this.vScale = region.v1() - region.v0();
+        }
+
+        @Override
+        public VertexConsumer addVertex(float x, float y, float z) {
+            return delegate.addVertex(x, y, z);
+        }
+
+        @Override
+        public VertexConsumer setColor(int red, int green, int blue, int alpha) {
+            return delegate.setColor(red, green, blue, alpha);
+        }
+
+        @Override
+        public VertexConsumer setUv(float u, float v) {
+            return delegate.setUv(u0 + u * uScale, v0 + v * vScale);
+        }
+
+        @Override
+        public VertexConsumer setUv1(int u, int v) {
+            return delegate.setUv1(u, v);
+        }
+
+        @Override
+        public VertexConsumer setUv2(int u, int v) {
+            return delegate.setUv2(u, v);
+        }
+
+        @Override
+        public VertexConsumer setNormal(float x, float y, float z) {
+            return delegate.setNormal(x, y, z);
+        }
+
+        @Override
+        public void addVertex(float x, float y, float z, int color, float u, float v, int overlay, int light,
+                float normalX, float normalY, float normalZ) {
+            delegate.addVertex(x, y, z, color, u0 + u * uScale, v0 + v * vScale, overlay, light,
+                    normalX, normalY, normalZ);
+        }
+    }
+}
@@ -3,9 +3,11 @@ package com.setycz.chickens.client.render;
 import com.setycz.chickens.ChickensRegistry;
 import com.setycz.chickens.ChickensRegistryItem;
 import com.setycz.chickens.entity.ChickensChicken;
+import com.mojang.blaze3d.vertex.PoseStack;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.model.ChickenModel;
 import net.minecraft.client.model.geom.ModelLayers;
+import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.client.renderer.entity.ChickenRenderer;
 import net.minecraft.client.renderer.entity.EntityRendererProvider;
 import net.minecraft.resources.ResourceLocation;
@@ -16,6 +18,7 @@ import net.minecraft.world.entity.animal.Chicken;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -36,35 +39,79 @@ public class ChickensChickenRenderer extends ChickenRenderer {
         this.addLayer(new LiquidChickenOverlayLayer(this, new ChickenModel<>(context.bakeLayer(ModelLayers.CHICKEN))));
     }
 
+    @Override
+    public void render(Chicken chicken, float entityYaw, float partialTicks, PoseStack poseStack,
+            MultiBufferSource buffer, int packedLight) {
+        ChickenTextureAtlas.Region region = generatedRegion(chicken);
+        if (region != null && !region.isWhole()) {
+            // Generated skins share atlas pages, so steer the model's UVs into this chicken's slot.
+            buffer = region.remap(buffer);
+        }
+        super.render(chicken, entityYaw, partialTicks, poseStack, buffer, packedLight);
+    }
+
     @Override
     public ResourceLocation getTextureLocation(Chicken chicken) {
+        ChickenTextureAtlas.Region region = generatedRegion(chicken);
+        if (region != null) {
+            return region.texture();
+        }
         if (chicken instanceof ChickensChicken modChicken) {
             ChickensRegistryItem description = ChickensRegistry.getByType(modChicken.getChickenType());
             if (description != null) {
-                if (description.hasGeneratedTexture()) {
-                    return DynamicChickenTextures.textureFor(description);
-                }
-
-                ResourceLocation texture = description.getTexture();
-                if (hasTexture(texture)) {
-                    return texture;
-                }
-
-                if (LOGGED_MISSING_TEXTURES.add(texture)) {
-                    LOGGER.warn(
-                            "Falling back to generated texture for chicken {} because {} was unavailable", description.getEntityName(),
-                            texture);
-                }
-
-                // Fallback to the tint pipeline so players see a coloured chicken instead of
-                // the purple/black missing-texture placeholder when a resource pack is absent
-                // or a path is mis-typed.
-                return DynamicChickenTextures.textureFor(description);
+                return description.getTexture();
             }
         }
         return super.getTextureLocation(chicken);
     }
 
+    /**
+     * Returns where the chicken's skin lives, whether that is a slot on a
+     * generated atlas page or a texture file of its own.
+     */
+    static ChickenTextureAtlas.Region skinRegion(ChickensRegistryItem description) {
+        ChickenTextureAtlas.Region region = generatedRegion(description);
+        return region != null ? region : ChickenTextureAtlas.Region.whole(description.getTexture());
+    }
+
+    /**
+     * Returns the generated skin region for chickens drawn through the tint
+     * pipeline, or {@code null} when the chicken uses its own texture file.
+     */
+    @Nullable
+    private static ChickenTextureAtlas.Region generatedRegion(Chicken chicken) {
+        if (chicken instanceof ChickensChicken modChicken) {
+            ChickensRegistryItem description = ChickensRegistry.getByType(modChicken.getChickenType());
+            if (description != null) {
+                return generatedRegion(description);
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private static ChickenTextureAtlas.Region generatedRegion(ChickensRegistryItem description) {
+        if (description.hasGeneratedTexture()) {
+            return DynamicChickenTextures.regionFor(description);
+        }
+
+        ResourceLocation texture = description.getTexture();
+        if (hasTexture(texture)) {
+            return null;
+        }
+
+        if (LOGGED_MISSING_TEXTURES.add(texture)) {
+            LOGGER.warn(
+                    "Falling back to generated texture for chicken {} because {} was unavailable", description.getEntityName(),
+                    texture);
+        }
+
+        // Fallback to the tint pipeline so players see a coloured chicken instead of
+        // the purple/black missing-texture placeholder when a resource pack is absent
+        // or a path is mis-typed.
+        return DynamicChickenTextures.regionFor(description);
+    }
+
     private static boolean hasTexture(ResourceLocation texture) {
         if (VERIFIED_TEXTURES.contains(texture)) {
             return true;
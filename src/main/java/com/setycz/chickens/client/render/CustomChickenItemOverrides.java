@@ -1,12 +1,15 @@
 package com.setycz.chickens.client.render;
 
 import com.setycz.chickens.ChickensMod;
+import com.setycz.chickens.ChickensRegistry;
 import com.setycz.chickens.ChickensRegistryItem;
 import com.setycz.chickens.item.ChickenItemHelper;
+import com.setycz.chickens.registry.ModRegistry;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.renderer.block.model.ItemOverrides;
 import net.minecraft.client.resources.model.BakedModel;
-import net.minecraft.client.resources.model.ModelBakery;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.item.ItemStack;
@@ -14,8 +17,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Override handler that mirrors the behaviour of the baked chicken item model
@@ -23,77 +26,136 @@ import java.util.Map;
  * When the vanilla override list does not contain a matching entry the handler
  * falls back to dynamically baking a sprite model derived from the chicken's
  * configured item texture.
+ *
+ * <p>Every chicken registered when the model bakery runs is resolved up front
+ * into an index keyed by chicken id, so rendering a stack is a single lookup
+ * rather than a walk over the vanilla override list. Chickens that only show
+ * up later, such as dynamic chickens synced from a server, are baked on first
+ * sight and added to the same index.</p>
  */
 final class CustomChickenItemOverrides extends ItemOverrides {
     private static final Logger LOGGER = LoggerFactory.getLogger("ChickensCustomItemModels");
+    /** Ids below this bound live in a flat array; dynamic chickens use far larger ids. */
+    private static final int DENSE_LIMIT = 4096;
 
     private final ItemOverrides delegate;
-    private final ModelBakery bakery;
-    private final Map<Integer, BakedModel> cache = new HashMap<>();
+    private final ChickenItemSpriteModels.BakeContext runtimeContext;
+    private final Entry[] dense;
+    // Render thread only once the model is published.
+    private final Int2ObjectMap<Entry> sparse = new Int2ObjectOpenHashMap<>();
+    @Nullable
+    private BakedModel rooster;
+    private boolean roosterBaked;
 
-    CustomChickenItemOverrides(ItemOverrides delegate, ModelBakery bakery) {
+    CustomChickenItemOverrides(ItemOverrides delegate, BakedModel base, ChickenItemSpriteModels.BakeContext context) {
         super();
         this.delegate = delegate;
-        this.bakery = bakery;
+        this.runtimeContext = ChickenItemSpriteModels.BakeContext.runtime(context.bakery());
+
+        List<ChickensRegistryItem> chickens = new ArrayList<>(ChickensRegistry.getItems());
+        chickens.addAll(ChickensRegistry.getDisabledItems());
+        int denseSize = 0;
+        for (ChickensRegistryItem chicken : chickens) {
+            if (chicken.getId() >= 0 && chicken.getId() < DENSE_LIMIT) {
+                denseSize = Math.max(denseSize, chicken.getId() + 1);
+            }
+        }
+        this.dense = new Entry[denseSize];
+        for (ChickensRegistryItem chicken : chickens) {
+            ItemStack stack = ModRegistry.CHICKEN_ITEM.get().createFor(chicken);
+            BakedModel resolved = delegate != null ? delegate.resolve(base, stack, null, null, 0) : null;
+            BakedModel selected = select(chicken, base, resolved, context);
+            store(chicken.getId(), new Entry(chicken, selected == base ? null : selected));
+        }
+        this.rooster = bakeRooster(context);
+        this.roosterBaked = true;
     }
 
     @Override
     public BakedModel resolve(BakedModel originalModel, ItemStack stack, @Nullable ClientLevel level,
             @Nullable LivingEntity entity, int seed) {
         if (ChickenItemHelper.isRooster(stack)) {
-            BakedModel cachedRooster = cache.get(ChickenItemHelper.ROOSTER_MODEL_ID);
-            if (cachedRooster != null) {
-                return cachedRooster;
+            if (!roosterBaked) {
+                rooster = bakeRooster(runtimeContext);
+                roosterBaked = true;
             }
-            ChickensRegistryItem stub = new ChickensRegistryItem(
-                    ChickenItemHelper.ROOSTER_MODEL_ID,
-                    "Rooster",
-                    ResourceLocation.withDefaultNamespace("textures/entity/chicken.png"),
-                    ItemStack.EMPTY,
-                    0xFFFFFF,
-                    0xFFFFFF
-            );
-            stub.setItemTexture(ResourceLocation.fromNamespaceAndPath(ChickensMod.MOD_ID, "textures/item/rooster.png"));
-            BakedModel bakedRooster = ChickenItemSpriteModels.bake(stub, bakery);
-            if (bakedRooster != null) {
-                cache.put(ChickenItemHelper.ROOSTER_MODEL_ID, bakedRooster);
-                return bakedRooster;
-            }
-            return originalModel;
+            return rooster != null ? rooster : originalModel;
+        }
+
+        int id = ChickenItemHelper.getChickenType(stack);
+        ChickensRegistryItem chicken = ChickensRegistry.getByType(id);
+        if (chicken == null) {
+            BakedModel resolved = delegate != null ? delegate.resolve(originalModel, stack, level, entity, seed) : null;
+            return resolved != null ? resolved : originalModel;
+        }
+
+        Entry entry = lookup(id);
+        if (entry == null || entry.chicken() != chicken) {
+            // Registered after the bake, or replaced by a datapack reload since.
+            BakedModel resolved = delegate != null ? delegate.resolve(originalModel, stack, level, entity, seed) : null;
+            BakedModel selected = select(chicken, originalModel, resolved, runtimeContext);
+            entry = new Entry(chicken, selected == originalModel ? null : selected);
+            store(id, entry);
         }
+        return entry.model() != null ? entry.model() : originalModel;
+    }
 
-        ChickensRegistryItem chicken = ChickenItemHelper.resolve(stack);
-        boolean hasExplicitTexture = chicken != null && chicken.getItemTexture() != null;
-        boolean forceCustomSprite = chicken != null && chicken.isCustom() && hasExplicitTexture;
+    private BakedModel select(ChickensRegistryItem chicken, BakedModel originalModel, @Nullable BakedModel resolved,
+            ChickenItemSpriteModels.BakeContext context) {
+        boolean hasExplicitTexture = chicken.getItemTexture() != null;
         // Vanilla custom model overrides treat the predicate value as a lower bound, so unknown ids
         // inherit the last baked model. Datapack chickens must bypass that behaviour so the bespoke
         // sprite defined in chickens_custom.json always renders instead of reusing the final override.
         //
         // Built-in chickens that supply a bespoke sprite should also bypass the baked override list so
         // they stitch the requested PNG rather than falling back to the tinted placeholder icon.
-
-        BakedModel resolved = delegate != null ? delegate.resolve(originalModel, stack, level, entity, seed) : null;
-        if (!forceCustomSprite && !hasExplicitTexture && resolved != null && resolved != originalModel) {
+        if (!hasExplicitTexture && resolved != null && resolved != originalModel) {
             return resolved;
         }
 
-        if (chicken == null) {
-            return resolved != null ? resolved : originalModel;
-        }
-
-        BakedModel cached = cache.get(chicken.getId());
-        if (cached != null) {
-            return cached;
-        }
-
-        BakedModel baked = ChickenItemSpriteModels.bake(chicken, bakery);
+        BakedModel baked = ChickenItemSpriteModels.bake(chicken, context);
         if (baked == null) {
             chicken.setTintItem(true);
             LOGGER.warn("Falling back to default chicken item model for {} due to missing sprite", chicken.getEntityName());
             return originalModel;
         }
-
-        cache.put(chicken.getId(), baked);
         return baked;
     }
+
+    @Nullable
+    private static BakedModel bakeRooster(ChickenItemSpriteModels.BakeContext context) {
+        ChickensRegistryItem stub = new ChickensRegistryItem(
+                ChickenItemHelper.ROOSTER_MODEL_ID,
+                "Rooster",
+                ResourceLocation.withDefaultNamespace("textures/entity/chicken.png"),
+                ItemStack.EMPTY,
+                0xFFFFFF,
+                0xFFFFFF
+        );
+        stub.setItemTexture(ResourceLocation.fromNamespaceAndPath(ChickensMod.MOD_ID, "textures/item/rooster.png"));
+        return ChickenItemSpriteModels.bake(stub, context);
+    }
+
+    @Nullable
+    private Entry lookup(int id) {
+        if (id >= 0 && id < dense.length) {
+            Entry entry = dense[id];
+            if (entry != null) {
+                return entry;
+            }
+        }
+        return sparse.get(id);
+    }
+
+    private void store(int id, Entry entry) {
+        if (id >= 0 && id < dense.length) {
+            dense[id] = entry;
+        } else {
+            sparse.put(id, entry);
+        }
+    }
+
+    /** Model chosen for a chicken; {@code null} means the stack's own model. */
+    private record Entry(ChickensRegistryItem chicken, @Nullable BakedModel model) {
+    }
 }
@@ -1,61 +1,238 @@
 package com.setycz.chickens.client.render;
 
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import com.mojang.blaze3d.platform.NativeImage;
 import com.setycz.chickens.ChickensMod;
+import com.setycz.chickens.ChickensRegistry;
 import com.setycz.chickens.ChickensRegistryItem;
+import com.setycz.chickens.jfr.ChickenTextureEvent;
+import net.minecraft.Util;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.texture.DynamicTexture;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.PreparableReloadListener;
 import net.minecraft.server.packs.resources.Resource;
 import net.minecraft.server.packs.resources.ResourceManager;
 import net.minecraft.server.packs.resources.SimplePreparableReloadListener;
 import net.minecraft.util.profiling.ProfilerFiller;
+import net.neoforged.fml.loading.FMLPaths;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * Generates simple tinted textures for dynamically created chickens so the
  * overworld entity mirrors the item's colour scheme. Textures are derived
  * from the base white chicken sprite and cached per chicken id.
+ *
+ * <p>Tinting runs on the background executor; until a skin is uploaded the
+ * renderer receives the chicken's own untinted template. Every generated
+ * image is also written to a PNG cache under the game directory, keyed by a
+ * hash of the template pixels and colours, so later launches only decode the
+ * result. The reload listener pre-warms every generated chicken during
+ * resource reload, resolving each distinct key once through that cache, and
+ * prunes cache files no current chicken maps to.</p>
+ *
+ * <p>Finished skins are packed into {@link ChickenTextureAtlas} pages rather
+ * than registered one texture per chicken, so callers receive a
+ * {@link ChickenTextureAtlas.Region} and must remap UVs when it is not the
+ * whole texture.</p>
  */
 public final class DynamicChickenTextures {
     private static final Logger LOGGER = LoggerFactory.getLogger("ChickensDynamicTextures");
     private static final ResourceLocation BASE_TEXTURE = ResourceLocation.fromNamespaceAndPath(
             ChickensMod.MOD_ID, "textures/entity/whitechicken.png");
-    private static final Map<Integer, ResourceLocation> CACHE = new HashMap<>();
-    private static final Map<ResourceLocation, NativeImage> BASE_CACHE = new HashMap<>();
+    private static final ResourceLocation UNKNOWN_TEXTURE = ResourceLocation.fromNamespaceAndPath(
+            ChickensMod.MOD_ID, "textures/entity/unknownchicken.png");
+    /** Bump whenever the tint algorithm changes so stale cache files are ignored. */
+    private static final int CACHE_FORMAT = 1;
+    private static final String CACHE_SUFFIX = ".png";
+    private static final String TEMP_PREFIX = "chicken";
+
+    // Render thread only.
+    private static final Map<Integer, ChickenTextureAtlas.Region> CACHE = new HashMap<>();
+    private static final ChickenTextureAtlas.Region PLACEHOLDER = ChickenTextureAtlas.Region.whole(BASE_TEXTURE);
+    private static final Map<ResourceLocation, ChickenTextureAtlas.Region> PLACEHOLDERS = new HashMap<>();
+    private static final ChickenTextureAtlas.Region UNKNOWN = ChickenTextureAtlas.Region.whole(UNKNOWN_TEXTURE);
+    private static final List<ResourceLocation> REGISTERED = new ArrayList<>();
+    // Shared with the background workers.
+    private static final Set<Integer> PENDING = ConcurrentHashMap.newKeySet();
+    private static final Map<ResourceLocation, Optional<Template>> TEMPLATES = new ConcurrentHashMap<>();
+    private static volatile int generation;
 
     private DynamicChickenTextures() {
     }
 
+    /**
+     * Returns the texture holding the chicken's tinted skin, or the untinted
+     * template while the skin is still being generated. Must be called on the
+     * render thread.
+     */
     public static ResourceLocation textureFor(ChickensRegistryItem chicken) {
-        return CACHE.computeIfAbsent(chicken.getId(), id -> generateTexture(chicken));
+        return regionFor(chicken).texture();
+    }
+
+    /**
+     * Returns where the chicken's tinted skin lives, requesting it when it has
+     * not been generated yet. Must be called on the render thread.
+     */
+    static ChickenTextureAtlas.Region regionFor(ChickensRegistryItem chicken) {
+        ChickenTextureAtlas.Region ready = CACHE.get(chicken.getId());
+        if (ready != null) {
+            return ready;
+        }
+        request(chicken);
+        return placeholderFor(chicken.getTexture());
+    }
+
+    /**
+     * The untinted template the skin will be derived from, so the chicken
+     * keeps its shape while it waits. Templates that failed to load fall back
+     * to the white chicken, matching what the tint itself does.
+     */
+    private static ChickenTextureAtlas.Region placeholderFor(ResourceLocation template) {
+        Optional<Template> loaded = TEMPLATES.get(template);
+        if (loaded != null && loaded.isEmpty()) {
+            return PLACEHOLDER;
+        }
+        return PLACEHOLDERS.computeIfAbsent(template, ChickenTextureAtlas.Region::whole);
+    }
+
+    private static void request(ChickensRegistryItem chicken) {
+        int id = chicken.getId();
+        if (!PENDING.add(id)) {
+            return;
+        }
+        int requestGeneration = generation;
+        ResourceManager resources = Minecraft.getInstance().getResourceManager();
+        TintRequest tint = TintRequest.of(chicken);
+        CompletableFuture.supplyAsync(() -> produce(tint, location -> TEMPLATES.computeIfAbsent(location,
+                        key -> Optional.ofNullable(loadTemplate(resources, key)))), Util.backgroundExecutor())
+                .whenCompleteAsync((image, error) -> {
+                    if (error != null) {
+                        LOGGER.warn("Failed to generate texture for chicken {}", tint.name(), error);
+                    }
+                    if (requestGeneration != generation) {
+                        // Resources reloaded while we were working; the new generation requests again.
+                        if (image != null) {
+                            image.close();
+                        }
+                        return;
+                    }
+                    PENDING.remove(id);
+                    install(id, image);
+                }, Minecraft.getInstance());
+    }
+
+    private static void install(int id, @Nullable NativeImage image) {
+        CACHE.put(id, upload(id, image));
     }
 
-    private static ResourceLocation generateTexture(ChickensRegistryItem chicken) {
-        ResourceLocation template = chicken.getTexture();
-        NativeImage base = getBaseImage(template);
-        if (base == null && !template.equals(BASE_TEXTURE)) {
-            LOGGER.warn("Falling back to default template for chicken {} because {} was unavailable", chicken.getEntityName(), template);
-            base = getBaseImage(BASE_TEXTURE);
+    /**
+     * Moves a finished image to the GPU and takes ownership of it. The id only
+     * names the standalone texture used when the image does not fit a page.
+     */
+    private static ChickenTextureAtlas.Region upload(int id, @Nullable NativeImage image) {
+        if (image == null) {
+            return UNKNOWN;
         }
-        if (base == null) {
-            return ResourceLocation.fromNamespaceAndPath(
-                    ChickensMod.MOD_ID, "textures/entity/unknownchicken.png");
+        ChickenTextureAtlas.Region region = ChickenTextureAtlas.add(image);
+        if (region != null) {
+            image.close();
+            return region;
         }
+        // Templates larger than an atlas page keep a texture of their own.
+        DynamicTexture texture = new DynamicTexture(image);
+        ResourceLocation location = ResourceLocation.fromNamespaceAndPath(
+                ChickensMod.MOD_ID, "dynamic/chicken_" + id);
+        Minecraft.getInstance().getTextureManager().register(location, texture);
+        REGISTERED.add(location);
+        return ChickenTextureAtlas.Region.whole(location);
+    }
+
+    /**
+     * Builds the tinted image for a chicken, reading it from the disk cache
+     * when an identical template and colour pair was tinted before. Safe to
+     * call from any thread.
+     */
+    @Nullable
+    private static NativeImage produce(TintRequest request,
+            Function<ResourceLocation, Optional<Template>> templates) {
+        Template base = resolveTemplate(request, templates);
+        return base == null ? null : produce(request, base, cacheKey(base, request));
+    }
 
-        NativeImage image = new NativeImage(base.getWidth(), base.getHeight(), false);
-        int primary = chicken.getBgColor();
-        int accent = chicken.getFgColor();
-        for (int y = 0; y < base.getHeight(); y++) {
-            for (int x = 0; x < base.getWidth(); x++) {
-                int rgba = base.getPixelRGBA(x, y);
+    private static NativeImage produce(TintRequest request, Template base, String cacheKey) {
+        ChickenTextureEvent event = new ChickenTextureEvent();
+        event.begin();
+        NativeImage image = produceImage(request, base, cacheKey, event);
+        if (image != null && event.shouldCommit()) {
+            event.chickenName = request.name();
+            event.template = request.template().toString();
+            event.width = image.getWidth();
+            event.height = image.getHeight();
+            event.commit();
+        }
+        return image;
+    }
+
+    @Nullable
+    private static Template resolveTemplate(TintRequest request,
+            Function<ResourceLocation, Optional<Template>> templates) {
+        Template base = templates.apply(request.template()).orElse(null);
+        if (base == null && !request.template().equals(BASE_TEXTURE)) {
+            LOGGER.warn("Falling back to default template for chicken {} because {} was unavailable",
+                    request.name(), request.template());
+            base = templates.apply(BASE_TEXTURE).orElse(null);
+        }
+        return base;
+    }
+
+    private static NativeImage produceImage(TintRequest request, Template base, String cacheKey,
+            ChickenTextureEvent event) {
+        Path cacheFile = cacheFile(cacheKey);
+        if (cacheFile != null && Files.isRegularFile(cacheFile)) {
+            try (InputStream stream = Files.newInputStream(cacheFile)) {
+                NativeImage cached = NativeImage.read(stream);
+                if (cached.getWidth() == base.width() && cached.getHeight() == base.height()) {
+                    event.diskCacheHit = true;
+                    return cached;
+                }
+                cached.close();
+            } catch (IOException e) {
+                LOGGER.debug("Ignoring unreadable cached chicken texture {}", cacheFile, e);
+            }
+        }
+        NativeImage image = tint(base, request.primary(), request.accent());
+        if (cacheFile != null) {
+            writeCache(image, cacheFile);
+        }
+        return image;
+    }
+
+    private static NativeImage tint(Template base, int primary, int accent) {
+        NativeImage image = new NativeImage(base.width(), base.height(), false);
+        int[] pixels = base.pixels();
+        for (int y = 0; y < base.height(); y++) {
+            for (int x = 0; x < base.width(); x++) {
+                int rgba = pixels[y * base.width() + x];
                 int alpha = (rgba >>> 24) & 0xFF;
                 if (alpha == 0) {
                     image.setPixelRGBA(x, y, 0);
@@ -79,12 +256,7 @@ public final class DynamicChickenTextures {
                 image.setPixelRGBA(x, y, finalColor);
             }
         }
-
-        DynamicTexture texture = new DynamicTexture(image);
-        ResourceLocation id = ResourceLocation.fromNamespaceAndPath(
-                ChickensMod.MOD_ID, "dynamic/chicken_" + chicken.getId());
-        Minecraft.getInstance().getTextureManager().register(id, texture);
-        return id;
+        return image;
     }
 
     private static int lerpColor(int start, int end, float amount) {
@@ -110,43 +282,170 @@ public final class DynamicChickenTextures {
         return (alpha << 24) | (b << 16) | (g << 8) | r;
     }
 
-    private static NativeImage getBaseImage(ResourceLocation location) {
-        NativeImage cached = BASE_CACHE.get(location);
-        if (cached != null) {
-            return cached;
-        }
-        Optional<Resource> resource = Minecraft.getInstance().getResourceManager().getResource(location);
+    @Nullable
+    private static Template loadTemplate(ResourceManager resources, ResourceLocation location) {
+        Optional<Resource> resource = resources.getResource(location);
         if (resource.isEmpty()) {
             LOGGER.warn("Unable to load template chicken texture {}", location);
             return null;
         }
-        try (InputStream stream = resource.get().open()) {
-            NativeImage image = NativeImage.read(stream);
-            BASE_CACHE.put(location, image);
-            return image;
+        try (InputStream stream = resource.get().open(); NativeImage image = NativeImage.read(stream)) {
+            int width = image.getWidth();
+            int height = image.getHeight();
+            int[] pixels = new int[width * height];
+            Hasher hasher = Hashing.sha256().newHasher().putInt(width).putInt(height);
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    int pixel = image.getPixelRGBA(x, y);
+                    pixels[y * width + x] = pixel;
+                    hasher.putInt(pixel);
+                }
+            }
+            return new Template(width, height, pixels, hasher.hash().toString());
         } catch (IOException e) {
             LOGGER.warn("Failed to read template chicken texture {}", location, e);
             return null;
         }
     }
 
+    private static String cacheKey(Template base, TintRequest request) {
+        return Hashing.sha256().newHasher()
+                .putInt(CACHE_FORMAT)
+                .putUnencodedChars(base.digest())
+                .putInt(request.primary())
+                .putInt(request.accent())
+                .hash()
+                .toString();
+    }
+
+    @Nullable
+    private static Path cacheFile(String cacheKey) {
+        Path directory = cacheDirectory();
+        return directory == null ? null : directory.resolve(cacheKey + CACHE_SUFFIX);
+    }
+
+    @Nullable
+    private static Path cacheDirectory() {
+        try {
+            return FMLPaths.GAMEDIR.get().resolve("cache").resolve(ChickensMod.MOD_ID).resolve("textures");
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static void writeCache(NativeImage image, Path target) {
+        try {
+            Files.createDirectories(target.getParent());
+            // Write beside the target and move it into place so a crash never leaves a truncated PNG.
+            Path temp = Files.createTempFile(target.getParent(), TEMP_PREFIX, ".tmp");
+            image.writeToFile(temp);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            LOGGER.debug("Unable to cache generated chicken texture {}", target, e);
+        }
+    }
+
+    /**
+     * Deletes cache files whose key no current chicken produces, such as
+     * skins of removed chickens, recoloured ones or an older
+     * {@link #CACHE_FORMAT}, plus temp files left behind by a crash.
+     */
+    private static void pruneCache(Set<String> liveKeys) {
+        Path directory = cacheDirectory();
+        if (directory == null || !Files.isDirectory(directory)) {
+            return;
+        }
+        int removed = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                boolean stale = name.endsWith(CACHE_SUFFIX)
+                        ? !liveKeys.contains(name.substring(0, name.length() - CACHE_SUFFIX.length()))
+                        : name.startsWith(TEMP_PREFIX) && name.endsWith(".tmp");
+                if (stale && Files.deleteIfExists(file)) {
+                    removed++;
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Unable to prune chicken texture cache {}", directory, e);
+        }
+        if (removed > 0) {
+            LOGGER.debug("Pruned {} stale chicken textures from {}", removed, directory);
+        }
+    }
+
+    /**
+     * Drops every generated skin. Workers still running for the previous
+     * generation discard their result instead of installing it.
+     */
     public static void clear() {
+        generation++;
+        var textureManager = Minecraft.getInstance().getTextureManager();
+        for (ResourceLocation location : REGISTERED) {
+            textureManager.release(location);
+        }
+        REGISTERED.clear();
+        ChickenTextureAtlas.clear();
         CACHE.clear();
-        BASE_CACHE.values().forEach(NativeImage::close);
-        BASE_CACHE.clear();
+        PLACEHOLDERS.clear();
+        PENDING.clear();
+        TEMPLATES.clear();
     }
 
-    public static SimplePreparableReloadListener<Void> reloadListener() {
+    public static PreparableReloadListener reloadListener() {
         return new SimplePreparableReloadListener<>() {
             @Override
-            protected Void prepare(ResourceManager resourceManager, ProfilerFiller profiler) {
-                return null;
+            protected Prewarm prepare(ResourceManager resourceManager, ProfilerFiller profiler) {
+                // Pre-warm on the reload worker with templates from the incoming resource packs.
+                // Chickens sharing a template and colours share one cache key, so each key is
+                // read from disk (or tinted and written back) once.
+                Map<ResourceLocation, Optional<Template>> templates = new HashMap<>();
+                Map<Integer, String> keys = new HashMap<>();
+                Map<String, NativeImage> images = new HashMap<>();
+                for (ChickensRegistryItem chicken : ChickensRegistry.getItems()) {
+                    if (!chicken.hasGeneratedTexture()) {
+                        continue;
+                    }
+                    TintRequest request = TintRequest.of(chicken);
+                    Template base = resolveTemplate(request, location -> templates.computeIfAbsent(
+                            location, key -> Optional.ofNullable(loadTemplate(resourceManager, key))));
+                    if (base == null) {
+                        continue;
+                    }
+                    String cacheKey = cacheKey(base, request);
+                    keys.put(chicken.getId(), cacheKey);
+                    if (!images.containsKey(cacheKey)) {
+                        images.put(cacheKey, produce(request, base, cacheKey));
+                    }
+                }
+                pruneCache(images.keySet());
+                return new Prewarm(templates, keys, images);
             }
 
             @Override
-            protected void apply(Void object, ResourceManager resourceManager, ProfilerFiller profiler) {
+            protected void apply(Prewarm prepared, ResourceManager resourceManager, ProfilerFiller profiler) {
                 clear();
+                // Keep the decoded templates so chickens requested later skip loading them again.
+                TEMPLATES.putAll(prepared.templates());
+                Map<String, ChickenTextureAtlas.Region> uploaded = new HashMap<>();
+                prepared.keys().forEach((id, cacheKey) -> CACHE.put(id, uploaded.computeIfAbsent(cacheKey,
+                        key -> upload(id, prepared.images().get(key)))));
             }
         };
     }
+
+    /** Result of the reload pre-warm, handed from the reload worker to the render thread. */
+    private record Prewarm(Map<ResourceLocation, Optional<Template>> templates, Map<Integer, String> keys,
+            Map<String, NativeImage> images) {
+    }
+
+    private record Template(int width, int height, int[] pixels, String digest) {
+    }
+
+    private record TintRequest(String name, ResourceLocation template, int primary, int accent) {
+        static TintRequest of(ChickensRegistryItem chicken) {
+            return new TintRequest(chicken.getEntityName(), chicken.getTexture(), chicken.getBgColor(),
+                    chicken.getFgColor());
+        }
+    }
 }
@@ -9,6 +9,8 @@ import com.setycz.chickens.GasEggRegistry;
 import com.setycz.chickens.LiquidEggRegistry;
 import com.setycz.chickens.LiquidEggRegistryItem;
 import com.setycz.chickens.entity.ChickensChicken;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import com.setycz.chickens.item.ChickenItemHelper;
 import com.setycz.chickens.item.ChemicalEggItem;
 import com.setycz.chickens.item.GasEggItem;
@@ -36,16 +38,22 @@ import net.neoforged.neoforge.client.extensions.common.IClientFluidTypeExtension
 import net.neoforged.neoforge.fluids.FluidStack;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Render layer that mirrors ModernFluidCows' overlay: it replays the chicken model using the bound
  * fluid's atlas sprite and tint, letting animated textures supply the liquid motion naturally.
+ *
+ * <p>Overlays are resolved per chicken type into immutable descriptors whenever resources reload
+ * or the chicken registry version changes, so rendering only performs a map lookup and chickens
+ * without an overlay exit on the miss.</p>
  */
 public final class LiquidChickenOverlayLayer extends RenderLayer<Chicken, ChickenModel<Chicken>> {
-    private static final Map<Integer, Optional<LiquidEggRegistryItem>> LIQUID_CACHE = new HashMap<>();
+    private static final float OVERLAY_ALPHA = 0.8F;
+    // Render thread only.
+    private static final Int2ObjectMap<Overlay> OVERLAYS = new Int2ObjectOpenHashMap<>();
+    private static int overlaysVersion = -1;
 
     private final ChickenModel<Chicken> overlayModel;
 
@@ -70,64 +78,60 @@ public final class LiquidChickenOverlayLayer extends RenderLayer<Chicken, Chicke
             return;
         }
 
-        ChickensRegistryItem description = ChickensRegistry.getByType(modChicken.getChickenType());
-        if (description == null) {
-            return;
-        }
-
-        OverlayInfo overlay = resolveOverlay(modChicken, description);
+        Overlay overlay = overlayFor(modChicken.getChickenType());
         if (overlay == null) {
             return;
         }
 
-        TextureAtlasSprite sprite = Minecraft.getInstance()
-                .getModelManager()
-                .getAtlas(TextureAtlas.LOCATION_BLOCKS)
-                .getSprite(overlay.texture());
-        if (sprite == null) {
-            return;
+        int packedColor = overlay.packedColor();
+        if (overlay.fluidTint() != null) {
+            // Fluid tints can follow the biome (water), so only the sprite is cached for them.
+            int tint = overlay.fluidTint().getTintColor(overlay.fluidState(), chicken.level(), chicken.blockPosition());
+            packedColor = packColor(brightenTint(tint));
         }
 
-        int tint = overlay.tint();
-        int red = (tint >> 16) & 0xFF;
-        int green = (tint >> 8) & 0xFF;
-        int blue = tint & 0xFF;
-        float alpha = 0.8F;
-        int packedColor = FastColor.ARGB32.color(
-                Math.round(alpha * 255.0F),
-                red,
-                green,
-                blue);
-
         // Keep the overlay model in sync with the parent renderer so limb poses and animations line up.
         ChickenModel<Chicken> parentModel = this.getParentModel();
         parentModel.copyPropertiesTo(overlayModel);
         overlayModel.prepareMobModel(chicken, limbSwing, limbSwingAmount, partialTick);
         overlayModel.setupAnim(chicken, limbSwing, limbSwingAmount, ageInTicks, netHeadYaw, headPitch);
 
-        var vertexConsumer = sprite.wrap(buffer.getBuffer(RenderType.entityTranslucentCull(TextureAtlas.LOCATION_BLOCKS)));
+        var vertexConsumer = overlay.sprite().wrap(buffer.getBuffer(RenderType.entityTranslucentCull(TextureAtlas.LOCATION_BLOCKS)));
         overlayModel.renderToBuffer(poseStack, vertexConsumer, packedLight, OverlayTexture.NO_OVERLAY, packedColor);
     }
 
-    private static LiquidEggRegistryItem resolveLiquid(ChickensRegistryItem description) {
-        Optional<LiquidEggRegistryItem> cached = LIQUID_CACHE.computeIfAbsent(description.getId(), id -> {
-            ItemStack layStack = description.createLayItem();
-            if (!(layStack.getItem() instanceof LiquidEggItem)) {
-                return Optional.empty();
+    @Nullable
+    private static Overlay overlayFor(int chickenType) {
+        int version = ChickensRegistry.getVersion();
+        if (version != overlaysVersion) {
+            rebuildOverlays();
+            overlaysVersion = version;
+        }
+        return OVERLAYS.get(chickenType);
+    }
+
+    private static void rebuildOverlays() {
+        OVERLAYS.clear();
+        TextureAtlas atlas = Minecraft.getInstance().getModelManager().getAtlas(TextureAtlas.LOCATION_BLOCKS);
+        List<ChickensRegistryItem> chickens = new ArrayList<>(ChickensRegistry.getItems());
+        chickens.addAll(ChickensRegistry.getDisabledItems());
+        for (ChickensRegistryItem description : chickens) {
+            Overlay overlay = resolveOverlay(description, atlas);
+            if (overlay != null) {
+                OVERLAYS.put(description.getId(), overlay);
             }
-            return Optional.ofNullable(LiquidEggRegistry.findById(ChickenItemHelper.getChickenType(layStack)));
-        });
-        return cached.orElse(null);
+        }
     }
 
     @Nullable
-    private static OverlayInfo resolveOverlay(ChickensChicken chicken, ChickensRegistryItem description) {
+    private static Overlay resolveOverlay(ChickensRegistryItem description, TextureAtlas atlas) {
         ItemStack layStack = description.createLayItem();
         if (layStack.isEmpty()) {
             return null;
         }
+        int id = ChickenItemHelper.getChickenType(layStack);
         if (layStack.getItem() instanceof LiquidEggItem) {
-            LiquidEggRegistryItem liquid = resolveLiquid(description);
+            LiquidEggRegistryItem liquid = LiquidEggRegistry.findById(id);
             if (liquid == null) {
                 return null;
             }
@@ -137,32 +141,40 @@ public final class LiquidChickenOverlayLayer extends RenderLayer<Chicken, Chicke
             }
             Fluid fluid = fluidStack.getFluid();
             IClientFluidTypeExtensions extensions = IClientFluidTypeExtensions.of(fluid);
-            FluidState state = fluid.defaultFluidState();
-            ResourceLocation texture = extensions.getStillTexture(state, chicken.level(), chicken.blockPosition());
+            ResourceLocation texture = extensions.getStillTexture(fluidStack);
             if (texture == null) {
-                texture = extensions.getFlowingTexture(state, chicken.level(), chicken.blockPosition());
+                texture = extensions.getFlowingTexture(fluidStack);
             }
             if (texture == null) {
                 return null;
             }
-            int tint = extensions.getTintColor(state, chicken.level(), chicken.blockPosition());
-            return new OverlayInfo(texture, brightenTint(tint));
+            int tint = brightenTint(extensions.getTintColor(fluidStack));
+            return new Overlay(atlas.getSprite(texture), packColor(tint), extensions, fluid.defaultFluidState());
         }
-        int id = ChickenItemHelper.getChickenType(layStack);
         if (layStack.getItem() instanceof ChemicalEggItem) {
             ChemicalEggRegistryItem chemical = ChemicalEggRegistry.findById(id);
             if (chemical != null) {
-                return new OverlayInfo(chemical.getTexture(), brightenTint(chemical.getEggColor()));
+                return new Overlay(atlas.getSprite(chemical.getTexture()),
+                        packColor(brightenTint(chemical.getEggColor())), null, null);
             }
         } else if (layStack.getItem() instanceof GasEggItem) {
             ChemicalEggRegistryItem gas = GasEggRegistry.findById(id);
             if (gas != null) {
-                return new OverlayInfo(gas.getTexture(), brightenTint(gas.getEggColor()));
+                return new Overlay(atlas.getSprite(gas.getTexture()),
+                        packColor(brightenTint(gas.getEggColor())), null, null);
             }
         }
         return null;
     }
 
+    private static int packColor(int tint) {
+        return FastColor.ARGB32.color(
+                Math.round(OVERLAY_ALPHA * 255.0F),
+                (tint >> 16) & 0xFF,
+                (tint >> 8) & 0xFF,
+                tint & 0xFF);
+    }
+
     private static int brightenTint(int tint) {
         int red = Mth.clamp((int) (((tint >> 16) & 0xFF) * 1.2F + 24.0F), 0, 255);
         int green = Mth.clamp((int) (((tint >> 8) & 0xFF) * 1.2F + 24.0F), 0, 255);
@@ -171,7 +183,8 @@ public final class LiquidChickenOverlayLayer extends RenderLayer<Chicken, Chicke
     }
 
     public static void clearCaches() {
-        LIQUID_CACHE.clear();
+        OVERLAYS.clear();
+        overlaysVersion = -1;
     }
 
     public static SimplePreparableReloadListener<Void> reloadListener() {
@@ -183,11 +196,19 @@ public final class LiquidChickenOverlayLayer extends RenderLayer<Chicken, Chicke
 
             @Override
             protected void apply(Void object, ResourceManager resourceManager, ProfilerFiller profiler) {
+                // Sprites belong to the freshly stitched atlas, so rebuild instead of waiting for a render.
                 clearCaches();
+                rebuildOverlays();
+                overlaysVersion = ChickensRegistry.getVersion();
             }
         };
     }
 
-    private record OverlayInfo(ResourceLocation texture, int tint) {
+    /**
+     * Resolved overlay for one chicken type. Fluid overlays keep their client
+     * extensions so the tint can still follow the biome at render time.
+     */
+    private record Overlay(TextureAtlasSprite sprite, int packedColor,
+            @Nullable IClientFluidTypeExtensions fluidTint, @Nullable FluidState fluidState) {
     }
 }
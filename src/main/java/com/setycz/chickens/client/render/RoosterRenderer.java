@@ -11,7 +11,7 @@ import net.minecraft.util.Mth;
  * legacy Hatchery rooster texture maps correctly onto the geometry.
  */
 public class RoosterRenderer extends MobRenderer<Rooster, RoosterModel> {
-    private static final ResourceLocation ROOSTER_TEXTURE = ResourceLocation.fromNamespaceAndPath("chickens",
+    static final ResourceLocation ROOSTER_TEXTURE = ResourceLocation.fromNamespaceAndPath("chickens",
             "textures/entity/rooster.png");
 
     public RoosterRenderer(EntityRendererProvider.Context context) {
@@ -0,0 +1,62 @@
+package com.setycz.chickens.client.render;
+
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.math.Axis;
+import com.setycz.chickens.ChickensRegistryItem;
+import net.minecraft.client.model.ChickenModel;
+import net.minecraft.client.model.EntityModel;
+import net.minecraft.client.model.geom.ModelLayers;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.blockentity.BlockEntityRendererProvider;
+import net.minecraft.client.renderer.texture.OverlayTexture;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.animal.Chicken;
+
+/**
+ * Mid-range stand-in for the chickens shown inside machines. Holds chicken
+ * and rooster models that are posed once at construction and drawn straight
+ * into the entity render type, skipping the entity dispatcher, animation,
+ * shadows and layers. Chickens sharing a skin page land in the same buffer,
+ * so a wall of roosts is batched into a single draw per texture.
+ *
+ * <p>The transform mirrors what the living entity renderer applies for an
+ * adult facing south, so swapping between this and the animated entity at
+ * the level-of-detail boundary does not visibly shift the model.</p>
+ */
+public final class StaticChickenModels {
+    private final ChickenModel<Chicken> chickenModel;
+    private final RoosterModel roosterModel;
+
+    public StaticChickenModels(BlockEntityRendererProvider.Context context) {
+        this.chickenModel = new ChickenModel<>(context.bakeLayer(ModelLayers.CHICKEN));
+        this.roosterModel = new RoosterModel(context.bakeLayer(RoosterModel.LAYER_LOCATION));
+        // Neither model reads the entity while posing, so a neutral pose can be baked in up front.
+        // EntityModel starts out young and no entity renderer resets it here, so pin adult proportions.
+        chickenModel.young = false;
+        roosterModel.young = false;
+        chickenModel.setupAnim(null, 0.0F, 0.0F, 0.0F, 0.0F, 0.0F);
+        roosterModel.setupAnim(null, 0.0F, 0.0F, 0.0F, 0.0F, 0.0F);
+    }
+
+    public void renderChicken(ChickensRegistryItem chicken, PoseStack poseStack, MultiBufferSource buffer,
+            int packedLight) {
+        ChickenTextureAtlas.Region skin = ChickensChickenRenderer.skinRegion(chicken);
+        MultiBufferSource target = skin.isWhole() ? buffer : skin.remap(buffer);
+        render(chickenModel, RenderType.entityCutoutNoCull(skin.texture()), poseStack, target, packedLight);
+    }
+
+    public void renderRooster(PoseStack poseStack, MultiBufferSource buffer, int packedLight) {
+        render(roosterModel, RenderType.entityCutoutNoCull(RoosterRenderer.ROOSTER_TEXTURE), poseStack, buffer, packedLight);
+    }
+
+    private static <T extends Entity> void render(EntityModel<T> model, RenderType renderType, PoseStack poseStack,
+            MultiBufferSource buffer, int packedLight) {
+        poseStack.pushPose();
+        poseStack.mulPose(Axis.YP.rotationDegrees(180.0F));
+        poseStack.scale(-1.0F, -1.0F, 1.0F);
+        poseStack.translate(0.0F, -1.501F, 0.0F);
+        model.renderToBuffer(poseStack, buffer.getBuffer(renderType), packedLight, OverlayTexture.NO_OVERLAY, -1);
+        poseStack.popPose();
+    }
+}
@@ -6,6 +6,7 @@ import com.setycz.chickens.block.BreederBlock;
 import com.setycz.chickens.blockentity.AbstractChickenContainerBlockEntity.RenderData;
 import com.setycz.chickens.blockentity.BreederBlockEntity;
 import com.setycz.chickens.client.render.ChickenRenderHelper;
+import com.setycz.chickens.client.render.StaticChickenModels;
 import com.setycz.chickens.entity.ChickensChicken;
 import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.client.renderer.blockentity.BlockEntityRenderer;
@@ -25,10 +26,12 @@ import net.minecraft.world.level.block.state.BlockState;
 public class BreederBlockEntityRenderer implements BlockEntityRenderer<BreederBlockEntity> {
     private final EntityRenderDispatcher dispatcher;
     private final ItemRenderer itemRenderer;
+    private final StaticChickenModels staticModels;
 
     public BreederBlockEntityRenderer(BlockEntityRendererProvider.Context context) {
         this.dispatcher = context.getEntityRenderer();
         this.itemRenderer = context.getItemRenderer();
+        this.staticModels = new StaticChickenModels(context);
     }
 
     @Override
@@ -39,23 +42,27 @@ public class BreederBlockEntityRenderer implements BlockEntityRenderer<BreederBl
             return;
         }
         Direction facing = state.getValue(BreederBlock.FACING);
+        boolean animated = ChickenRenderLod.isAnimated(breeder.getBlockPos());
 
-        renderChicken(breeder, BreederBlockEntity.LEFT_CHICKEN_SLOT, -0.25D, facing, partialTicks, poseStack, buffer,
-                packedLight);
-        renderChicken(breeder, BreederBlockEntity.RIGHT_CHICKEN_SLOT, 0.25D, facing, partialTicks, poseStack, buffer,
-                packedLight);
+        renderChicken(breeder, BreederBlockEntity.LEFT_CHICKEN_SLOT, -0.25D, facing, animated, partialTicks, poseStack,
+                buffer, packedLight);
+        renderChicken(breeder, BreederBlockEntity.RIGHT_CHICKEN_SLOT, 0.25D, facing, animated, partialTicks, poseStack,
+                buffer, packedLight);
         renderSeeds(breeder, facing, poseStack, buffer, packedLight, packedOverlay);
     }
 
-    private void renderChicken(BreederBlockEntity breeder, int slot, double xOffset, Direction facing, float partialTicks,
-            PoseStack poseStack, MultiBufferSource buffer, int packedLight) {
+    private void renderChicken(BreederBlockEntity breeder, int slot, double xOffset, Direction facing, boolean animated,
+            float partialTicks, PoseStack poseStack, MultiBufferSource buffer, int packedLight) {
         RenderData data = breeder.getRenderData(slot);
         if (data == null) {
             return;
         }
-        ChickensChicken chicken = ChickenRenderHelper.getChicken(data.chicken().getId(), data.stats());
-        if (chicken == null) {
-            return;
+        ChickensChicken chicken = null;
+        if (animated) {
+            chicken = ChickenRenderHelper.getChicken(data.chicken().getId(), data.stats());
+            if (chicken == null) {
+                return;
+            }
         }
 
         poseStack.pushPose();
@@ -64,8 +71,12 @@ public class BreederBlockEntityRenderer implements BlockEntityRenderer<BreederBl
         poseStack.translate(xOffset, 0.0D, 0.1D);
         poseStack.scale(0.35F, 0.35F, 0.35F);
 
-        ChickenRenderHelper.resetPose(chicken);
-        dispatcher.render(chicken, 0.0D, 0.0D, 0.0D, 0.0F, partialTicks, poseStack, buffer, packedLight);
+        if (chicken != null) {
+            ChickenRenderHelper.resetPose(chicken);
+            dispatcher.render(chicken, 0.0D, 0.0D, 0.0D, 0.0F, partialTicks, poseStack, buffer, packedLight);
+        } else {
+            staticModels.renderChicken(data.chicken(), poseStack, buffer, packedLight);
+        }
         poseStack.popPose();
     }
 
@@ -86,7 +97,7 @@ public class BreederBlockEntityRenderer implements BlockEntityRenderer<BreederBl
     }
 
     @Override
-    public boolean shouldRenderOffScreen(BreederBlockEntity blockEntity) {
-        return true;
+    public int getViewDistance() {
+        return ChickenRenderLod.viewDistance();
     }
 }
@@ -0,0 +1,28 @@
+package com.setycz.chickens.client.render.blockentity;
+
+import com.setycz.chickens.config.ChickensConfigHolder;
+import net.minecraft.client.Minecraft;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Distance-based level of detail shared by the machines that display their
+ * chickens. Within the animated distance the real entity is drawn through the
+ * entity dispatcher; beyond it a static pre-posed model is used; and past the
+ * render distance the block entity renderer is skipped entirely by returning
+ * that distance from {@code getViewDistance}, leaving only the block model.
+ */
+final class ChickenRenderLod {
+    private ChickenRenderLod() {
+    }
+
+    static boolean isAnimated(BlockPos pos) {
+        int distance = ChickensConfigHolder.get().getBlockEntityAnimatedDistance();
+        Vec3 camera = Minecraft.getInstance().gameRenderer.getMainCamera().getPosition();
+        return Vec3.atCenterOf(pos).distanceToSqr(camera) <= (double) distance * distance;
+    }
+
+    static int viewDistance() {
+        return ChickensConfigHolder.get().getBlockEntityRenderDistance();
+    }
+}
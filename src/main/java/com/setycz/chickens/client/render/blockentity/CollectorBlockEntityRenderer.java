@@ -13,7 +13,6 @@ import net.minecraft.world.item.ItemDisplayContext;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -23,7 +22,6 @@ import java.util.List;
  * keeping the logic data driven.
  */
 public class CollectorBlockEntityRenderer implements BlockEntityRenderer<CollectorBlockEntity> {
-    private static final int MAX_DISPLAY_ITEMS = 4;
     private static final float ORBIT_RADIUS = 0.25F;
     private final ItemRenderer itemRenderer;
 
@@ -36,7 +34,7 @@ public class CollectorBlockEntityRenderer implements BlockEntityRenderer<Collect
     @Override
     public void render(CollectorBlockEntity collector, float partialTicks, PoseStack poseStack, MultiBufferSource buffer,
             int packedLight, int packedOverlay) {
-        List<ItemStack> displayStacks = collectDisplayStacks(collector);
+        List<ItemStack> displayStacks = collector.getDisplayStacks();
         if (displayStacks.isEmpty()) {
             return;
         }
@@ -68,25 +66,9 @@ public class CollectorBlockEntityRenderer implements BlockEntityRenderer<Collect
         }
     }
 
-    private static List<ItemStack> collectDisplayStacks(CollectorBlockEntity collector) {
-        List<ItemStack> result = new ArrayList<>(MAX_DISPLAY_ITEMS);
-        for (ItemStack stack : collector.getItems()) {
-            if (stack.isEmpty()) {
-                continue;
-            }
-            boolean duplicate = result.stream().anyMatch(existing -> ItemStack.isSameItemSameComponents(existing, stack));
-            if (duplicate) {
-                continue;
-            }
-            // Render a single item so the orbit stays readable regardless of the real stack size.
-            ItemStack copy = stack.copy();
-            copy.setCount(1);
-            result.add(copy);
-            if (result.size() >= MAX_DISPLAY_ITEMS) {
-                break;
-            }
-        }
-        return result;
+    @Override
+    public int getViewDistance() {
+        return ChickenRenderLod.viewDistance();
     }
 
     private static float getAnimationTime(float partialTicks) {
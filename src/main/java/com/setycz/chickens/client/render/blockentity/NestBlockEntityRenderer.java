@@ -4,6 +4,7 @@ import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.math.Axis;
 import com.setycz.chickens.block.NestBlock;
 import com.setycz.chickens.blockentity.NestBlockEntity;
+import com.setycz.chickens.client.render.StaticChickenModels;
 import com.setycz.chickens.entity.Rooster;
 import com.setycz.chickens.registry.ModEntityTypes;
 import net.minecraft.client.renderer.MultiBufferSource;
@@ -26,10 +27,12 @@ public class NestBlockEntityRenderer implements BlockEntityRenderer<NestBlockEnt
     private static final double FLOOR_OFFSET = -0.11D;
 
     private final EntityRenderDispatcher dispatcher;
+    private final StaticChickenModels staticModels;
     private Rooster roosterPreview;
 
     public NestBlockEntityRenderer(BlockEntityRendererProvider.Context context) {
         this.dispatcher = context.getEntityRenderer();
+        this.staticModels = new StaticChickenModels(context);
     }
 
     @Override
@@ -69,12 +72,16 @@ public class NestBlockEntityRenderer implements BlockEntityRenderer<NestBlockEnt
 
         // Mirror the Roost renderer's yaw so the rooster always looks out of
         // the opening regardless of block orientation.
-        dispatcher.render(roosterPreview, 0.0D, 0.0D, 0.0D, 180.0F, 0.0F, poseStack, buffer, LightTexture.FULL_BRIGHT);
+        if (ChickenRenderLod.isAnimated(nest.getBlockPos())) {
+            dispatcher.render(roosterPreview, 0.0D, 0.0D, 0.0D, 180.0F, 0.0F, poseStack, buffer, LightTexture.FULL_BRIGHT);
+        } else {
+            staticModels.renderRooster(poseStack, buffer, LightTexture.FULL_BRIGHT);
+        }
         poseStack.popPose();
     }
 
     @Override
-    public boolean shouldRenderOffScreen(NestBlockEntity blockEntity) {
-        return true;
+    public int getViewDistance() {
+        return ChickenRenderLod.viewDistance();
     }
 }
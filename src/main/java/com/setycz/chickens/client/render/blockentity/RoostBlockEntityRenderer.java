@@ -6,6 +6,7 @@ import com.setycz.chickens.block.RoostBlock;
 import com.setycz.chickens.blockentity.AbstractChickenContainerBlockEntity.RenderData;
 import com.setycz.chickens.blockentity.RoostBlockEntity;
 import com.setycz.chickens.client.render.ChickenRenderHelper;
+import com.setycz.chickens.client.render.StaticChickenModels;
 import com.setycz.chickens.entity.ChickensChicken;
 import com.setycz.chickens.entity.Rooster;
 import com.setycz.chickens.item.ChickenItemHelper;
@@ -23,6 +24,8 @@ import net.minecraft.world.level.block.state.BlockState;
 /**
  * Renders the chicken sprite inside a roost by reusing the animated Chicken
  * entity. The pose and scaling are tuned to match the legacy Roost look.
+ * Roosts beyond the animated distance draw a static model instead, see
+ * {@link ChickenRenderLod}.
  */
 public class RoostBlockEntityRenderer implements BlockEntityRenderer<RoostBlockEntity> {
     private static final float BASE_SCALE = 0.9F;
@@ -31,10 +34,12 @@ public class RoostBlockEntityRenderer implements BlockEntityRenderer<RoostBlockE
     private static final double FLOOR_OFFSET = -0.11D;
 
     private final EntityRenderDispatcher dispatcher;
+    private final StaticChickenModels staticModels;
     private Rooster roosterPreview;
 
     public RoostBlockEntityRenderer(BlockEntityRendererProvider.Context context) {
         this.dispatcher = context.getEntityRenderer();
+        this.staticModels = new StaticChickenModels(context);
     }
 
     @Override
@@ -50,9 +55,13 @@ public class RoostBlockEntityRenderer implements BlockEntityRenderer<RoostBlockE
         if (data == null || data.count() <= 0) {
             return;
         }
-        ChickensChicken chicken = ChickenRenderHelper.getChicken(data.chicken().getId(), data.stats());
-        if (chicken == null) {
-            return;
+        ChickensChicken chicken = null;
+        boolean animated = ChickenRenderLod.isAnimated(roost.getBlockPos());
+        if (animated) {
+            chicken = ChickenRenderHelper.getChicken(data.chicken().getId(), data.stats());
+            if (chicken == null) {
+                return;
+            }
         }
 
         BlockState state = roost.getBlockState();
@@ -69,8 +78,12 @@ public class RoostBlockEntityRenderer implements BlockEntityRenderer<RoostBlockE
         float scale = Math.min(BASE_SCALE, BASE_SCALE + (data.count() - 1) * SCALE_PER_CHICKEN);
         poseStack.scale(scale, scale, scale);
 
-        ChickenRenderHelper.resetPose(chicken);
-        dispatcher.render(chicken, 0.0D, 0.0D, 0.0D, 180.0F, 0.0F, poseStack, buffer, LightTexture.FULL_BRIGHT);
+        if (chicken != null) {
+            ChickenRenderHelper.resetPose(chicken);
+            dispatcher.render(chicken, 0.0D, 0.0D, 0.0D, 180.0F, 0.0F, poseStack, buffer, LightTexture.FULL_BRIGHT);
+        } else {
+            staticModels.renderChicken(data.chicken(), poseStack, buffer, LightTexture.FULL_BRIGHT);
+        }
         poseStack.popPose();
     }
 
@@ -100,12 +113,16 @@ public class RoostBlockEntityRenderer implements BlockEntityRenderer<RoostBlockE
         float scale = Math.min(BASE_SCALE, BASE_SCALE + (count - 1) * SCALE_PER_CHICKEN);
         poseStack.scale(scale, scale, scale);
 
-        dispatcher.render(roosterPreview, 0.0D, 0.0D, 0.0D, 180.0F, 0.0F, poseStack, buffer, LightTexture.FULL_BRIGHT);
+        if (ChickenRenderLod.isAnimated(roost.getBlockPos())) {
+            dispatcher.render(roosterPreview, 0.0D, 0.0D, 0.0D, 180.0F, 0.0F, poseStack, buffer, LightTexture.FULL_BRIGHT);
+        } else {
+            staticModels.renderRooster(poseStack, buffer, LightTexture.FULL_BRIGHT);
+        }
         poseStack.popPose();
     }
 
     @Override
-    public boolean shouldRenderOffScreen(RoostBlockEntity blockEntity) {
-        return true;
+    public int getViewDistance() {
+        return ChickenRenderLod.viewDistance();
     }
 }
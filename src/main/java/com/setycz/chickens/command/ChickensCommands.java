@@ -3,12 +3,16 @@ package com.setycz.chickens.command;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.arguments.BoolArgumentType;
 import com.mojang.brigadier.arguments.FloatArgumentType;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
 import com.mojang.brigadier.arguments.StringArgumentType;
 import com.setycz.chickens.ChickensRegistry;
 import com.setycz.chickens.data.BreedingGraphExporter;
 import com.setycz.chickens.ChickensRegistryItem;
 import com.setycz.chickens.SpawnType;
 import com.setycz.chickens.entity.ChickensChicken;
+import com.setycz.chickens.perf.ChickensProfiler;
+import com.setycz.chickens.perf.ProfilerSession;
+import com.setycz.chickens.perf.TickHistogram;
 import com.setycz.chickens.registry.ModEntityTypes;
 import com.setycz.chickens.spawn.ChickensSpawnDebug;
 import com.setycz.chickens.spawn.ChickensSpawnManager;
@@ -17,10 +21,17 @@ import net.minecraft.commands.Commands;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.MobSpawnType;
+import net.neoforged.fml.loading.FMLPaths;
 import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.event.RegisterCommandsEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Optional;
 import java.util.Locale;
 
@@ -28,9 +39,15 @@ import java.util.Locale;
 /**
  * Registers the Chickens command tree. Modern NeoForge exposes Brigadier
  * directly, so we expose a {@code /chickens export breeding} command that lets
- * players regenerate the breeding graph without restarting the server.
+ * players regenerate the breeding graph without restarting the server, and
+ * {@code /chickens perf} so operators can see which farms cost the most tick
+ * time.
  */
 public final class ChickensCommands {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChickensCommands.class);
+    private static final int DEFAULT_PERF_TOP = 10;
+    private static final DateTimeFormatter DUMP_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss", Locale.ROOT);
+
     private ChickensCommands() {
     }
 
@@ -60,7 +77,18 @@ public final class ChickensCommands {
                         .then(Commands.literal("summon_random")
                                 .executes(ctx -> summonRandom(ctx.getSource(), null))
                                 .then(Commands.argument("spawn_type", StringArgumentType.word())
-                                        .executes(ctx -> summonRandom(ctx.getSource(), StringArgumentType.getString(ctx, "spawn_type"))))));
+                                        .executes(ctx -> summonRandom(ctx.getSource(), StringArgumentType.getString(ctx, "spawn_type"))))))
+                .then(Commands.literal("perf")
+                        .then(Commands.literal("start")
+                                .executes(ctx -> startProfiler(ctx.getSource())))
+                        .then(Commands.literal("stop")
+                                .executes(ctx -> stopProfiler(ctx.getSource())))
+                        .then(Commands.literal("top")
+                                .executes(ctx -> showProfilerTop(ctx.getSource(), DEFAULT_PERF_TOP))
+                                .then(Commands.argument("count", IntegerArgumentType.integer(1, 100))
+                                        .executes(ctx -> showProfilerTop(ctx.getSource(), IntegerArgumentType.getInteger(ctx, "count")))))
+                        .then(Commands.literal("dump")
+                                .executes(ctx -> dumpProfiler(ctx.getSource()))));
         event.getDispatcher().register(root);
     }
 
@@ -122,6 +150,106 @@ public final class ChickensCommands {
         return 0;
     }
 
+    private static int startProfiler(CommandSourceStack source) {
+        if (!ChickensProfiler.start()) {
+            source.sendFailure(Component.translatable("commands.chickens.perf.already_running"));
+            return 0;
+        }
+        source.sendSuccess(() -> Component.translatable("commands.chickens.perf.started"), true);
+        return 1;
+    }
+
+    private static int stopProfiler(CommandSourceStack source) {
+        Optional<ProfilerSession> stopped = ChickensProfiler.stop();
+        if (stopped.isEmpty()) {
+            source.sendFailure(Component.translatable("commands.chickens.perf.not_running"));
+            return 0;
+        }
+        ProfilerSession session = stopped.get();
+        source.sendSuccess(() -> Component.translatable("commands.chickens.perf.stopped",
+                seconds(session.durationNanos()), session.sampleCount()), true);
+        return 1;
+    }
+
+    private static int showProfilerTop(CommandSourceStack source, int count) {
+        Optional<ProfilerSession> current = ChickensProfiler.current();
+        if (current.isEmpty()) {
+            source.sendFailure(Component.translatable("commands.chickens.perf.no_data"));
+            return 0;
+        }
+        // Per-type totals first so operators see which machine family is
+        // expensive, then the individual blocks and chunks to go and inspect.
+        ProfilerSession session = current.get();
+        source.sendSuccess(() -> Component.translatable("commands.chickens.perf.summary",
+                seconds(session.durationNanos()), session.sampleCount()), false);
+        if (session.untrackedSampleCount() > 0) {
+            source.sendSuccess(() -> Component.translatable("commands.chickens.perf.untracked",
+                    session.untrackedSampleCount()), false);
+        }
+        for (ProfilerSession.TypeEntry entry : session.types()) {
+            TickHistogram histogram = entry.histogram();
+            source.sendSuccess(() -> Component.translatable("commands.chickens.perf.type", entry.type(),
+                    histogram.count(), millis(histogram.totalNanos()), micros(histogram.meanNanos()),
+                    micros(histogram.percentileNanos(0.99D)), micros(histogram.maxNanos())), false);
+        }
+        List<ProfilerSession.PositionEntry> positions = session.hottestPositions(count);
+        if (!positions.isEmpty()) {
+            source.sendSuccess(() -> Component.translatable("commands.chickens.perf.positions"), false);
+        }
+        for (int i = 0; i < positions.size(); i++) {
+            ProfilerSession.PositionEntry entry = positions.get(i);
+            TickHistogram histogram = entry.histogram();
+            int rank = i + 1;
+            source.sendSuccess(() -> Component.translatable("commands.chickens.perf.position", rank, entry.type(),
+                    entry.dimension().location().toString(), entry.pos().toShortString(),
+                    millis(histogram.totalNanos()), micros(histogram.meanNanos()), micros(histogram.maxNanos())), false);
+        }
+        List<ProfilerSession.ChunkEntry> chunks = session.hottestChunks(count);
+        if (!chunks.isEmpty()) {
+            source.sendSuccess(() -> Component.translatable("commands.chickens.perf.chunks"), false);
+        }
+        for (int i = 0; i < chunks.size(); i++) {
+            ProfilerSession.ChunkEntry entry = chunks.get(i);
+            TickHistogram histogram = entry.histogram();
+            int rank = i + 1;
+            source.sendSuccess(() -> Component.translatable("commands.chickens.perf.chunk", rank,
+                    entry.dimension().location().toString(), entry.chunk().x, entry.chunk().z,
+                    millis(histogram.totalNanos()), histogram.count()), false);
+        }
+        return 1;
+    }
+
+    private static int dumpProfiler(CommandSourceStack source) {
+        Optional<ProfilerSession> current = ChickensProfiler.current();
+        if (current.isEmpty()) {
+            source.sendFailure(Component.translatable("commands.chickens.perf.no_data"));
+            return 0;
+        }
+        Path output = FMLPaths.GAMEDIR.get().resolve("logs")
+                .resolve("chickens-perf-" + DUMP_TIMESTAMP.format(LocalDateTime.now()) + ".csv");
+        try {
+            current.get().writeCsv(output);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to write Chickens profiler data", e);
+            source.sendFailure(Component.translatable("commands.chickens.perf.dump.failure"));
+            return 0;
+        }
+        source.sendSuccess(() -> Component.translatable("commands.chickens.perf.dump.success", output.toString()), true);
+        return 1;
+    }
+
+    private static String seconds(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1.0E9D);
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1.0E6D);
+    }
+
+    private static String micros(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1.0E3D);
+    }
+
     private static boolean spawnChickenNearSource(CommandSourceStack source, ChickensRegistryItem chicken) {
         ServerLevel level = source.getLevel();
         ChickensChicken entity = ModEntityTypes.CHICKENS_CHICKEN.get().create(level);
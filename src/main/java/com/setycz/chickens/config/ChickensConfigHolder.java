@@ -21,6 +21,7 @@ public final class ChickensConfigHolder {
             20 * 60,                 // nestSeedDurationTicks (60 seconds per seed)
             false,                   // disableVanillaEggLaying
             4,                       // collectorScanRange
+            true,                    // collectorEventDriven
             true,                    // avianFluxEffectsEnabled
             1.0D,                    // fluxEggCapacityMultiplier
             50_000,                  // avianFluxCapacity
@@ -38,7 +39,9 @@ public final class ChickensConfigHolder {
             true,                    // gasChickensEnabled
             10_000,                  // incubatorEnergyCost
             100_000,                 // incubatorEnergyCapacity
-            4_000                    // incubatorEnergyMaxReceive
+            4_000,                   // incubatorEnergyMaxReceive
+            16,                      // blockEntityAnimatedDistance
+            64                       // blockEntityRenderDistance
     );
 
     private ChickensConfigHolder() {
@@ -29,6 +29,11 @@ public final class ChickensConfigValues {
     private final int nestSeedDurationTicks;
     private final boolean disableVanillaEggLaying;
     private final int collectorScanRange;
+    /**
+     * When enabled collectors only visit containers that reported new output
+     * through the per-level source index instead of sweeping their scan cube.
+     */
+    private final boolean collectorEventDriven;
     private final boolean avianFluxEffectsEnabled;
     private final double fluxEggCapacityMultiplier;
     private final int avianFluxCapacity;
@@ -47,6 +52,13 @@ public final class ChickensConfigValues {
     private final int incubatorEnergyCost;
     private final int incubatorEnergyCapacity;
     private final int incubatorEnergyMaxReceive;
+    /** Blocks within which roosts, breeders and nests draw fully animated entities. */
+    private final int blockEntityAnimatedDistance;
+    /**
+     * Blocks within which those machines draw their occupants at all; between
+     * the two distances a static pre-posed model is drawn instead.
+     */
+    private final int blockEntityRenderDistance;
 
     public ChickensConfigValues(int spawnProbability, int minBroodSize, int maxBroodSize,
             float netherSpawnChanceMultiplier, float overworldSpawnChance,
@@ -54,14 +66,15 @@ public final class ChickensConfigValues {
             double roostSpeedMultiplier, double breederSpeedMultiplier,
             double roosterAuraMultiplier, int roosterAuraRange,
             int nestMaxRoosters, int nestSeedDurationTicks,
-            boolean disableVanillaEggLaying, int collectorScanRange,
+            boolean disableVanillaEggLaying, int collectorScanRange, boolean collectorEventDriven,
             boolean avianFluxEffectsEnabled, double fluxEggCapacityMultiplier,
             int avianFluxCapacity, int avianFluxMaxReceive, int avianFluxMaxExtract,
             int avianFluidCapacity, int avianFluidTransferRate, boolean avianFluidEffectsEnabled,
             int avianChemicalCapacity, int avianChemicalTransferRate, boolean avianChemicalEffectsEnabled,
             boolean liquidEggHazardsEnabled, boolean fluidChickensEnabled,
             boolean chemicalChickensEnabled, boolean gasChickensEnabled, int incubatorEnergyCost,
-            int incubatorEnergyCapacity, int incubatorEnergyMaxReceive) {
+            int incubatorEnergyCapacity, int incubatorEnergyMaxReceive,
+            int blockEntityAnimatedDistance, int blockEntityRenderDistance) {
         this.spawnProbability = spawnProbability;
         this.minBroodSize = minBroodSize;
         this.maxBroodSize = maxBroodSize;
@@ -78,6 +91,7 @@ public final class ChickensConfigValues {
         this.nestSeedDurationTicks = nestSeedDurationTicks;
         this.disableVanillaEggLaying = disableVanillaEggLaying;
         this.collectorScanRange = collectorScanRange;
+        this.collectorEventDriven = collectorEventDriven;
         this.avianFluxEffectsEnabled = avianFluxEffectsEnabled;
         this.fluxEggCapacityMultiplier = fluxEggCapacityMultiplier;
         this.avianFluxCapacity = avianFluxCapacity;
@@ -96,6 +110,8 @@ public final class ChickensConfigValues {
         this.incubatorEnergyCost = incubatorEnergyCost;
         this.incubatorEnergyCapacity = incubatorEnergyCapacity;
         this.incubatorEnergyMaxReceive = incubatorEnergyMaxReceive;
+        this.blockEntityAnimatedDistance = blockEntityAnimatedDistance;
+        this.blockEntityRenderDistance = blockEntityRenderDistance;
     }
 
     public int getSpawnProbability() {
@@ -179,6 +195,14 @@ public final class ChickensConfigValues {
         return collectorScanRange;
     }
 
+    /**
+     * Returns true when collectors should react to output notifications from
+     * indexed containers rather than sweeping every block in range each tick.
+     */
+    public boolean isCollectorEventDriven() {
+        return collectorEventDriven;
+    }
+
     public boolean isAvianFluxEffectsEnabled() {
         return avianFluxEffectsEnabled;
     }
@@ -250,4 +274,12 @@ public final class ChickensConfigValues {
     public int getIncubatorEnergyMaxReceive() {
         return incubatorEnergyMaxReceive;
     }
+
+    public int getBlockEntityAnimatedDistance() {
+        return blockEntityAnimatedDistance;
+    }
+
+    public int getBlockEntityRenderDistance() {
+        return blockEntityRenderDistance;
+    }
 }
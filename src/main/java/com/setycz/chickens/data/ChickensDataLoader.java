@@ -2,7 +2,9 @@ package com.setycz.chickens.data;
 
 import com.setycz.chickens.ChemicalEggRegistry;
 import com.setycz.chickens.ChemicalEggRegistryItem;
+import com.setycz.chickens.ChickensRegistry;
 import com.setycz.chickens.ChickensRegistryItem;
+import com.setycz.chickens.ChickensRegistrySnapshot;
 import com.setycz.chickens.LiquidEggRegistry;
 import com.setycz.chickens.LiquidEggRegistryItem;
 import com.setycz.chickens.SpawnType;
@@ -106,6 +108,7 @@ public final class ChickensDataLoader {
         LegacyConfigBridge.export(props, List.of(), values);
 
         LOGGER.info("KubeJS chicken registry ready; awaiting script registration.");
+        ChickensRegistry.refreshSnapshot();
         ChickensSpawnManager.refreshFromRegistry();
     }
 
@@ -420,10 +423,14 @@ public final class ChickensDataLoader {
         }
 
         Map<ChickensRegistryItem, ParentNames> parentOverrides = new HashMap<>();
+        // Every setter below bumps the registry version, so defaults come from
+        // one snapshot and the enabled flags are applied after the loop; reading
+        // isEnabled() per chicken would rebuild the snapshot on every iteration.
+        ChickensRegistrySnapshot defaults = ChickensRegistry.snapshot();
+        Map<ChickensRegistryItem, Boolean> enabledFlags = new HashMap<>();
         for (ChickensRegistryItem chicken : chickens) {
             String prefix = "chicken." + chicken.getEntityName() + ".";
-            boolean enabled = readBoolean(props, prefix + "enabled", chicken.isEnabled());
-            chicken.setEnabled(enabled);
+            enabledFlags.put(chicken, readBoolean(props, prefix + "enabled", defaults.isEnabled(chicken)));
 
             float layCoefficient = readFloat(props, prefix + "layCoefficient", 1.0f);
             chicken.setLayCoefficient(layCoefficient);
@@ -471,6 +478,10 @@ public final class ChickensDataLoader {
                 chicken.setNoParents();
             }
         }
+        for (Map.Entry<ChickensRegistryItem, Boolean> entry : enabledFlags.entrySet()) {
+            entry.getKey().setEnabled(entry.getValue());
+        }
+        ChickensRegistry.refreshSnapshot();
 
         LegacyConfigBridge.export(props, chickens, values);
         return values;
@@ -652,6 +663,7 @@ public final class ChickensDataLoader {
                 readInt(props, "general.nestSeedDurationTicks", 20 * 60));
         boolean disableEggLaying = readBoolean(props, "general.disableVanillaEggLaying", false);
         int collectorRange = readInt(props, "general.collectorScanRange", 4);
+        boolean collectorEventDriven = readBoolean(props, "general.collectorEventDriven", true);
         boolean avianFluxEffects = readBoolean(props, "general.avianFluxEffectsEnabled", true);
         double fluxEggMultiplier = readDouble(props, "general.fluxEggCapacityMultiplier", 1.0D);
         if (fluxEggMultiplier < 0.0D) {
@@ -681,17 +693,25 @@ public final class ChickensDataLoader {
                 readInt(props, "general.incubatorMaxReceive", 4_000), 1);
         int incubatorEnergyCost = ensurePositive(props, "general.incubatorEnergyCost",
                 readInt(props, "general.incubatorEnergyCost", 10_000), 1);
+        int animatedDistance = ensureNonNegative(props, "client.blockEntityAnimatedDistance",
+                readInt(props, "client.blockEntityAnimatedDistance", 16));
+        int renderDistance = ensureNonNegative(props, "client.blockEntityRenderDistance",
+                readInt(props, "client.blockEntityRenderDistance", 64));
+        if (animatedDistance > renderDistance) {
+            animatedDistance = renderDistance;
+            props.setProperty("client.blockEntityAnimatedDistance", Integer.toString(animatedDistance));
+        }
         return new ChickensConfigValues(spawnProbability, minBroodSize, maxBroodSize, multiplier,
                 overworldChance, netherChance, endChance, alwaysShowStats,
                 roostSpeed, breederSpeed, roosterAuraMultiplier, roosterAuraRange,
                 nestMaxRoosters, nestSeedDurationTicks,
-                disableEggLaying, collectorRange, avianFluxEffects,
+                disableEggLaying, collectorRange, collectorEventDriven, avianFluxEffects,
                 Math.max(0.0D, fluxEggMultiplier), avianCapacity, avianReceive, avianExtract,
                 avianFluidCapacity, avianFluidTransfer, avianFluidEffects,
                 avianChemicalCapacity, avianChemicalTransfer, avianChemicalEffects,
                 liquidEggHazards,
                 fluidChickensEnabled, chemicalChickensEnabled, gasChickensEnabled, incubatorEnergyCost,
-                incubatorCapacity, incubatorMaxReceive);
+                incubatorCapacity, incubatorMaxReceive, animatedDistance, renderDistance);
     }
 
     private static String readString(Properties props, String key, String defaultValue) {
@@ -801,6 +821,7 @@ public final class ChickensDataLoader {
         if (event.getUpdateCause() == TagsUpdatedEvent.UpdateCause.SERVER_DATA_LOAD
                 || event.getUpdateCause() == TagsUpdatedEvent.UpdateCause.CLIENT_PACKET_RECEIVED) {
             // Rebuild spawn plans on tag reloads while leaving chicken data to KubeJS.
+            ChickensRegistry.refreshSnapshot();
             ChickensSpawnManager.refreshFromRegistry();
         }
     }
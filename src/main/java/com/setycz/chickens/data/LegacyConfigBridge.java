@@ -72,6 +72,8 @@ public final class LegacyConfigBridge {
                 }
                 if ("general".equalsIgnoreCase(currentSection)) {
                     applyGeneralValue(props, key, value);
+                } else if ("client".equalsIgnoreCase(currentSection)) {
+                    applyClientValue(props, key, value);
                 } else {
                     ChickensRegistryItem chicken = byName.get(currentSection);
                     if (chicken != null) {
@@ -118,6 +120,7 @@ public final class LegacyConfigBridge {
             writer.write(String.format(Locale.ROOT, "    I:nestSeedDurationTicks=%d%n", general.getNestSeedDurationTicks()));
             writer.write(String.format(Locale.ROOT, "    B:disableEggLaying=%s%n", general.isVanillaEggLayingDisabled()));
             writer.write(String.format(Locale.ROOT, "    I:collectorScanRange=%d%n", general.getCollectorScanRange()));
+            writer.write(String.format(Locale.ROOT, "    B:collectorEventDriven=%s%n", general.isCollectorEventDriven()));
             writer.write(String.format(Locale.ROOT, "    B:avianFluxEffectsEnabled=%s%n", general.isAvianFluxEffectsEnabled()));
             writer.write(String.format(Locale.ROOT, "    D:fluxEggCapacityMultiplier=%.3f%n", general.getFluxEggCapacityMultiplier()));
             writer.write(String.format(Locale.ROOT, "    I:avianFluxCapacity=%d%n", general.getAvianFluxCapacity()));
@@ -139,6 +142,11 @@ public final class LegacyConfigBridge {
             writer.write(String.format(Locale.ROOT, "    B:enableGasChickens=%s%n", general.isGasChickensEnabled()));
             writer.write("}\n\n");
 
+            writer.write("client {\n");
+            writer.write(String.format(Locale.ROOT, "    I:blockEntityAnimatedDistance=%d%n", general.getBlockEntityAnimatedDistance()));
+            writer.write(String.format(Locale.ROOT, "    I:blockEntityRenderDistance=%d%n", general.getBlockEntityRenderDistance()));
+            writer.write("}\n\n");
+
             for (ChickensRegistryItem chicken : ordered) {
                 String category = chicken.getEntityName();
                 writer.write(category + " {\n");
@@ -179,6 +187,7 @@ public final class LegacyConfigBridge {
             case "nestSeedDurationTicks" -> props.setProperty("general.nestSeedDurationTicks", value);
             case "disableEggLaying" -> props.setProperty("general.disableVanillaEggLaying", value);
             case "collectorScanRange" -> props.setProperty("general.collectorScanRange", value);
+            case "collectorEventDriven" -> props.setProperty("general.collectorEventDriven", value);
             case "avianFluxEffectsEnabled" -> props.setProperty("general.avianFluxEffectsEnabled", value);
             case "fluxEggCapacityMultiplier" -> props.setProperty("general.fluxEggCapacityMultiplier", value);
             case "avianFluxCapacity" -> props.setProperty("general.avianFluxCapacity", value);
@@ -202,6 +211,15 @@ public final class LegacyConfigBridge {
         }
     }
 
+    private static void applyClientValue(Properties props, String key, String value) {
+        switch (key) {
+            case "blockEntityAnimatedDistance" -> props.setProperty("client.blockEntityAnimatedDistance", value);
+            case "blockEntityRenderDistance" -> props.setProperty("client.blockEntityRenderDistance", value);
+            default -> {
+            }
+        }
+    }
+
     private static void applyChickenValue(Properties props, ChickensRegistryItem chicken, String key, String value) {
         String prefix = prefixFor(chicken.getEntityName());
         switch (key) {
@@ -1,11 +1,15 @@
 package com.setycz.chickens.entity;
 
+import com.setycz.chickens.ChickenBreedingCalculator;
 import com.setycz.chickens.ChickensRegistry;
 import com.setycz.chickens.ChickensRegistryItem;
 import com.setycz.chickens.SpawnType;
 import com.setycz.chickens.blockentity.HenhouseBlockEntity;
+import com.setycz.chickens.blockentity.HenhouseIndex;
 import com.setycz.chickens.item.ChickenStats;
 import com.setycz.chickens.item.FluxEggItem;
+import com.setycz.chickens.jfr.EggLayEvent;
+import com.setycz.chickens.perf.ChickensProfiler;
 import com.setycz.chickens.registry.ModEntityTypes;
 import com.setycz.chickens.spawn.ChickensSpawnManager;
 import com.setycz.chickens.spawn.ChickensSpawnDebug;
@@ -65,6 +69,9 @@ public class ChickensChicken extends Chicken {
     private static final String TAG_STRENGTH = "Strength";
 
     private int layTime;
+    // Remembers the henhouses around this bird between lays; the index drops
+    // the memo whenever a henhouse in the covered sections changes.
+    private final HenhouseIndex.NearbyCache henhouseCache = new HenhouseIndex.NearbyCache();
 
     public ChickensChicken(net.minecraft.world.entity.EntityType<? extends Chicken> type, Level level) {
         super(type, level);
@@ -116,6 +123,10 @@ public class ChickensChicken extends Chicken {
         this.entityData.set(DATA_STRENGTH, strength);
     }
 
+    public ChickenStats getStats() {
+        return new ChickenStats(this.getGrowth(), this.getGain(), this.getStrength(), this.getStatsAnalyzed());
+    }
+
     public int getChickenType() {
         return this.entityData.get(DATA_TYPE);
     }
@@ -202,7 +213,9 @@ public class ChickensChicken extends Chicken {
         this.flap += this.flapping * 2.0F;
 
         if (!this.level().isClientSide && this.isAlive() && !this.isBaby() && !this.isChickenJockey()) {
+            long profilerStart = ChickensProfiler.begin();
             this.tickResourceLaying();
+            ChickensProfiler.end(ChickensProfiler.CHICKEN_LAYING, this.level(), this.blockPosition(), profilerStart);
         }
     }
 
@@ -229,21 +242,37 @@ public class ChickensChicken extends Chicken {
         if (stack.isEmpty()) {
             return;
         }
-        depositOrDrop(stack);
+        EggLayEvent event = new EggLayEvent();
+        int laid = stack.getCount();
+        int stored = depositOrDrop(stack);
         int gain = this.getGain();
         if (gain >= 5) {
-            depositOrDrop(description.createLayItem());
+            ItemStack extra = description.createLayItem();
+            laid += extra.getCount();
+            stored += depositOrDrop(extra);
         }
         if (gain >= 10) {
-            depositOrDrop(description.createLayItem());
+            ItemStack extra = description.createLayItem();
+            laid += extra.getCount();
+            stored += depositOrDrop(extra);
+        }
+        if (event.isEnabled()) {
+            event.chickenId = description.getId();
+            event.chickenName = description.getEntityName();
+            event.gain = gain;
+            event.itemsLaid = laid;
+            event.itemsStored = stored;
+            event.henhouseHit = stored > 0;
+            event.commit();
         }
         this.playSound(SoundEvents.CHICKEN_EGG, 1.0F, (this.random.nextFloat() - this.random.nextFloat()) * 0.2F + 1.0F);
         this.gameEvent(GameEvent.ENTITY_PLACE, this);
     }
 
-    private void depositOrDrop(ItemStack stack) {
+    /** Returns how many of the items went into a henhouse rather than the world. */
+    private int depositOrDrop(ItemStack stack) {
         if (stack.isEmpty()) {
-            return;
+            return 0;
         }
         ItemStack prepared = stack.copy();
         imprintFluxEggCharge(prepared);
@@ -252,15 +281,16 @@ public class ChickensChicken extends Chicken {
             // Defensive guard for edge cases where the entity is deserialised before
             // the world reference is restored (e.g., during chunk rebuilds).
             this.spawnAtLocation(prepared, 0.0F);
-            return;
+            return 0;
         }
         // Try to offload the item stack into any henhouse before spawning it
         // directly so farms that depend on automation remain intact.
-        ItemStack leftover = HenhouseBlockEntity.pushItemStack(prepared, level, this.position());
+        ItemStack leftover = HenhouseBlockEntity.pushItemStack(prepared, level, this.position(), henhouseCache);
         if (!leftover.isEmpty()) {
             imprintFluxEggCharge(leftover);
             this.spawnAtLocation(leftover, 0.0F);
         }
+        return prepared.getCount() - leftover.getCount();
     }
 
     private void imprintFluxEggCharge(ItemStack stack) {
@@ -269,8 +299,7 @@ public class ChickensChicken extends Chicken {
         }
         // Snapshot the bird's stats so every laid or dropped flux egg carries a
         // matching RF payload, keeping henhouse deliveries and world drops in sync.
-        ChickenStats stats = new ChickenStats(this.getGrowth(), this.getGain(), this.getStrength(), this.getStatsAnalyzed());
-        FluxEggItem.imprintStats(stack, stats);
+        FluxEggItem.imprintStats(stack, this.getStats());
     }
 
     @Nullable
@@ -284,53 +313,22 @@ public class ChickensChicken extends Chicken {
         if (description == null || mateDescription == null) {
             return null;
         }
-        ChickensRegistryItem childDescription = ChickensRegistry.getRandomChild(description, mateDescription);
-        if (childDescription == null) {
+        ChickenBreedingCalculator.Offspring offspring = ChickenBreedingCalculator.breed(
+                description, this.getStats(), mateDescription, mate.getStats(), this.random);
+        if (offspring == null) {
             return null;
         }
         ChickensChicken child = ModEntityTypes.CHICKENS_CHICKEN.get().create(level);
         if (child == null) {
             return null;
         }
-        child.setChickenType(childDescription.getId());
-        boolean mutating = description.getId() == mateDescription.getId() && childDescription.getId() == description.getId();
-        if (mutating) {
-            increaseStats(child, this, mate, this.random);
-        } else if (description.getId() == childDescription.getId()) {
-            inheritStats(child, this);
-        } else if (mateDescription.getId() == childDescription.getId()) {
-            inheritStats(child, mate);
-        }
+        child.setChickenType(offspring.chicken().getId());
+        child.setGrowth(offspring.stats().growth());
+        child.setGain(offspring.stats().gain());
+        child.setStrength(offspring.stats().strength());
         return child;
     }
 
-    private static void inheritStats(ChickensChicken child, ChickensChicken parent) {
-        child.setGrowth(parent.getGrowth());
-        child.setGain(parent.getGain());
-        child.setStrength(parent.getStrength());
-    }
-
-    private static void increaseStats(ChickensChicken child, ChickensChicken parent1, ChickensChicken parent2, RandomSource random) {
-        int strength1 = parent1.getStrength();
-        int strength2 = parent2.getStrength();
-        child.setGrowth(calculateNewStat(strength1, strength2, parent1.getGrowth(), parent2.getGrowth(), random));
-        child.setGain(calculateNewStat(strength1, strength2, parent1.getGain(), parent2.getGain(), random));
-        child.setStrength(calculateNewStat(strength1, strength2, strength1, strength2, random));
-    }
-
-    private static int calculateNewStat(int strength1, int strength2, int stat1, int stat2, RandomSource random) {
-        int mutation = random.nextInt(2) + 1;
-        int weighted = (stat1 * strength1 + stat2 * strength2) / Math.max(strength1 + strength2, 1);
-        int value = weighted + mutation;
-        if (value <= 1) {
-            return 1;
-        }
-        if (value >= 10) {
-            return 10;
-        }
-        return value;
-    }
-
     @Override
     public int getAmbientSoundInterval() {
         return 20 * 60;
@@ -0,0 +1,107 @@
+package com.setycz.chickens.integration.hud;
+
+import com.google.common.collect.ImmutableList;
+import net.minecraft.network.chat.Component;
+import net.neoforged.neoforge.fluids.FluidStack;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Immutable description of the HUD lines and bars for one block entity at one
+ * state version. Neither Jade nor WTHIT types appear here; each integration
+ * converts the entries into its own payload through {@link #encoded}, which
+ * memoises the result so a snapshot is serialised once no matter how many
+ * players are looking at the block.
+ */
+public final class HudSnapshot {
+    private final Object version;
+    private final List<Entry> entries;
+    // Server thread only, like the providers that read it.
+    private final Map<Function<HudSnapshot, ?>, Object> encodings = new IdentityHashMap<>(2);
+
+    private HudSnapshot(Object version, List<Entry> entries) {
+        this.version = version;
+        this.entries = entries;
+    }
+
+    /** Key of the state this snapshot was built from; equal keys render identically. */
+    Object version() {
+        return version;
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public List<Entry> entries() {
+        return entries;
+    }
+
+    /**
+     * Returns the payload produced by {@code encoder} for this snapshot,
+     * running it on first use only. Encoders are matched by identity, so
+     * callers should pass a shared constant rather than a fresh lambda.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T encoded(Function<HudSnapshot, T> encoder) {
+        Object cached = encodings.get(encoder);
+        if (cached == null) {
+            cached = Objects.requireNonNull(encoder.apply(this));
+            encodings.put(encoder, cached);
+        }
+        return (T) cached;
+    }
+
+    static Builder builder(Object version) {
+        return new Builder(version);
+    }
+
+    public sealed interface Entry permits TextEntry, FluidEntry, ChemicalEntry, EnergyEntry {
+    }
+
+    public record TextEntry(Component text) implements Entry {
+    }
+
+    public record FluidEntry(FluidStack stack, int capacity) implements Entry {
+    }
+
+    public record ChemicalEntry(int entryId, int amount, int capacity) implements Entry {
+    }
+
+    public record EnergyEntry(long energy, long capacity) implements Entry {
+    }
+
+    static final class Builder {
+        private final Object version;
+        private final List<Entry> entries = new ArrayList<>();
+
+        private Builder(Object version) {
+            this.version = version;
+        }
+
+        void addText(Component component) {
+            entries.add(new TextEntry(Objects.requireNonNull(component)));
+        }
+
+        void addFluid(FluidStack stack, int capacity) {
+            entries.add(new FluidEntry(stack.copy(), capacity));
+        }
+
+        void addChemical(int entryId, int amount, int capacity) {
+            entries.add(new ChemicalEntry(entryId, amount, capacity));
+        }
+
+        void addEnergy(long stored, long capacity) {
+            entries.add(new EnergyEntry(stored, capacity));
+        }
+
+        HudSnapshot build() {
+            return new HudSnapshot(version, ImmutableList.copyOf(entries));
+        }
+    }
+}
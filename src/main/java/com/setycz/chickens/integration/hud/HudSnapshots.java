@@ -0,0 +1,212 @@
+package com.setycz.chickens.integration.hud;
+
+import com.setycz.chickens.ChickensRegistry;
+import com.setycz.chickens.blockentity.AbstractChickenContainerBlockEntity;
+import com.setycz.chickens.blockentity.AvianDousingMachineBlockEntity;
+import com.setycz.chickens.blockentity.AvianFluidConverterBlockEntity;
+import com.setycz.chickens.blockentity.AvianFluxConverterBlockEntity;
+import com.setycz.chickens.blockentity.HenhouseBlockEntity;
+import com.setycz.chickens.blockentity.IncubatorBlockEntity;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.chat.Component;
+import net.minecraft.util.Mth;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.neoforged.neoforge.common.Tags;
+import net.neoforged.neoforge.fluids.FluidStack;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Builds and caches the HUD snapshot for each machine so the Jade and WTHIT
+ * server providers share one copy per block entity. Every lookup first reads
+ * a cheap version key made of the exact values the HUD displays (rounded
+ * progress percent, ETA in whole seconds, buffer levels and so on) and only
+ * rebuilds the text components when that key differs from the cached one.
+ *
+ * <p>Both tooltip mods answer requests on the server thread, so the cache is
+ * not synchronised. Entries are weakly keyed and vanish with their block
+ * entity.</p>
+ */
+public final class HudSnapshots {
+    private static final String ETA_KEY = "ChickensEta";
+    private static final String TOTAL_KEY = "ChickensTotal";
+    private static final String STEP_KEY = "ChickensStep";
+
+    private static final Map<BlockEntity, HudSnapshot> CACHE = new WeakHashMap<>();
+
+    private HudSnapshots() {
+    }
+
+    /**
+     * Returns the current snapshot for a supported machine, or {@code null}
+     * when the block entity has no HUD.
+     */
+    @Nullable
+    public static HudSnapshot get(BlockEntity blockEntity) {
+        Object version = versionOf(blockEntity);
+        if (version == null) {
+            return null;
+        }
+        HudSnapshot cached = CACHE.get(blockEntity);
+        if (cached != null && cached.version().equals(version)) {
+            return cached;
+        }
+        HudSnapshot snapshot = build(blockEntity, version);
+        CACHE.put(blockEntity, snapshot);
+        return snapshot;
+    }
+
+    @Nullable
+    private static Object versionOf(BlockEntity blockEntity) {
+        if (blockEntity instanceof AbstractChickenContainerBlockEntity container) {
+            CompoundTag tag = new CompoundTag();
+            container.storeTooltipData(tag);
+            // Progress advances every tick; only the rounded percent reaches the HUD.
+            int percent = Math.round(tag.getFloat("Progress") * 100.0F);
+            tag.remove("Progress");
+            return new ContainerVersion(ChickensRegistry.getVersion(), tag, percent, etaSeconds(container));
+        }
+        if (blockEntity instanceof HenhouseBlockEntity henhouse) {
+            return new HenhouseVersion(henhouse.getEnergy(), hayCount(henhouse));
+        }
+        if (blockEntity instanceof IncubatorBlockEntity incubator) {
+            return new IncubatorVersion(incubator.getEnergyStored(), incubator.getEnergyCapacity(),
+                    percent(incubator.getProgress(), incubator.getMaxProgress()), incubator.getEnergyCost());
+        }
+        if (blockEntity instanceof AvianDousingMachineBlockEntity machine) {
+            return new DousingVersion(new FluidVersion(machine.getFluid()), machine.getLiquidCapacity(),
+                    machine.getEnergyStored(), machine.getEnergyCapacity(),
+                    percent(machine.getProgress(), machine.getMaxProgress()));
+        }
+        if (blockEntity instanceof AvianFluidConverterBlockEntity converter) {
+            return new FluidConverterVersion(new FluidVersion(converter.getFluid()), converter.getTankCapacity());
+        }
+        if (blockEntity instanceof AvianFluxConverterBlockEntity converter) {
+            return new FluxConverterVersion(converter.getEnergyStored(), converter.getEnergyCapacity());
+        }
+        return null;
+    }
+
+    private static HudSnapshot build(BlockEntity blockEntity, Object version) {
+        HudSnapshot.Builder builder = HudSnapshot.builder(version);
+        if (blockEntity instanceof AbstractChickenContainerBlockEntity container) {
+            CompoundTag tag = new CompoundTag();
+            container.storeTooltipData(tag);
+            tag.putInt(ETA_KEY, container.getRemainingLayTimeTicks());
+            tag.putInt(TOTAL_KEY, container.getTotalLayTimeTicks());
+            tag.putInt(STEP_KEY, container.getProgressIncrementPerTick());
+
+            List<Component> lines = new ArrayList<>();
+            container.appendTooltip(lines, tag);
+            lines.forEach(builder::addText);
+
+            int seconds = ((ContainerVersion) version).etaSeconds();
+            if (seconds >= 0) {
+                builder.addText(Component.translatable("tooltip.chickens.wthit.eta", describeEta(seconds)));
+            }
+        } else if (blockEntity instanceof HenhouseBlockEntity henhouse) {
+            builder.addEnergy(henhouse.getEnergy(), HenhouseBlockEntity.HAY_BALE_ENERGY * HenhouseBlockEntity.SLOT_COUNT);
+            int hayCount = ((HenhouseVersion) version).hayCount();
+            if (hayCount > 0) {
+                builder.addText(Component.translatable("tooltip.chickens.henhouse.hay", hayCount));
+            }
+        } else if (blockEntity instanceof IncubatorBlockEntity incubator) {
+            IncubatorVersion state = (IncubatorVersion) version;
+            builder.addEnergy(state.energy(), state.capacity());
+            builder.addText(Component.translatable("tooltip.chickens.incubator.progress", state.percent()));
+            builder.addText(Component.translatable("tooltip.chickens.incubator.cost", state.cost()));
+        } else if (blockEntity instanceof AvianDousingMachineBlockEntity machine) {
+            DousingVersion state = (DousingVersion) version;
+            builder.addFluid(machine.getFluid(), state.fluidCapacity());
+            builder.addEnergy(state.energy(), state.energyCapacity());
+            builder.addText(Component.translatable("tooltip.chickens.avian_dousing_machine.progress", state.percent()));
+        } else if (blockEntity instanceof AvianFluidConverterBlockEntity converter) {
+            builder.addFluid(converter.getFluid(), ((FluidConverterVersion) version).capacity());
+        } else if (blockEntity instanceof AvianFluxConverterBlockEntity) {
+            FluxConverterVersion state = (FluxConverterVersion) version;
+            builder.addEnergy(state.energy(), state.capacity());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Seconds until the container's next drop in real server time, or
+     * {@code -1} when it is idle and no ETA line is shown.
+     */
+    private static int etaSeconds(AbstractChickenContainerBlockEntity container) {
+        int remaining = container.getRemainingLayTimeTicks();
+        int step = container.getProgressIncrementPerTick();
+        if (!container.hasRequiredChickens() || !container.hasRequiredSeeds()
+                || container.getTotalLayTimeTicks() <= 0 || remaining <= 0 || step <= 0) {
+            return -1;
+        }
+        // Convert the accelerated progress counters back into real server ticks so
+        // the tooltip communicates an accurate wall-clock ETA regardless of stack size.
+        int ticks = Math.max(Mth.ceil(remaining / (float) step), 1);
+        return Mth.ceil(ticks / 20.0F);
+    }
+
+    private static Component describeEta(int seconds) {
+        if (seconds <= 0) {
+            return Component.translatable("tooltip.chickens.wthit.time.less_than_second");
+        }
+        int minutes = seconds / 60;
+        int remainingSeconds = seconds % 60;
+        if (minutes > 0) {
+            return Component.translatable("tooltip.chickens.wthit.time.minutes", minutes, remainingSeconds);
+        }
+        return Component.translatable("tooltip.chickens.wthit.time.seconds", seconds);
+    }
+
+    private static int percent(int progress, int maxProgress) {
+        return Math.max(progress, 0) * 100 / Math.max(maxProgress, 1);
+    }
+
+    private static int hayCount(HenhouseBlockEntity henhouse) {
+        ItemStack stack = henhouse.getItem(HenhouseBlockEntity.HAY_SLOT);
+        boolean isHay = !stack.isEmpty()
+                && (stack.is(Blocks.HAY_BLOCK.asItem()) || stack.is(Tags.Items.STORAGE_BLOCKS_WHEAT));
+        return isHay ? stack.getCount() : 0;
+    }
+
+    private record ContainerVersion(int registryVersion, CompoundTag tooltip, int percent, int etaSeconds) {
+    }
+
+    private record HenhouseVersion(int energy, int hayCount) {
+    }
+
+    private record IncubatorVersion(int energy, int capacity, int percent, int cost) {
+    }
+
+    private record DousingVersion(FluidVersion fluid, int fluidCapacity, int energy, int energyCapacity, int percent) {
+    }
+
+    private record FluidConverterVersion(FluidVersion fluid, int capacity) {
+    }
+
+    private record FluxConverterVersion(int energy, int capacity) {
+    }
+
+    /** Value-equality wrapper; {@link FluidStack} itself compares by identity. */
+    private record FluidVersion(FluidStack stack) {
+        private FluidVersion {
+            stack = stack.copy();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof FluidVersion that && FluidStack.matches(stack, that.stack);
+        }
+
+        @Override
+        public int hashCode() {
+            return FluidStack.hashFluidAndComponents(stack) * 31 + stack.getAmount();
+        }
+    }
+}
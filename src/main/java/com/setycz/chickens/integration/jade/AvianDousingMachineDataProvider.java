@@ -2,9 +2,10 @@ package com.setycz.chickens.integration.jade;
 
 import com.setycz.chickens.ChickensMod;
 import com.setycz.chickens.blockentity.AvianDousingMachineBlockEntity;
+import com.setycz.chickens.integration.hud.HudSnapshot;
+import com.setycz.chickens.integration.hud.HudSnapshots;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.resources.ResourceLocation;
-import net.minecraft.network.chat.Component;
 import snownee.jade.api.BlockAccessor;
 import snownee.jade.api.IServerDataProvider;
 
@@ -21,13 +22,10 @@ enum AvianDousingMachineDataProvider implements IServerDataProvider<BlockAccesso
         if (!(accessor.getBlockEntity() instanceof AvianDousingMachineBlockEntity machine)) {
             return;
         }
-        HudData.Builder builder = HudData.builder();
-        builder.addFluid(machine.getFluid().copy(), machine.getLiquidCapacity());
-        builder.addEnergy(machine.getEnergyStored(), machine.getEnergyCapacity());
-        int maxProgress = Math.max(machine.getMaxProgress(), 1);
-        int percent = Math.max(machine.getProgress(), 0) * 100 / maxProgress;
-        builder.addText(Component.translatable("tooltip.chickens.avian_dousing_machine.progress", percent));
-        HudData.write(data, builder.build());
+        HudSnapshot snapshot = HudSnapshots.get(machine);
+        if (snapshot != null) {
+            HudData.write(data, snapshot);
+        }
     }
 
     @Override
@@ -2,6 +2,8 @@ package com.setycz.chickens.integration.jade;
 
 import com.setycz.chickens.ChickensMod;
 import com.setycz.chickens.blockentity.AvianFluidConverterBlockEntity;
+import com.setycz.chickens.integration.hud.HudSnapshot;
+import com.setycz.chickens.integration.hud.HudSnapshots;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.resources.ResourceLocation;
 import snownee.jade.api.BlockAccessor;
@@ -20,9 +22,10 @@ enum AvianFluidConverterDataProvider implements IServerDataProvider<BlockAccesso
         if (!(accessor.getBlockEntity() instanceof AvianFluidConverterBlockEntity converter)) {
             return;
         }
-        HudData.Builder builder = HudData.builder();
-        builder.addFluid(converter.getFluid().copy(), converter.getTankCapacity());
-        HudData.write(data, builder.build());
+        HudSnapshot snapshot = HudSnapshots.get(converter);
+        if (snapshot != null) {
+            HudData.write(data, snapshot);
+        }
     }
 
     @Override
@@ -2,6 +2,8 @@ package com.setycz.chickens.integration.jade;
 
 import com.setycz.chickens.ChickensMod;
 import com.setycz.chickens.blockentity.AvianFluxConverterBlockEntity;
+import com.setycz.chickens.integration.hud.HudSnapshot;
+import com.setycz.chickens.integration.hud.HudSnapshots;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.resources.ResourceLocation;
 import snownee.jade.api.BlockAccessor;
@@ -20,9 +22,10 @@ enum AvianFluxConverterDataProvider implements IServerDataProvider<BlockAccessor
         if (!(accessor.getBlockEntity() instanceof AvianFluxConverterBlockEntity converter)) {
             return;
         }
-        HudData.Builder builder = HudData.builder();
-        builder.addEnergy(converter.getEnergyStored(), converter.getEnergyCapacity());
-        HudData.write(data, builder.build());
+        HudSnapshot snapshot = HudSnapshots.get(converter);
+        if (snapshot != null) {
+            HudData.write(data, snapshot);
+        }
     }
 
     @Override
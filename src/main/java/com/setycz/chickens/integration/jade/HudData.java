@@ -1,6 +1,7 @@
 package com.setycz.chickens.integration.jade;
 
 import com.google.common.collect.ImmutableList;
+import com.setycz.chickens.integration.hud.HudSnapshot;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
@@ -15,14 +16,17 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * Lightweight, WTHIT-free payload for Jade. Providers build a {@link Builder},
- * which serialises into the Jade server data tag. The client decodes the same
- * structure to render HUD bars and text.
+ * or pass a shared {@link HudSnapshot}, which serialises into the Jade server
+ * data tag. The client decodes the same structure to render HUD bars and text.
  */
 final class HudData {
     static final String NBT_KEY = "ChickensHud";
+    /** Serialises a snapshot once; every later request for it copies the cached tag. */
+    private static final Function<HudSnapshot, Tag> SNAPSHOT_ENCODER = snapshot -> from(snapshot).toTag();
 
     private final List<Entry> entries;
 
@@ -123,6 +127,30 @@ final class HudData {
         root.put(NBT_KEY, data.toTag());
     }
 
+    static void write(CompoundTag root, HudSnapshot snapshot) {
+        if (snapshot.isEmpty()) {
+            root.remove(NBT_KEY);
+            return;
+        }
+        root.put(NBT_KEY, snapshot.encoded(SNAPSHOT_ENCODER).copy());
+    }
+
+    static HudData from(HudSnapshot snapshot) {
+        Builder builder = builder();
+        for (HudSnapshot.Entry entry : snapshot.entries()) {
+            if (entry instanceof HudSnapshot.TextEntry text) {
+                builder.addText(text.text());
+            } else if (entry instanceof HudSnapshot.FluidEntry fluid) {
+                builder.addFluid(fluid.stack(), fluid.capacity());
+            } else if (entry instanceof HudSnapshot.ChemicalEntry chemical) {
+                builder.addChemical(chemical.entryId(), chemical.amount(), chemical.capacity());
+            } else if (entry instanceof HudSnapshot.EnergyEntry energy) {
+                builder.addEnergy(energy.energy(), energy.capacity());
+            }
+        }
+        return builder.build();
+    }
+
     static HudData empty() {
         return new HudData(List.of());
     }
@@ -2,8 +2,9 @@ package com.setycz.chickens.integration.jade;
 
 import com.setycz.chickens.ChickensMod;
 import com.setycz.chickens.blockentity.IncubatorBlockEntity;
+import com.setycz.chickens.integration.hud.HudSnapshot;
+import com.setycz.chickens.integration.hud.HudSnapshots;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import snownee.jade.api.BlockAccessor;
 import snownee.jade.api.IServerDataProvider;
@@ -21,13 +22,10 @@ enum IncubatorDataProvider implements IServerDataProvider<BlockAccessor> {
         if (!(accessor.getBlockEntity() instanceof IncubatorBlockEntity incubator)) {
             return;
         }
-        HudData.Builder builder = HudData.builder();
-        builder.addEnergy(incubator.getEnergyStored(), incubator.getEnergyCapacity());
-        int maxProgress = Math.max(incubator.getMaxProgress(), 1);
-        int percent = Math.max(0, incubator.getProgress()) * 100 / maxProgress;
-        builder.addText(Component.translatable("tooltip.chickens.incubator.progress", percent));
-        builder.addText(Component.translatable("tooltip.chickens.incubator.cost", incubator.getEnergyCost()));
-        HudData.write(data, builder.build());
+        HudSnapshot snapshot = HudSnapshots.get(incubator);
+        if (snapshot != null) {
+            HudData.write(data, snapshot);
+        }
     }
 
     @Override
@@ -1,10 +1,12 @@
 package com.setycz.chickens.integration.jei;
 
+import com.google.common.base.Suppliers;
 import com.setycz.chickens.ChemicalEggRegistry;
 import com.setycz.chickens.ChemicalEggRegistryItem;
 import com.setycz.chickens.ChickensMod;
 import com.setycz.chickens.ChickensRegistry;
 import com.setycz.chickens.ChickensRegistryItem;
+import com.setycz.chickens.ChickensRegistrySnapshot;
 import com.setycz.chickens.GasEggRegistry;
 import com.setycz.chickens.LiquidEggRegistry;
 import com.setycz.chickens.LiquidEggRegistryItem;
@@ -32,35 +34,51 @@ import com.setycz.chickens.item.LiquidEggItem;
 import com.setycz.chickens.integration.kubejs.MachineRecipeRegistry;
 import com.setycz.chickens.registry.ModRegistry;
 import com.setycz.chickens.blockentity.AvianDousingMachineBlockEntity;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import mezz.jei.api.IModPlugin;
 import mezz.jei.api.JeiPlugin;
 import mezz.jei.api.helpers.IGuiHelper;
 import mezz.jei.api.ingredients.subtypes.IIngredientSubtypeInterpreter;
+import mezz.jei.api.recipe.RecipeType;
+import mezz.jei.api.registration.IAdvancedRegistration;
 import mezz.jei.api.registration.ISubtypeRegistration;
 import mezz.jei.api.registration.IRecipeCatalystRegistration;
 import mezz.jei.api.registration.IRecipeCategoryRegistration;
 import mezz.jei.api.registration.IRecipeRegistration;
+import mezz.jei.api.runtime.IIngredientManager;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.level.block.Blocks;
 import net.neoforged.neoforge.fluids.FluidStack;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 /**
  * Registers the Chickens JEI plugin so the modern port exposes the same recipe
  * guides as the original mod. All data is sourced from the live registry so
  * configuration tweaks are reflected instantly.
+ *
+ * <p>Per-chicken categories are fed from one pass over the registry snapshot,
+ * and breeding, breeder and dousing recipes are deferred to
+ * {@link LazyRecipeManagerPlugin} until JEI first needs them. Build times are
+ * logged per category so slow joins can be traced to a category.</p>
  */
 @JeiPlugin
 public class ChickensJeiPlugin implements IModPlugin {
     private static final ResourceLocation UID = ResourceLocation.fromNamespaceAndPath(ChickensMod.MOD_ID, "jei_plugin");
+    private static final Logger LOGGER = LoggerFactory.getLogger("ChickensJei");
 
     @Override
     public ResourceLocation getPluginUid() {
@@ -104,18 +122,51 @@ public class ChickensJeiPlugin implements IModPlugin {
 
     @Override
     public void registerRecipes(IRecipeRegistration registration) {
-        registration.addRecipes(ChickensJeiRecipeTypes.LAYING, buildLayingRecipes());
-        registration.addRecipes(ChickensJeiRecipeTypes.DROPS, buildDropRecipes());
-        registration.addRecipes(ChickensJeiRecipeTypes.BREEDING, buildBreedingRecipes());
-        registration.addRecipes(ChickensJeiRecipeTypes.THROWING, buildThrowingRecipes());
-        registration.addRecipes(ChickensJeiRecipeTypes.HENHOUSE, buildHenhouseRecipes());
-        registration.addRecipes(ChickensJeiRecipeTypes.ROOSTING, buildRoostingRecipes());
-        registration.addRecipes(ChickensJeiRecipeTypes.CATCHING, buildCatchingRecipes());
-        registration.addRecipes(ChickensJeiRecipeTypes.BREEDER, buildBreederRecipes());
-        registration.addRecipes(ChickensJeiRecipeTypes.AVIAN_FLUID_CONVERTER, buildAvianFluidConverterRecipes());
-        registration.addRecipes(ChickensJeiRecipeTypes.AVIAN_CHEMICAL_CONVERTER, buildAvianChemicalConverterRecipes());
-        registration.addRecipes(ChickensJeiRecipeTypes.AVIAN_DOUSING, buildAvianDousingRecipes());
-        registration.addRecipes(ChickensJeiRecipeTypes.INCUBATOR, buildIncubatorRecipes());
+        long start = System.nanoTime();
+        StringJoiner report = new StringJoiner(", ");
+        List<ChickenStacks> chickens = timed(report, "stacks", () -> collectChickenStacks(ChickensRegistry.snapshot()));
+        register(registration, report, ChickensJeiRecipeTypes.LAYING, () -> buildLayingRecipes(chickens));
+        register(registration, report, ChickensJeiRecipeTypes.DROPS, () -> buildDropRecipes(chickens));
+        register(registration, report, ChickensJeiRecipeTypes.THROWING, () -> buildThrowingRecipes(chickens));
+        register(registration, report, ChickensJeiRecipeTypes.HENHOUSE, ChickensJeiPlugin::buildHenhouseRecipes);
+        register(registration, report, ChickensJeiRecipeTypes.ROOSTING, () -> buildRoostingRecipes(chickens));
+        register(registration, report, ChickensJeiRecipeTypes.CATCHING, () -> buildCatchingRecipes(chickens));
+        register(registration, report, ChickensJeiRecipeTypes.AVIAN_FLUID_CONVERTER,
+                ChickensJeiPlugin::buildAvianFluidConverterRecipes);
+        register(registration, report, ChickensJeiRecipeTypes.AVIAN_CHEMICAL_CONVERTER,
+                ChickensJeiPlugin::buildAvianChemicalConverterRecipes);
+        register(registration, report, ChickensJeiRecipeTypes.INCUBATOR, () -> buildIncubatorRecipes(chickens));
+        LOGGER.info("Registered JEI recipes for {} chickens in {} ({})", chickens.size(), formatElapsed(start), report);
+    }
+
+    @Override
+    public void registerAdvanced(IAdvancedRegistration registration) {
+        // Breeding pairs and dousing recipes are the bulk of the work with many dynamic
+        // chickens, so they are only built once JEI actually asks for them. JEI calls this
+        // before registerRecipes, so the stacks are collected on first use as well.
+        IIngredientManager ingredients = registration.getJeiHelpers().getIngredientManager();
+        Supplier<List<ChickenStacks>> chickens = Suppliers.memoize(
+                () -> collectChickenStacks(ChickensRegistry.snapshot()));
+        registration.addTypedRecipeManagerPlugin(ChickensJeiRecipeTypes.BREEDING, new LazyRecipeManagerPlugin<>(
+                ChickensJeiRecipeTypes.BREEDING, ingredients, () -> buildBreedingRecipes(chickens.get()),
+                (recipe, sink) -> sink.addItem(recipe.parent1()).addItem(recipe.parent2()),
+                (recipe, sink) -> sink.addItem(recipe.child())));
+        registration.addTypedRecipeManagerPlugin(ChickensJeiRecipeTypes.BREEDER, new LazyRecipeManagerPlugin<>(
+                ChickensJeiRecipeTypes.BREEDER, ingredients, () -> buildBreederRecipes(chickens.get()),
+                (recipe, sink) -> sink.addItem(recipe.parent1()).addItem(recipe.parent2()).addItem(recipe.seeds()),
+                (recipe, sink) -> sink.addItem(recipe.child())));
+        registration.addTypedRecipeManagerPlugin(ChickensJeiRecipeTypes.AVIAN_DOUSING, new LazyRecipeManagerPlugin<>(
+                ChickensJeiRecipeTypes.AVIAN_DOUSING, ingredients, () -> buildAvianDousingRecipes(chickens.get()),
+                (recipe, sink) -> {
+                    MekanismJeiChemicalHelper.JeiChemicalStack chemical = recipe.chemical();
+                    if (chemical != null) {
+                        sink.add(chemical.type(), chemical.stack());
+                    } else {
+                        sink.addItem(recipe.reagent());
+                    }
+                    sink.addItem(recipe.inputEgg()).addItem(recipe.inputChicken());
+                },
+                (recipe, sink) -> sink.addItem(recipe.result())));
     }
 
     @Override
@@ -139,45 +190,89 @@ public class ChickensJeiPlugin implements IModPlugin {
                 ChickensJeiRecipeTypes.INCUBATOR);
     }
 
-    private static List<ChickensJeiRecipeTypes.LayingRecipe> buildLayingRecipes() {
-        return ChickensRegistry.getItems().stream()
-                .filter(ChickensRegistryItem::isEnabled)
-                .map(chicken -> new ChickensJeiRecipeTypes.LayingRecipe(
-                        ChickensSpawnEggItem.createFor(chicken),
-                        chicken.createLayItem(),
-                        chicken.getMinLayTime(),
-                        chicken.getMaxLayTime()))
-                .toList();
+    private static <T> void register(IRecipeRegistration registration, StringJoiner report, RecipeType<T> type,
+            Supplier<List<T>> builder) {
+        registration.addRecipes(type, timed(report, type.getUid().getPath(), builder));
     }
 
-    private static List<ChickensJeiRecipeTypes.DropRecipe> buildDropRecipes() {
-        return ChickensRegistry.getItems().stream()
-                .filter(ChickensRegistryItem::isEnabled)
-                .map(chicken -> new ChickensJeiRecipeTypes.DropRecipe(
-                        ChickensSpawnEggItem.createFor(chicken),
-                        chicken.createDropItem()))
-                .filter(drop -> !drop.drop().isEmpty())
-                .toList();
+    private static <T> List<T> timed(StringJoiner report, String name, Supplier<List<T>> builder) {
+        long start = System.nanoTime();
+        List<T> result = builder.get();
+        report.add(name + " " + result.size() + " in " + formatElapsed(start));
+        return result;
     }
 
-    private static List<ChickensJeiRecipeTypes.BreedingRecipe> buildBreedingRecipes() {
-        return ChickensRegistry.getItems().stream()
-                .filter(chicken -> chicken.isEnabled() && chicken.isBreedable())
-                .map(chicken -> new ChickensJeiRecipeTypes.BreedingRecipe(
-                        ChickensSpawnEggItem.createFor(chicken.getParent1()),
-                        ChickensSpawnEggItem.createFor(chicken.getParent2()),
-                        ChickensSpawnEggItem.createFor(chicken),
-                        Math.round(ChickensRegistry.getChildChance(chicken))))
-                .toList();
+    static String formatElapsed(long startNanos) {
+        return String.format(Locale.ROOT, "%.1f ms", (System.nanoTime() - startNanos) / 1_000_000.0D);
     }
 
-    private static List<ChickensJeiRecipeTypes.ThrowingRecipe> buildThrowingRecipes() {
-        return ChickensRegistry.getItems().stream()
-                .filter(chicken -> chicken.isEnabled() && chicken.isDye())
-                .map(chicken -> new ChickensJeiRecipeTypes.ThrowingRecipe(
-                        ColoredEggItem.createFor(chicken),
-                        ChickensSpawnEggItem.createFor(chicken)))
-                .toList();
+    /**
+     * Single pass over the registry snapshot that creates the stacks every
+     * per-chicken category needs. JEI never modifies recipe ingredients, so
+     * the categories share these stacks instead of each creating their own.
+     */
+    private static List<ChickenStacks> collectChickenStacks(ChickensRegistrySnapshot registry) {
+        ChickenItem chickenItem = (ChickenItem) ModRegistry.CHICKEN_ITEM.get();
+        List<ChickenStacks> stacks = new ArrayList<>(registry.getItems().size());
+        for (ChickensRegistryItem chicken : registry.getItems()) {
+            if (!chicken.isEnabled()) {
+                continue;
+            }
+            stacks.add(new ChickenStacks(chicken, ChickensSpawnEggItem.createFor(chicken),
+                    chickenItem.createFor(chicken), chicken.createLayItem(), chicken.createDropItem()));
+        }
+        return stacks;
+    }
+
+    private static List<ChickensJeiRecipeTypes.LayingRecipe> buildLayingRecipes(List<ChickenStacks> chickens) {
+        List<ChickensJeiRecipeTypes.LayingRecipe> recipes = new ArrayList<>(chickens.size());
+        for (ChickenStacks stacks : chickens) {
+            ChickensRegistryItem chicken = stacks.chicken();
+            recipes.add(new ChickensJeiRecipeTypes.LayingRecipe(stacks.spawnEgg(), stacks.layItem(),
+                    chicken.getMinLayTime(), chicken.getMaxLayTime()));
+        }
+        return recipes;
+    }
+
+    private static List<ChickensJeiRecipeTypes.DropRecipe> buildDropRecipes(List<ChickenStacks> chickens) {
+        List<ChickensJeiRecipeTypes.DropRecipe> recipes = new ArrayList<>(chickens.size());
+        for (ChickenStacks stacks : chickens) {
+            if (!stacks.dropItem().isEmpty()) {
+                recipes.add(new ChickensJeiRecipeTypes.DropRecipe(stacks.spawnEgg(), stacks.dropItem()));
+            }
+        }
+        return recipes;
+    }
+
+    private static List<ChickensJeiRecipeTypes.BreedingRecipe> buildBreedingRecipes(List<ChickenStacks> chickens) {
+        Int2ObjectMap<ItemStack> eggs = new Int2ObjectOpenHashMap<>(chickens.size());
+        for (ChickenStacks stacks : chickens) {
+            eggs.put(stacks.chicken().getId(), stacks.spawnEgg());
+        }
+        List<ChickensJeiRecipeTypes.BreedingRecipe> recipes = new ArrayList<>();
+        for (ChickenStacks stacks : chickens) {
+            ChickensRegistryItem chicken = stacks.chicken();
+            if (!chicken.isBreedable()) {
+                continue;
+            }
+            recipes.add(new ChickensJeiRecipeTypes.BreedingRecipe(
+                    eggs.computeIfAbsent(chicken.getParent1().getId(), id -> ChickensSpawnEggItem.createFor(chicken.getParent1())),
+                    eggs.computeIfAbsent(chicken.getParent2().getId(), id -> ChickensSpawnEggItem.createFor(chicken.getParent2())),
+                    stacks.spawnEgg(),
+                    Math.round(ChickensRegistry.getChildChance(chicken))));
+        }
+        return recipes;
+    }
+
+    private static List<ChickensJeiRecipeTypes.ThrowingRecipe> buildThrowingRecipes(List<ChickenStacks> chickens) {
+        List<ChickensJeiRecipeTypes.ThrowingRecipe> recipes = new ArrayList<>();
+        for (ChickenStacks stacks : chickens) {
+            if (stacks.chicken().isDye()) {
+                recipes.add(new ChickensJeiRecipeTypes.ThrowingRecipe(ColoredEggItem.createFor(stacks.chicken()),
+                        stacks.spawnEgg()));
+            }
+        }
+        return recipes;
     }
 
     private static List<ChickensJeiRecipeTypes.HenhouseRecipe> buildHenhouseRecipes() {
@@ -186,55 +281,54 @@ public class ChickensJeiPlugin implements IModPlugin {
                 new ItemStack(Blocks.DIRT)));
     }
 
-    private static List<ChickensJeiRecipeTypes.RoostingRecipe> buildRoostingRecipes() {
-        ChickenItem chickenItem = (ChickenItem) ModRegistry.CHICKEN_ITEM.get();
-        return ChickensRegistry.getItems().stream()
-                .filter(ChickensRegistryItem::isEnabled)
-                .map(chicken -> {
-                    ItemStack stack = chickenItem.createFor(chicken);
-                    stack.setCount(16);
-                    ItemStack drop = chicken.createDropItem();
-                    return new ChickensJeiRecipeTypes.RoostingRecipe(stack, drop, stack.getCount());
-                })
-                .toList();
+    private static List<ChickensJeiRecipeTypes.RoostingRecipe> buildRoostingRecipes(List<ChickenStacks> chickens) {
+        List<ChickensJeiRecipeTypes.RoostingRecipe> recipes = new ArrayList<>(chickens.size());
+        for (ChickenStacks stacks : chickens) {
+            ItemStack stack = stacks.chickenItem().copyWithCount(16);
+            recipes.add(new ChickensJeiRecipeTypes.RoostingRecipe(stack, stacks.dropItem(), stack.getCount()));
+        }
+        return recipes;
     }
 
-    private static List<ChickensJeiRecipeTypes.IncubatorRecipe> buildIncubatorRecipes() {
-        ChickenItem chickenItem = (ChickenItem) ModRegistry.CHICKEN_ITEM.get();
+    private static List<ChickensJeiRecipeTypes.IncubatorRecipe> buildIncubatorRecipes(List<ChickenStacks> chickens) {
         int energyCost = Math.max(1, ChickensConfigHolder.get().getIncubatorEnergyCost());
-        return ChickensRegistry.getItems().stream()
-                .filter(ChickensRegistryItem::isEnabled)
-                .map(chicken -> new ChickensJeiRecipeTypes.IncubatorRecipe(
-                        ChickensSpawnEggItem.createFor(chicken),
-                        chickenItem.createFor(chicken),
-                        energyCost))
-                .toList();
+        List<ChickensJeiRecipeTypes.IncubatorRecipe> recipes = new ArrayList<>(chickens.size());
+        for (ChickenStacks stacks : chickens) {
+            recipes.add(new ChickensJeiRecipeTypes.IncubatorRecipe(stacks.spawnEgg(), stacks.chickenItem(), energyCost));
+        }
+        return recipes;
     }
 
-    private static List<ChickensJeiRecipeTypes.CatchingRecipe> buildCatchingRecipes() {
-        ChickenItem chickenItem = (ChickenItem) ModRegistry.CHICKEN_ITEM.get();
+    private static List<ChickensJeiRecipeTypes.CatchingRecipe> buildCatchingRecipes(List<ChickenStacks> chickens) {
         ItemStack catcher = new ItemStack(ModRegistry.CATCHER.get());
-        return ChickensRegistry.getItems().stream()
-                .filter(ChickensRegistryItem::isEnabled)
-                .map(chicken -> new ChickensJeiRecipeTypes.CatchingRecipe(
-                        catcher.copy(),
-                        ChickensSpawnEggItem.createFor(chicken),
-                        chickenItem.createFor(chicken)))
-                .toList();
+        List<ChickensJeiRecipeTypes.CatchingRecipe> recipes = new ArrayList<>(chickens.size());
+        for (ChickenStacks stacks : chickens) {
+            recipes.add(new ChickensJeiRecipeTypes.CatchingRecipe(catcher, stacks.spawnEgg(), stacks.chickenItem()));
+        }
+        return recipes;
     }
 
-    private static List<ChickensJeiRecipeTypes.BreederRecipe> buildBreederRecipes() {
+    private static List<ChickensJeiRecipeTypes.BreederRecipe> buildBreederRecipes(List<ChickenStacks> chickens) {
         ChickenItem chickenItem = (ChickenItem) ModRegistry.CHICKEN_ITEM.get();
+        Int2ObjectMap<ItemStack> items = new Int2ObjectOpenHashMap<>(chickens.size());
+        for (ChickenStacks stacks : chickens) {
+            items.put(stacks.chicken().getId(), stacks.chickenItem());
+        }
         ItemStack seeds = new ItemStack(Items.WHEAT_SEEDS, 2);
-        return ChickensRegistry.getItems().stream()
-                .filter(chicken -> chicken.isEnabled() && chicken.isBreedable())
-                .map(chicken -> new ChickensJeiRecipeTypes.BreederRecipe(
-                        chickenItem.createFor(chicken.getParent1()),
-                        chickenItem.createFor(chicken.getParent2()),
-                        seeds.copy(),
-                        chickenItem.createFor(chicken),
-                        Math.round(ChickensRegistry.getChildChance(chicken))))
-                .toList();
+        List<ChickensJeiRecipeTypes.BreederRecipe> recipes = new ArrayList<>();
+        for (ChickenStacks stacks : chickens) {
+            ChickensRegistryItem chicken = stacks.chicken();
+            if (!chicken.isBreedable()) {
+                continue;
+            }
+            recipes.add(new ChickensJeiRecipeTypes.BreederRecipe(
+                    items.computeIfAbsent(chicken.getParent1().getId(), id -> chickenItem.createFor(chicken.getParent1())),
+                    items.computeIfAbsent(chicken.getParent2().getId(), id -> chickenItem.createFor(chicken.getParent2())),
+                    seeds,
+                    stacks.chickenItem(),
+                    Math.round(ChickensRegistry.getChildChance(chicken))));
+        }
+        return recipes;
     }
 
     private static List<ChickensJeiRecipeTypes.AvianFluidConverterRecipe> buildAvianFluidConverterRecipes() {
@@ -326,7 +420,7 @@ public class ChickensJeiPlugin implements IModPlugin {
         return recipes;
     }
 
-    private static List<ChickensJeiRecipeTypes.AvianDousingRecipe> buildAvianDousingRecipes() {
+    private static List<ChickensJeiRecipeTypes.AvianDousingRecipe> buildAvianDousingRecipes(List<ChickenStacks> chickens) {
         ChickensRegistryItem smartChicken = ChickensRegistry.getSmartChicken();
         if (smartChicken == null) {
             return List.of();
@@ -335,24 +429,22 @@ public class ChickensJeiPlugin implements IModPlugin {
         ItemStack smartEgg = ChickensSpawnEggItem.createFor(smartChicken);
         ItemStack smartChickenStack = chickenItem.createFor(smartChicken);
 
-        List<ChickensJeiRecipeTypes.AvianDousingRecipe> chemical = ChickensRegistry.getItems().stream()
-                .map(chicken -> createDousingRecipe(chicken, smartEgg, smartChickenStack))
-                .filter(Objects::nonNull)
-                .toList();
-
-        List<ChickensJeiRecipeTypes.AvianDousingRecipe> liquid = ChickensRegistry.getItems().stream()
-                .map(chicken -> createLiquidDousingRecipe(chicken, smartEgg, smartChickenStack))
-                .filter(Objects::nonNull)
-                .toList();
-
-        List<ChickensJeiRecipeTypes.AvianDousingRecipe> special = buildSpecialDousingRecipes(chickenItem);
-
-        List<ChickensJeiRecipeTypes.AvianDousingRecipe> custom = buildCustomAvianDousingRecipes(chickenItem);
-
-        return Stream.of(chemical, liquid, special, custom)
-                .flatMap(List::stream)
-                .filter(Objects::nonNull)
-                .toList();
+        List<ChickensJeiRecipeTypes.AvianDousingRecipe> recipes = new ArrayList<>();
+        List<ChickensJeiRecipeTypes.AvianDousingRecipe> liquid = new ArrayList<>();
+        for (ChickenStacks stacks : chickens) {
+            ChickensJeiRecipeTypes.AvianDousingRecipe chemical = createDousingRecipe(stacks, smartEgg, smartChickenStack);
+            if (chemical != null) {
+                recipes.add(chemical);
+            }
+            ChickensJeiRecipeTypes.AvianDousingRecipe fluid = createLiquidDousingRecipe(stacks, smartEgg, smartChickenStack);
+            if (fluid != null) {
+                liquid.add(fluid);
+            }
+        }
+        recipes.addAll(liquid);
+        recipes.addAll(buildSpecialDousingRecipes(chickenItem));
+        recipes.addAll(buildCustomAvianDousingRecipes(chickenItem));
+        return recipes;
     }
 
     private static List<ChickensJeiRecipeTypes.AvianDousingRecipe> buildCustomAvianDousingRecipes(ChickenItem chickenItem) {
@@ -382,8 +474,8 @@ public class ChickensJeiPlugin implements IModPlugin {
                         entry,
                         recipe.reagentAmount());
                 recipes.add(new ChickensJeiRecipeTypes.AvianDousingRecipe(
-                        inputEgg.copy(),
-                        inputChickenStack.copy(),
+                        inputEgg,
+                        inputChickenStack,
                         reagent,
                         result,
                         entry,
@@ -402,8 +494,8 @@ public class ChickensJeiPlugin implements IModPlugin {
                 }
                 ItemStack reagent = LiquidEggItem.createFor(liquid);
                 recipes.add(new ChickensJeiRecipeTypes.AvianDousingRecipe(
-                        inputEgg.copy(),
-                        inputChickenStack.copy(),
+                        inputEgg,
+                        inputChickenStack,
                         reagent,
                         result,
                         null,
@@ -417,9 +509,9 @@ public class ChickensJeiPlugin implements IModPlugin {
     }
 
     @Nullable
-    private static ChickensJeiRecipeTypes.AvianDousingRecipe createDousingRecipe(ChickensRegistryItem chicken,
+    private static ChickensJeiRecipeTypes.AvianDousingRecipe createDousingRecipe(ChickenStacks stacks,
             ItemStack smartEgg, ItemStack smartChicken) {
-        ItemStack layItem = chicken.createLayItem();
+        ItemStack layItem = stacks.layItem();
         if (layItem.isEmpty() || layItem.getItem() != ModRegistry.CHEMICAL_EGG.get()) {
             return null;
         }
@@ -428,13 +520,13 @@ public class ChickensJeiPlugin implements IModPlugin {
             return null;
         }
         ItemStack reagent = ChemicalEggItem.createFor(entry);
-        ItemStack result = ChickensSpawnEggItem.createFor(chicken);
+        ItemStack result = stacks.spawnEgg();
         MekanismJeiChemicalHelper.JeiChemicalStack chemical = MekanismJeiChemicalHelper.createStack(
                 entry,
                 AvianDousingMachineBlockEntity.CHEMICAL_COST);
         return new ChickensJeiRecipeTypes.AvianDousingRecipe(
-                smartEgg.copy(),
-                smartChicken.copy(),
+                smartEgg,
+                smartChicken,
                 reagent,
                 result,
                 entry,
@@ -445,9 +537,9 @@ public class ChickensJeiPlugin implements IModPlugin {
     }
 
     @Nullable
-    private static ChickensJeiRecipeTypes.AvianDousingRecipe createLiquidDousingRecipe(ChickensRegistryItem chicken,
+    private static ChickensJeiRecipeTypes.AvianDousingRecipe createLiquidDousingRecipe(ChickenStacks stacks,
             ItemStack smartEgg, ItemStack smartChicken) {
-        ItemStack layItem = chicken.createLayItem();
+        ItemStack layItem = stacks.layItem();
         if (layItem.isEmpty() || !(layItem.getItem() instanceof LiquidEggItem)) {
             return null;
         }
@@ -456,17 +548,17 @@ public class ChickensJeiPlugin implements IModPlugin {
         if (entry == null) {
             return null;
         }
-        int liquidCost = chicken.getLiquidDousingCost();
+        int liquidCost = stacks.chicken().getLiquidDousingCost();
         FluidStack fluid = new FluidStack(entry.getFluid(), liquidCost);
         if (fluid.isEmpty()) {
             return null;
         }
         // Use the liquid egg as the displayed reagent so JEI "uses" on the egg shows the dousing recipe.
         ItemStack reagent = LiquidEggItem.createFor(entry);
-        ItemStack result = ChickensSpawnEggItem.createFor(chicken);
+        ItemStack result = stacks.spawnEgg();
         return new ChickensJeiRecipeTypes.AvianDousingRecipe(
-                smartEgg.copy(),
-                smartChicken.copy(),
+                smartEgg,
+                smartChicken,
                 reagent,
                 result,
                 null,
@@ -516,4 +608,9 @@ public class ChickensJeiPlugin implements IModPlugin {
                 .forEach(items::add);
         return items;
     }
+
+    /** Stacks created once per chicken and shared by every category that shows it. */
+    private record ChickenStacks(ChickensRegistryItem chicken, ItemStack spawnEgg, ItemStack chickenItem,
+            ItemStack layItem, ItemStack dropItem) {
+    }
 }
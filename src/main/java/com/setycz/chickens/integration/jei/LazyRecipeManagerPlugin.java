@@ -0,0 +1,131 @@
+package com.setycz.chickens.integration.jei;
+
+import mezz.jei.api.constants.VanillaTypes;
+import mezz.jei.api.ingredients.IIngredientType;
+import mezz.jei.api.ingredients.ITypedIngredient;
+import mezz.jei.api.ingredients.subtypes.UidContext;
+import mezz.jei.api.recipe.RecipeType;
+import mezz.jei.api.recipe.advanced.ISimpleRecipeManagerPlugin;
+import mezz.jei.api.runtime.IIngredientManager;
+import net.minecraft.world.item.ItemStack;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Serves one recipe category through JEI's recipe manager plugin hook instead
+ * of eager registration. Nothing is built while the world loads; the recipe
+ * list and its ingredient index are created the first time JEI asks about the
+ * category, usually when a player looks up an item or opens the category.
+ *
+ * <p>Ingredients are indexed by JEI's own unique ids, so lookups follow the
+ * same subtype rules as recipes registered the regular way. Render thread
+ * only, like every other JEI lookup.</p>
+ */
+final class LazyRecipeManagerPlugin<T> implements ISimpleRecipeManagerPlugin<T> {
+    private static final Logger LOGGER = LoggerFactory.getLogger("ChickensJei");
+
+    private final RecipeType<T> type;
+    private final IIngredientManager ingredientManager;
+    private final Supplier<List<T>> factory;
+    private final BiConsumer<T, Ingredients> inputs;
+    private final BiConsumer<T, Ingredients> outputs;
+    @Nullable
+    private Index<T> index;
+
+    LazyRecipeManagerPlugin(RecipeType<T> type, IIngredientManager ingredientManager, Supplier<List<T>> factory,
+            BiConsumer<T, Ingredients> inputs, BiConsumer<T, Ingredients> outputs) {
+        this.type = type;
+        this.ingredientManager = ingredientManager;
+        this.factory = factory;
+        this.inputs = inputs;
+        this.outputs = outputs;
+    }
+
+    @Override
+    public boolean isHandledInput(ITypedIngredient<?> input) {
+        return index().byInput.containsKey(uid(input));
+    }
+
+    @Override
+    public boolean isHandledOutput(ITypedIngredient<?> output) {
+        return index().byOutput.containsKey(uid(output));
+    }
+
+    @Override
+    public List<T> getRecipesForInput(ITypedIngredient<?> input) {
+        return index().byInput.getOrDefault(uid(input), List.of());
+    }
+
+    @Override
+    public List<T> getRecipesForOutput(ITypedIngredient<?> output) {
+        return index().byOutput.getOrDefault(uid(output), List.of());
+    }
+
+    @Override
+    public List<T> getAllRecipes() {
+        return index().recipes;
+    }
+
+    private Index<T> index() {
+        Index<T> current = index;
+        if (current == null) {
+            long start = System.nanoTime();
+            List<T> recipes = factory.get();
+            current = new Index<>(recipes);
+            for (T recipe : recipes) {
+                inputs.accept(recipe, new Ingredients(recipe, current.byInput));
+                outputs.accept(recipe, new Ingredients(recipe, current.byOutput));
+            }
+            index = current;
+            LOGGER.info("Built {} deferred {} recipes in {}", recipes.size(), type.getUid(),
+                    ChickensJeiPlugin.formatElapsed(start));
+        }
+        return current;
+    }
+
+    private Object uid(ITypedIngredient<?> ingredient) {
+        return uid(ingredient.getType(), ingredient.getIngredient());
+    }
+
+    private <V> Object uid(IIngredientType<V> type, V ingredient) {
+        return ingredientManager.getIngredientHelper(type).getUniqueId(ingredient, UidContext.Recipe);
+    }
+
+    private record Index<T>(List<T> recipes, Map<Object, List<T>> byInput, Map<Object, List<T>> byOutput) {
+        private Index(List<T> recipes) {
+            this(recipes, new HashMap<>(), new HashMap<>());
+        }
+    }
+
+    /** Collects the ingredients of one recipe into one side of the index. */
+    final class Ingredients {
+        private final T recipe;
+        private final Map<Object, List<T>> target;
+
+        private Ingredients(T recipe, Map<Object, List<T>> target) {
+            this.recipe = recipe;
+            this.target = target;
+        }
+
+        Ingredients addItem(ItemStack stack) {
+            return stack.isEmpty() ? this : add(VanillaTypes.ITEM_STACK, stack);
+        }
+
+        <V> Ingredients add(IIngredientType<V> ingredientType, V ingredient) {
+            List<T> recipes = target.computeIfAbsent(uid(ingredientType, ingredient), ignored -> new ArrayList<>());
+            // Recipes are visited in order, so a duplicate can only be the last entry.
+            if (recipes.isEmpty() || recipes.get(recipes.size() - 1) != recipe) {
+                recipes.add(recipe);
+            }
+            return this;
+        }
+    }
+}
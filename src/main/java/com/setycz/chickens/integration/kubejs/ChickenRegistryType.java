@@ -1,5 +1,6 @@
 package com.setycz.chickens.integration.kubejs;
 
+import com.setycz.chickens.ChickensRegistry;
 import dev.latvian.mods.rhino.util.RemapPrefixForJS;
 import net.minecraft.resources.ResourceLocation;
 import org.slf4j.Logger;
@@ -105,6 +106,7 @@ public class ChickenRegistryType {
                 parentsResolved = true;
                 LOGGER.info("ChickenRegistryEventJS: Parent relationships resolved for {} chickens", pendingBuilders.size());
             }
+            ChickensRegistry.refreshSnapshot();
         }
     }
 }
\ No newline at end of file
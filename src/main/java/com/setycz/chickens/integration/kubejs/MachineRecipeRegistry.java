@@ -1,10 +1,18 @@
 package com.setycz.chickens.integration.kubejs;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import net.minecraft.resources.ResourceLocation;
 
 import javax.annotation.Nullable;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Central registry for KubeJS-defined machine recipes so block entities and JEI
@@ -37,6 +45,8 @@ public final class MachineRecipeRegistry {
     private static final List<DousingRecipe> DOUSING_RECIPES = new ArrayList<>();
     private static final List<FluidConverterRecipe> FLUID_CONVERTER_RECIPES = new ArrayList<>();
     private static final List<ChemicalConverterRecipe> CHEMICAL_CONVERTER_RECIPES = new ArrayList<>();
+    private static final AtomicInteger VERSION = new AtomicInteger();
+    private static volatile Index index = new Index(-1);
 
     private MachineRecipeRegistry() {
     }
@@ -48,74 +58,116 @@ public final class MachineRecipeRegistry {
         DOUSING_RECIPES.clear();
         FLUID_CONVERTER_RECIPES.clear();
         CHEMICAL_CONVERTER_RECIPES.clear();
+        invalidate();
     }
 
     public static void addDousingRecipe(DousingRecipe recipe) {
         DOUSING_RECIPES.add(recipe);
+        invalidate();
     }
 
     public static void addFluidConverterRecipe(FluidConverterRecipe recipe) {
         FLUID_CONVERTER_RECIPES.add(recipe);
+        invalidate();
     }
 
     public static void addChemicalConverterRecipe(ChemicalConverterRecipe recipe) {
         CHEMICAL_CONVERTER_RECIPES.add(recipe);
+        invalidate();
+    }
+
+    /**
+     * Builds the lookup index once the KubeJS script finished registering, so
+     * the first machine tick does not pay for it. Later additions simply
+     * invalidate the index again.
+     */
+    public static void freeze() {
+        index();
+    }
+
+    /** Bumped whenever the recipe set changes; machines key cached decisions on it. */
+    public static int getVersion() {
+        return VERSION.get();
+    }
+
+    private static void invalidate() {
+        VERSION.incrementAndGet();
+    }
+
+    private static Index index() {
+        Index current = index;
+        int version = VERSION.get();
+        if (current.version != version) {
+            current = new Index(version);
+            index = current;
+        }
+        return current;
     }
 
     public static List<DousingRecipe> getDousingRecipes() {
-        return List.copyOf(DOUSING_RECIPES);
+        return index().dousing;
     }
 
     public static List<FluidConverterRecipe> getFluidConverterRecipes() {
-        return List.copyOf(FLUID_CONVERTER_RECIPES);
+        return index().fluidConverters;
     }
 
     public static List<ChemicalConverterRecipe> getChemicalConverterRecipes() {
-        return List.copyOf(CHEMICAL_CONVERTER_RECIPES);
+        return index().chemicalConverters;
     }
 
     public static boolean hasDousingRecipeForInput(int inputChickenId) {
-        for (DousingRecipe recipe : DOUSING_RECIPES) {
-            if (recipe.inputChickenId() == inputChickenId) {
-                return true;
-            }
-        }
-        return false;
+        return index().dousingInputs.contains(inputChickenId);
     }
 
     @Nullable
     public static DousingRecipe findDousingRecipe(DousingType type, int inputChickenId, ResourceLocation reagentId) {
-        for (DousingRecipe recipe : DOUSING_RECIPES) {
-            if (recipe.type() != type) {
-                continue;
-            }
-            if (recipe.inputChickenId() != inputChickenId) {
-                continue;
-            }
-            if (recipe.reagentId().equals(reagentId)) {
-                return recipe;
-            }
-        }
-        return null;
+        Map<ResourceLocation, DousingRecipe> byReagent = index().dousingByInput.get(type).get(inputChickenId);
+        return byReagent == null ? null : byReagent.get(reagentId);
     }
 
     @Nullable
     public static FluidConverterRecipe findFluidConverterRecipe(ResourceLocation inputFluidId) {
-        for (FluidConverterRecipe recipe : FLUID_CONVERTER_RECIPES) {
-            if (recipe.inputFluidId().equals(inputFluidId)) {
-                return recipe;
-            }
-        }
-        return null;
+        return index().fluidConverterByInput.get(inputFluidId);
     }
 
     @Nullable
     public static ChemicalConverterRecipe findChemicalConverterRecipe(ResourceLocation inputChemicalId) {
-        for (ChemicalConverterRecipe recipe : CHEMICAL_CONVERTER_RECIPES) {
-            if (recipe.inputChemicalId().equals(inputChemicalId)) {
-                return recipe;
+        return index().chemicalConverterByInput.get(inputChemicalId);
+    }
+
+    /**
+     * Immutable lookup tables over the registered recipes. The first recipe
+     * registered for a key wins, matching the order scripts declared them in.
+     */
+    private static final class Index {
+        private final int version;
+        private final List<DousingRecipe> dousing = List.copyOf(DOUSING_RECIPES);
+        private final List<FluidConverterRecipe> fluidConverters = List.copyOf(FLUID_CONVERTER_RECIPES);
+        private final List<ChemicalConverterRecipe> chemicalConverters = List.copyOf(CHEMICAL_CONVERTER_RECIPES);
+        private final Map<DousingType, Int2ObjectMap<Map<ResourceLocation, DousingRecipe>>> dousingByInput =
+                new EnumMap<>(DousingType.class);
+        private final IntSet dousingInputs = new IntOpenHashSet();
+        private final Map<ResourceLocation, FluidConverterRecipe> fluidConverterByInput = new HashMap<>();
+        private final Map<ResourceLocation, ChemicalConverterRecipe> chemicalConverterByInput = new HashMap<>();
+
+        private Index(int version) {
+            this.version = version;
+            for (DousingType type : DousingType.values()) {
+                dousingByInput.put(type, new Int2ObjectOpenHashMap<>());
+            }
+            for (DousingRecipe recipe : dousing) {
+                dousingByInput.get(recipe.type())
+                        .computeIfAbsent(recipe.inputChickenId(), ignored -> new HashMap<>())
+                        .putIfAbsent(recipe.reagentId(), recipe);
+                dousingInputs.add(recipe.inputChickenId());
+            }
+            for (FluidConverterRecipe recipe : fluidConverters) {
+                fluidConverterByInput.putIfAbsent(recipe.inputFluidId(), recipe);
+            }
+            for (ChemicalConverterRecipe recipe : chemicalConverters) {
+                chemicalConverterByInput.putIfAbsent(recipe.inputChemicalId(), recipe);
             }
         }
-        return null;
     }
 }
@@ -32,6 +32,7 @@ public final class MachineRecipeRegistryType {
             MachineRecipeEventJS event = new MachineRecipeEventJS();
             try {
                 callback.accept(event);
+                MachineRecipeRegistry.freeze();
                 LOGGER.info("Machine recipe registration callback executed successfully");
             } catch (Exception e) {
                 LOGGER.error("Error executing machine recipe registration callback", e);
@@ -0,0 +1,148 @@
+package com.setycz.chickens.integration.mekanism;
+
+import net.minecraft.core.Holder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Typed access to the Mekanism chemical members that are hit on every
+ * transfer. Each member is resolved once into a {@link MethodHandle} adapted
+ * to an erased signature and held in a static final field, so the JIT can
+ * bind the call directly instead of going through {@code Method.invoke} with
+ * its access checks, argument arrays and boxed results. Mekanism stays an
+ * optional runtime dependency: when its API is missing the handles stay
+ * {@code null} and {@link #isReady()} reports {@code false}.
+ */
+final class MekanismChemicalBridge {
+    private static final Logger LOGGER = LoggerFactory.getLogger("ChickensMekanismHook");
+
+    private static final MethodType STACK_TO_LONG = MethodType.methodType(long.class, Object.class);
+    private static final MethodType STACK_TO_BOOLEAN = MethodType.methodType(boolean.class, Object.class);
+    private static final MethodType STACK_TO_OBJECT = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType HANDLER_STACK_ACTION = MethodType.methodType(Object.class, Object.class,
+            Object.class, Object.class);
+    private static final MethodType HANDLER_AMOUNT_ACTION = MethodType.methodType(Object.class, Object.class,
+            long.class, Object.class);
+    private static final MethodType NEW_STACK = MethodType.methodType(Object.class, Object.class, long.class);
+
+    private static final boolean READY;
+    private static final MethodHandle STACK_GET_AMOUNT;
+    private static final MethodHandle STACK_IS_EMPTY;
+    private static final MethodHandle STACK_GET_CHEMICAL;
+    private static final MethodHandle HANDLER_INSERT;
+    private static final MethodHandle HANDLER_EXTRACT_AMOUNT;
+    private static final MethodHandle HANDLER_EXTRACT_STACK;
+    @Nullable
+    private static final MethodHandle STACK_FROM_HOLDER;
+    @Nullable
+    private static final MethodHandle STACK_FROM_CHEMICAL;
+
+    static {
+        boolean ready = false;
+        MethodHandle getAmount = null;
+        MethodHandle isEmpty = null;
+        MethodHandle getChemical = null;
+        MethodHandle insert = null;
+        MethodHandle extractAmount = null;
+        MethodHandle extractStack = null;
+        MethodHandle fromHolder = null;
+        MethodHandle fromChemical = null;
+        try {
+            Class<?> chemicalClass = Class.forName("mekanism.api.chemical.Chemical");
+            Class<?> stackClass = Class.forName("mekanism.api.chemical.ChemicalStack");
+            Class<?> handlerClass = Class.forName("mekanism.api.chemical.IChemicalHandler");
+            Class<?> actionClass = Class.forName("mekanism.api.Action");
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
+            getAmount = lookup.findVirtual(stackClass, "getAmount", MethodType.methodType(long.class))
+                    .asType(STACK_TO_LONG);
+            isEmpty = lookup.findVirtual(stackClass, "isEmpty", MethodType.methodType(boolean.class))
+                    .asType(STACK_TO_BOOLEAN);
+            getChemical = lookup.findVirtual(stackClass, "getChemical", MethodType.methodType(chemicalClass))
+                    .asType(STACK_TO_OBJECT);
+            insert = lookup.findVirtual(handlerClass, "insertChemical",
+                    MethodType.methodType(stackClass, stackClass, actionClass)).asType(HANDLER_STACK_ACTION);
+            extractAmount = lookup.findVirtual(handlerClass, "extractChemical",
+                    MethodType.methodType(stackClass, long.class, actionClass)).asType(HANDLER_AMOUNT_ACTION);
+            extractStack = lookup.findVirtual(handlerClass, "extractChemical",
+                    MethodType.methodType(stackClass, stackClass, actionClass)).asType(HANDLER_STACK_ACTION);
+            // Mekanism 10.7 builds stacks from holders; older releases take the chemical directly.
+            try {
+                fromHolder = lookup.findConstructor(stackClass,
+                        MethodType.methodType(void.class, Holder.class, long.class)).asType(NEW_STACK);
+            } catch (NoSuchMethodException ignored) {
+                fromHolder = null;
+            }
+            try {
+                fromChemical = lookup.findConstructor(stackClass,
+                        MethodType.methodType(void.class, chemicalClass, long.class)).asType(NEW_STACK);
+            } catch (NoSuchMethodException ignored) {
+                fromChemical = null;
+            }
+            ready = fromHolder != null || fromChemical != null;
+        } catch (ReflectiveOperationException ex) {
+            LOGGER.debug("Mekanism chemical API not detected; chemical transfers stay disabled", ex);
+        }
+        READY = ready;
+        STACK_GET_AMOUNT = getAmount;
+        STACK_IS_EMPTY = isEmpty;
+        STACK_GET_CHEMICAL = getChemical;
+        HANDLER_INSERT = insert;
+        HANDLER_EXTRACT_AMOUNT = extractAmount;
+        HANDLER_EXTRACT_STACK = extractStack;
+        STACK_FROM_HOLDER = fromHolder;
+        STACK_FROM_CHEMICAL = fromChemical;
+    }
+
+    private MekanismChemicalBridge() {
+    }
+
+    static boolean isReady() {
+        return READY;
+    }
+
+    static boolean hasHolderConstructor() {
+        return STACK_FROM_HOLDER != null;
+    }
+
+    static boolean hasChemicalConstructor() {
+        return STACK_FROM_CHEMICAL != null;
+    }
+
+    static long getAmount(Object stack) throws Throwable {
+        return (long) STACK_GET_AMOUNT.invokeExact(stack);
+    }
+
+    static boolean isEmpty(Object stack) throws Throwable {
+        return (boolean) STACK_IS_EMPTY.invokeExact(stack);
+    }
+
+    static Object getChemical(Object stack) throws Throwable {
+        return (Object) STACK_GET_CHEMICAL.invokeExact(stack);
+    }
+
+    static Object insert(Object handler, Object stack, Object action) throws Throwable {
+        return (Object) HANDLER_INSERT.invokeExact(handler, stack, action);
+    }
+
+    static Object extract(Object handler, long amount, Object action) throws Throwable {
+        return (Object) HANDLER_EXTRACT_AMOUNT.invokeExact(handler, amount, action);
+    }
+
+    static Object extract(Object handler, Object template, Object action) throws Throwable {
+        return (Object) HANDLER_EXTRACT_STACK.invokeExact(handler, template, action);
+    }
+
+    static Object stackFromHolder(Holder<?> holder, long amount) throws Throwable {
+        return (Object) STACK_FROM_HOLDER.invokeExact((Object) holder, amount);
+    }
+
+    static Object stackFromChemical(Object chemical, long amount) throws Throwable {
+        return (Object) STACK_FROM_CHEMICAL.invokeExact(chemical, amount);
+    }
+}
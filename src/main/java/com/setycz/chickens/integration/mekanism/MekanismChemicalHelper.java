@@ -2,6 +2,7 @@ package com.setycz.chickens.integration.mekanism;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.core.Holder;
 import net.minecraft.core.Registry;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
@@ -24,7 +25,8 @@ import java.util.List;
  * Reflection-driven bridge into Mekanism's chemical registry. The mod does not
  * depend on Mekanism at compile time, so this helper inspects the API at
  * runtime when it is present and extracts the data required to mirror gas and
- * chemical resources as chickens.
+ * chemical resources as chickens. Per-transfer stack and handler calls go
+ * through the method handles in {@link MekanismChemicalBridge}.
  */
 public final class MekanismChemicalHelper {
     private static final Logger LOGGER = LoggerFactory.getLogger("ChickensMekanismHook");
@@ -47,20 +49,6 @@ public final class MekanismChemicalHelper {
     private static final Object ACTION_SIMULATE;
     private static final Object EMPTY_STACK;
 
-    private static final Method CHEMICAL_STACK_GET_AMOUNT;
-    private static final Method CHEMICAL_STACK_IS_EMPTY;
-    private static final Method CHEMICAL_STACK_GET_CHEMICAL;
-    private static final Method CHEMICAL_HANDLER_INSERT;
-    private static final Method CHEMICAL_HANDLER_EXTRACT_AMOUNT;
-    private static final Method CHEMICAL_HANDLER_EXTRACT_STACK;
-    private static final Method REGISTRY_WRAP_AS_HOLDER;
-
-    @SuppressWarnings("rawtypes")
-    private static final java.lang.reflect.Constructor CHEMICAL_STACK_CTOR;
-
-    @SuppressWarnings("rawtypes")
-    private static final java.lang.reflect.Constructor CHEMICAL_STACK_CTOR_LEGACY;
-
     private static final net.neoforged.neoforge.capabilities.BlockCapability<Object, Direction> CHEMICAL_BLOCK_CAPABILITY;
 
     static {
@@ -79,16 +67,7 @@ public final class MekanismChemicalHelper {
         Object actionExecute = null;
         Object actionSimulate = null;
         Object emptyStack = null;
-        Method getAmount = null;
-        Method isEmpty = null;
-        Method getChemical = null;
-        Method insert = null;
-        Method extractAmount = null;
-        Method extractStack = null;
-        java.lang.reflect.Constructor<?> stackCtor = null;
-        java.lang.reflect.Constructor<?> legacyStackCtor = null;
         BlockCapability<Object, Direction> blockCapability = null;
-        Method wrapAsHolderLocal = null;
         try {
             Class<?> apiClass = Class.forName("mekanism.api.MekanismAPI");
             Field chemicalRegistryField = apiClass.getField("CHEMICAL_REGISTRY");
@@ -96,14 +75,6 @@ public final class MekanismChemicalHelper {
             Registry<Object> castRegistry = (Registry<Object>) chemicalRegistryField.get(null);
             registry = castRegistry;
 
-            if (registry != null) {
-                try {
-                    wrapAsHolderLocal = registry.getClass().getMethod("wrapAsHolder", Object.class);
-                } catch (NoSuchMethodException ignored) {
-                    wrapAsHolderLocal = null;
-                }
-            }
-
             Field emptyChemicalField;
             try {
                 emptyChemicalField = apiClass.getField("EMPTY_CHEMICAL_NAME");
@@ -143,22 +114,6 @@ public final class MekanismChemicalHelper {
             actionExecute = execute;
             actionSimulate = simulate;
             emptyStack = stackClass.getField("EMPTY").get(null);
-            try {
-                stackCtor = stackClass.getConstructor(Class.forName("net.minecraft.core.Holder"), long.class);
-            } catch (NoSuchMethodException ctorMissing) {
-                stackCtor = null;
-            }
-            try {
-                legacyStackCtor = stackClass.getConstructor(chemicalClass, long.class);
-            } catch (NoSuchMethodException legacyMissing) {
-                legacyStackCtor = null;
-            }
-            getAmount = stackClass.getMethod("getAmount");
-            isEmpty = stackClass.getMethod("isEmpty");
-            getChemical = stackClass.getMethod("getChemical");
-            insert = handlerClass.getMethod("insertChemical", stackClass, actionClass);
-            extractAmount = handlerClass.getMethod("extractChemical", long.class, actionClass);
-            extractStack = handlerClass.getMethod("extractChemical", stackClass, actionClass);
 
             @SuppressWarnings("unchecked")
             BlockCapability<Object, Direction> capability = (BlockCapability<Object, Direction>) BlockCapability.createSided(
@@ -183,16 +138,7 @@ public final class MekanismChemicalHelper {
         ACTION_EXECUTE = actionExecute;
         ACTION_SIMULATE = actionSimulate;
         EMPTY_STACK = emptyStack;
-        CHEMICAL_STACK_GET_AMOUNT = getAmount;
-        CHEMICAL_STACK_IS_EMPTY = isEmpty;
-        CHEMICAL_STACK_GET_CHEMICAL = getChemical;
-        CHEMICAL_HANDLER_INSERT = insert;
-        CHEMICAL_HANDLER_EXTRACT_AMOUNT = extractAmount;
-        CHEMICAL_HANDLER_EXTRACT_STACK = extractStack;
-        CHEMICAL_STACK_CTOR = stackCtor;
-        CHEMICAL_STACK_CTOR_LEGACY = legacyStackCtor;
         CHEMICAL_BLOCK_CAPABILITY = blockCapability;
-        REGISTRY_WRAP_AS_HOLDER = wrapAsHolderLocal;
     }
 
     private MekanismChemicalHelper() {
@@ -243,7 +189,7 @@ public final class MekanismChemicalHelper {
                 && CHEMICAL_HANDLER_CLASS != null
                 && CHEMICAL_BLOCK_CAPABILITY != null
                 && ACTION_CLASS != null
-                && (CHEMICAL_STACK_CTOR_LEGACY != null || CHEMICAL_STACK_CTOR != null);
+                && MekanismChemicalBridge.isReady();
     }
 
     @Nullable
@@ -269,41 +215,42 @@ public final class MekanismChemicalHelper {
             return EMPTY_STACK;
         }
         try {
-            if (CHEMICAL_STACK_CTOR_LEGACY != null && CHEMICAL_CLASS != null
+            if (MekanismChemicalBridge.hasChemicalConstructor() && CHEMICAL_CLASS != null
                     && CHEMICAL_CLASS.isInstance(chemical)) {
-                return CHEMICAL_STACK_CTOR_LEGACY.newInstance(chemical, amount);
+                return MekanismChemicalBridge.stackFromChemical(chemical, amount);
             }
-            if (CHEMICAL_STACK_CTOR != null && REGISTRY_WRAP_AS_HOLDER != null && CHEMICAL_REGISTRY != null) {
-                Object holder = REGISTRY_WRAP_AS_HOLDER.invoke(CHEMICAL_REGISTRY, chemical);
-                if (holder != null) {
-                    return CHEMICAL_STACK_CTOR.newInstance(holder, amount);
-                }
+            if (MekanismChemicalBridge.hasHolderConstructor() && CHEMICAL_REGISTRY != null) {
+                Holder<Object> holder = CHEMICAL_REGISTRY.wrapAsHolder(chemical);
+                return MekanismChemicalBridge.stackFromHolder(holder, amount);
             }
-        } catch (ReflectiveOperationException ex) {
+        } catch (Throwable ex) {
+            rethrowIfFatal(ex);
             LOGGER.warn("Unable to construct Mekanism ChemicalStack", ex);
         }
         return EMPTY_STACK;
     }
 
     public static boolean isStackEmpty(@Nullable Object stack) {
-        if (stack == null || CHEMICAL_STACK_CLASS == null || CHEMICAL_STACK_IS_EMPTY == null) {
+        if (stack == null || !MekanismChemicalBridge.isReady()) {
             return true;
         }
         try {
-            return (boolean) CHEMICAL_STACK_IS_EMPTY.invoke(stack);
-        } catch (IllegalAccessException | InvocationTargetException ex) {
+            return MekanismChemicalBridge.isEmpty(stack);
+        } catch (Throwable ex) {
+            rethrowIfFatal(ex);
             LOGGER.warn("Unable to inspect Mekanism ChemicalStack emptiness", ex);
             return true;
         }
     }
 
     public static long getStackAmount(@Nullable Object stack) {
-        if (stack == null || CHEMICAL_STACK_CLASS == null || CHEMICAL_STACK_GET_AMOUNT == null) {
+        if (stack == null || !MekanismChemicalBridge.isReady()) {
             return 0L;
         }
         try {
-            return (long) CHEMICAL_STACK_GET_AMOUNT.invoke(stack);
-        } catch (IllegalAccessException | InvocationTargetException ex) {
+            return MekanismChemicalBridge.getAmount(stack);
+        } catch (Throwable ex) {
+            rethrowIfFatal(ex);
             LOGGER.warn("Unable to read Mekanism ChemicalStack amount", ex);
             return 0L;
         }
@@ -311,13 +258,14 @@ public final class MekanismChemicalHelper {
 
     @Nullable
     public static ResourceLocation getStackChemicalId(@Nullable Object stack) {
-        if (stack == null || CHEMICAL_STACK_GET_CHEMICAL == null) {
+        if (stack == null || !MekanismChemicalBridge.isReady()) {
             return null;
         }
         try {
-            Object chemical = CHEMICAL_STACK_GET_CHEMICAL.invoke(stack);
+            Object chemical = MekanismChemicalBridge.getChemical(stack);
             return getChemicalId(chemical);
-        } catch (IllegalAccessException | InvocationTargetException ex) {
+        } catch (Throwable ex) {
+            rethrowIfFatal(ex);
             LOGGER.warn("Unable to read Mekanism ChemicalStack chemical", ex);
             return null;
         }
@@ -328,45 +276,55 @@ public final class MekanismChemicalHelper {
     }
 
     public static Object insertChemical(Object handler, Object stack, boolean simulate) {
-        if (!isChemicalCapabilityAvailable() || handler == null || stack == null || CHEMICAL_HANDLER_INSERT == null) {
+        if (!isChemicalCapabilityAvailable() || handler == null || stack == null) {
             return stack;
         }
         try {
             Object action = simulate ? ACTION_SIMULATE : ACTION_EXECUTE;
-            return CHEMICAL_HANDLER_INSERT.invoke(handler, stack, action);
-        } catch (IllegalAccessException | InvocationTargetException ex) {
+            return MekanismChemicalBridge.insert(handler, stack, action);
+        } catch (Throwable ex) {
+            rethrowIfFatal(ex);
             LOGGER.warn("Unable to insert chemical into Mekanism handler", ex);
             return stack;
         }
     }
 
     public static Object extractChemical(Object handler, long amount, boolean simulate) {
-        if (!isChemicalCapabilityAvailable() || handler == null || CHEMICAL_HANDLER_EXTRACT_AMOUNT == null || amount <= 0) {
+        if (!isChemicalCapabilityAvailable() || handler == null || amount <= 0) {
             return EMPTY_STACK;
         }
         try {
             Object action = simulate ? ACTION_SIMULATE : ACTION_EXECUTE;
-            return CHEMICAL_HANDLER_EXTRACT_AMOUNT.invoke(handler, amount, action);
-        } catch (IllegalAccessException | InvocationTargetException ex) {
+            return MekanismChemicalBridge.extract(handler, amount, action);
+        } catch (Throwable ex) {
+            rethrowIfFatal(ex);
             LOGGER.warn("Unable to extract chemical from Mekanism handler", ex);
             return EMPTY_STACK;
         }
     }
 
     public static Object extractChemical(Object handler, Object template, boolean simulate) {
-        if (!isChemicalCapabilityAvailable() || handler == null || template == null
-                || CHEMICAL_HANDLER_EXTRACT_STACK == null) {
+        if (!isChemicalCapabilityAvailable() || handler == null || template == null) {
             return EMPTY_STACK;
         }
         try {
             Object action = simulate ? ACTION_SIMULATE : ACTION_EXECUTE;
-            return CHEMICAL_HANDLER_EXTRACT_STACK.invoke(handler, template, action);
-        } catch (IllegalAccessException | InvocationTargetException ex) {
+            return MekanismChemicalBridge.extract(handler, template, action);
+        } catch (Throwable ex) {
+            rethrowIfFatal(ex);
             LOGGER.warn("Unable to extract typed chemical from Mekanism handler", ex);
             return EMPTY_STACK;
         }
     }
 
+    // Method handles surface Mekanism's own exceptions directly; only those are
+    // logged and absorbed, JVM errors keep propagating.
+    private static void rethrowIfFatal(Throwable ex) {
+        if (ex instanceof Error error) {
+            throw error;
+        }
+    }
+
     @Nullable
     public static Object getBlockChemicalHandler(@Nullable Level level, BlockPos pos, Direction direction) {
         if (!isChemicalCapabilityAvailable() || level == null || CHEMICAL_BLOCK_CAPABILITY == null) {
@@ -1,13 +1,13 @@
 package com.setycz.chickens.integration.wthit;
 
 import com.setycz.chickens.blockentity.AvianDousingMachineBlockEntity;
+import com.setycz.chickens.integration.hud.HudSnapshot;
+import com.setycz.chickens.integration.hud.HudSnapshots;
 import com.setycz.chickens.integration.wthit.overlay.HudOverlayHelper;
 import mcp.mobius.waila.api.IDataProvider;
 import mcp.mobius.waila.api.IDataWriter;
 import mcp.mobius.waila.api.IPluginConfig;
 import mcp.mobius.waila.api.IServerAccessor;
-import net.minecraft.network.chat.Component;
-import net.neoforged.neoforge.fluids.FluidStack;
 
 /**
  * Streams the dousing machine's buffered resources and progress back to WTHIT so
@@ -17,16 +17,15 @@ final class AvianDousingMachineProvider implements IDataProvider<AvianDousingMac
 
     @Override
     public void appendData(IDataWriter writer, IServerAccessor<AvianDousingMachineBlockEntity> accessor, IPluginConfig config) {
-        AvianDousingMachineBlockEntity machine = accessor.getTarget();
-        if (machine == null) {
+        AvianDousingMachineBlockEntity blockEntity = accessor.getTarget();
+        if (blockEntity == null) {
             return;
         }
-        HudOverlayHelper helper = new HudOverlayHelper();
-        helper.addFluid(machine.getFluid().copy(), machine.getLiquidCapacity());
-        helper.addEnergy(machine.getEnergyStored(), machine.getEnergyCapacity());
-        int maxProgress = Math.max(machine.getMaxProgress(), 1);
-        int percent = Math.max(machine.getProgress(), 0) * 100 / maxProgress;
-        helper.addText(Component.translatable("tooltip.chickens.avian_dousing_machine.progress", percent));
+        HudSnapshot snapshot = HudSnapshots.get(blockEntity);
+        if (snapshot == null) {
+            return;
+        }
+        HudOverlayHelper helper = HudOverlayHelper.of(snapshot);
         writer.add(HudOverlayHelper.TYPE, result -> result.add(helper));
     }
 }
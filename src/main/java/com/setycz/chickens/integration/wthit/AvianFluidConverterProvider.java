@@ -1,6 +1,8 @@
 package com.setycz.chickens.integration.wthit;
 
 import com.setycz.chickens.blockentity.AvianFluidConverterBlockEntity;
+import com.setycz.chickens.integration.hud.HudSnapshot;
+import com.setycz.chickens.integration.hud.HudSnapshots;
 import com.setycz.chickens.integration.wthit.overlay.HudOverlayHelper;
 import mcp.mobius.waila.api.IDataProvider;
 import mcp.mobius.waila.api.IDataWriter;
@@ -19,8 +21,11 @@ final class AvianFluidConverterProvider implements IDataProvider<AvianFluidConve
         if (blockEntity == null) {
             return;
         }
-        HudOverlayHelper helper = new HudOverlayHelper();
-        helper.addFluid(blockEntity.getFluid().copy(), blockEntity.getTankCapacity());
+        HudSnapshot snapshot = HudSnapshots.get(blockEntity);
+        if (snapshot == null) {
+            return;
+        }
+        HudOverlayHelper helper = HudOverlayHelper.of(snapshot);
         writer.add(HudOverlayHelper.TYPE, result -> result.add(helper));
     }
 }
@@ -1,6 +1,8 @@
 package com.setycz.chickens.integration.wthit;
 
 import com.setycz.chickens.blockentity.AvianFluxConverterBlockEntity;
+import com.setycz.chickens.integration.hud.HudSnapshot;
+import com.setycz.chickens.integration.hud.HudSnapshots;
 import com.setycz.chickens.integration.wthit.overlay.HudOverlayHelper;
 import mcp.mobius.waila.api.IDataProvider;
 import mcp.mobius.waila.api.IDataWriter;
@@ -19,8 +21,11 @@ final class AvianFluxConverterProvider implements IDataProvider<AvianFluxConvert
         if (blockEntity == null) {
             return;
         }
-        HudOverlayHelper helper = new HudOverlayHelper();
-        helper.addEnergy(blockEntity.getEnergyStored(), blockEntity.getEnergyCapacity());
+        HudSnapshot snapshot = HudSnapshots.get(blockEntity);
+        if (snapshot == null) {
+            return;
+        }
+        HudOverlayHelper helper = HudOverlayHelper.of(snapshot);
         writer.add(HudOverlayHelper.TYPE, result -> result.add(helper));
     }
 }
@@ -1,17 +1,13 @@
 package com.setycz.chickens.integration.wthit;
 
 import com.setycz.chickens.blockentity.AbstractChickenContainerBlockEntity;
+import com.setycz.chickens.integration.hud.HudSnapshot;
+import com.setycz.chickens.integration.hud.HudSnapshots;
 import com.setycz.chickens.integration.wthit.overlay.HudOverlayHelper;
 import mcp.mobius.waila.api.IDataProvider;
 import mcp.mobius.waila.api.IDataWriter;
 import mcp.mobius.waila.api.IPluginConfig;
 import mcp.mobius.waila.api.IServerAccessor;
-import net.minecraft.nbt.CompoundTag;
-import net.minecraft.network.chat.Component;
-import net.minecraft.util.Mth;
-
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * Provides shared tooltip content for roost-like containers. The provider
@@ -21,61 +17,17 @@ import java.util.List;
 final class ChickenContainerProvider<T extends AbstractChickenContainerBlockEntity>
         implements IDataProvider<T> {
 
-    private static final String ETA_KEY = "ChickensEta";
-    private static final String TOTAL_KEY = "ChickensTotal";
-    private static final String STEP_KEY = "ChickensStep";
-
     @Override
     public void appendData(IDataWriter writer, IServerAccessor<T> accessor, IPluginConfig config) {
-        T container = accessor.getTarget();
-        if (container == null) {
+        T blockEntity = accessor.getTarget();
+        if (blockEntity == null) {
             return;
         }
-        CompoundTag tag = new CompoundTag();
-        container.storeTooltipData(tag);
-        tag.putInt(ETA_KEY, container.getRemainingLayTimeTicks());
-        tag.putInt(TOTAL_KEY, container.getTotalLayTimeTicks());
-        tag.putInt(STEP_KEY, container.getProgressIncrementPerTick());
-
-        HudOverlayHelper helper = new HudOverlayHelper();
-        List<Component> lines = new ArrayList<>();
-        container.appendTooltip(lines, tag);
-        lines.forEach(helper::addText);
-
-        boolean hasChickens = tag.getBoolean("HasChickens");
-        boolean hasSeeds = tag.getBoolean("HasSeeds");
-        int totalTicks = tag.getInt(TOTAL_KEY);
-        int etaTicks = tag.getInt(ETA_KEY);
-        int step = tag.getInt(STEP_KEY);
-        if (hasChickens && hasSeeds && totalTicks > 0 && etaTicks > 0 && step > 0) {
-            helper.addText(Component.translatable("tooltip.chickens.wthit.eta",
-                    describeEta(normaliseRemainingTicks(etaTicks, step))));
+        HudSnapshot snapshot = HudSnapshots.get(blockEntity);
+        if (snapshot == null) {
+            return;
         }
+        HudOverlayHelper helper = HudOverlayHelper.of(snapshot);
         writer.add(HudOverlayHelper.TYPE, result -> result.add(helper));
     }
-
-    private static int normaliseRemainingTicks(int remaining, int step) {
-        if (remaining <= 0 || step <= 0) {
-            return 0;
-        }
-        // Convert the accelerated progress counters back into real server ticks so
-        // the tooltip communicates an accurate wall-clock ETA regardless of stack size.
-        return Math.max(Mth.ceil(remaining / (float) step), 1);
-    }
-
-    private static Component describeEta(int ticks) {
-        if (ticks <= 0) {
-            return Component.translatable("tooltip.chickens.wthit.time.less_than_second");
-        }
-        int seconds = Mth.ceil(ticks / 20.0F);
-        if (seconds <= 0) {
-            return Component.translatable("tooltip.chickens.wthit.time.less_than_second");
-        }
-        int minutes = seconds / 60;
-        int remainingSeconds = seconds % 60;
-        if (minutes > 0) {
-            return Component.translatable("tooltip.chickens.wthit.time.minutes", minutes, remainingSeconds);
-        }
-        return Component.translatable("tooltip.chickens.wthit.time.seconds", seconds);
-    }
 }
@@ -1,6 +1,7 @@
 package com.setycz.chickens.integration.wthit.overlay;
 
 import com.setycz.chickens.ChickensMod;
+import com.setycz.chickens.integration.hud.HudSnapshot;
 import mcp.mobius.waila.api.IData;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.chat.Component;
@@ -12,6 +13,7 @@ import net.neoforged.neoforge.fluids.FluidStack;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * Lightweight payload that mirrors Mekanism's looking-at helper. The server collects a list of HUD
@@ -43,6 +45,9 @@ public final class HudOverlayHelper implements IData {
         }
     };
 
+    /** Converts a shared snapshot once; the resulting helper is reused for every request. */
+    private static final Function<HudSnapshot, HudOverlayHelper> SNAPSHOT_CONVERTER = HudOverlayHelper::convert;
+
     private final List<Entry> entries;
 
     public HudOverlayHelper() {
@@ -53,6 +58,30 @@ public final class HudOverlayHelper implements IData {
         this.entries = entries;
     }
 
+    /**
+     * Returns the helper for a server-side HUD snapshot. The result is shared
+     * between requests and must not be modified.
+     */
+    public static HudOverlayHelper of(HudSnapshot snapshot) {
+        return snapshot.encoded(SNAPSHOT_CONVERTER);
+    }
+
+    private static HudOverlayHelper convert(HudSnapshot snapshot) {
+        List<Entry> entries = new ArrayList<>(snapshot.entries().size());
+        for (HudSnapshot.Entry entry : snapshot.entries()) {
+            if (entry instanceof HudSnapshot.TextEntry text) {
+                entries.add(new TextEntry(text.text()));
+            } else if (entry instanceof HudSnapshot.FluidEntry fluid) {
+                entries.add(new FluidEntry(fluid.stack(), fluid.capacity()));
+            } else if (entry instanceof HudSnapshot.ChemicalEntry chemical) {
+                entries.add(new ChemicalEntry(chemical.entryId(), chemical.amount(), chemical.capacity()));
+            } else if (entry instanceof HudSnapshot.EnergyEntry energy) {
+                entries.add(new EnergyEntry(energy.energy(), energy.capacity()));
+            }
+        }
+        return new HudOverlayHelper(List.copyOf(entries));
+    }
+
     public boolean isEmpty() {
         return entries.isEmpty();
     }
@@ -0,0 +1,45 @@
+package com.setycz.chickens.item;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+
+/**
+ * Immutable payload of the {@code chickens:chicken} data component. It carries
+ * the registry id shared by chicken items, spawn eggs and the various coloured
+ * and liquid eggs, plus the captured stats and the rooster marker, so hot
+ * paths read plain fields instead of copying a custom data tag.
+ */
+public record ChickenItemData(int type, ChickenStats stats, boolean rooster) {
+    public static final ChickenItemData EMPTY = new ChickenItemData(0, ChickenStats.DEFAULT, false);
+
+    public static final Codec<ChickenItemData> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            Codec.INT.optionalFieldOf("type", 0).forGetter(ChickenItemData::type),
+            ChickenStats.CODEC.optionalFieldOf("stats", ChickenStats.DEFAULT).forGetter(ChickenItemData::stats),
+            Codec.BOOL.optionalFieldOf("rooster", false).forGetter(ChickenItemData::rooster)
+    ).apply(instance, ChickenItemData::new));
+
+    public static final StreamCodec<ByteBuf, ChickenItemData> STREAM_CODEC = StreamCodec.composite(
+            ByteBufCodecs.VAR_INT, ChickenItemData::type,
+            ChickenStats.STREAM_CODEC, ChickenItemData::stats,
+            ByteBufCodecs.BOOL, ChickenItemData::rooster,
+            ChickenItemData::new);
+
+    public ChickenItemData {
+        stats = stats == null ? ChickenStats.DEFAULT : stats;
+    }
+
+    public ChickenItemData withType(int newType) {
+        return newType == type ? this : new ChickenItemData(newType, stats, rooster);
+    }
+
+    public ChickenItemData withStats(ChickenStats newStats) {
+        return newStats.equals(stats) ? this : new ChickenItemData(type, newStats, rooster);
+    }
+
+    public ChickenItemData withRooster(boolean newRooster) {
+        return newRooster == rooster ? this : new ChickenItemData(type, stats, newRooster);
+    }
+}
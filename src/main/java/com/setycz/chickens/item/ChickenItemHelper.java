@@ -3,6 +3,7 @@ package com.setycz.chickens.item;
 import com.setycz.chickens.ChickensRegistry;
 import com.setycz.chickens.ChickensRegistryItem;
 import com.setycz.chickens.entity.ChickensChicken;
+import com.setycz.chickens.registry.ModDataComponents;
 import net.minecraft.core.component.DataComponents;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.item.ItemStack;
@@ -13,8 +14,10 @@ import javax.annotation.Nullable;
 
 /**
  * Utility methods shared by multiple chicken-themed items. The original mod
- * relied on item metadata to encode the chicken id; modern Minecraft exposes
- * persistent item data through NBT, so the helper centralises that logic.
+ * relied on item metadata to encode the chicken id; modern stacks carry it in
+ * the {@link ModDataComponents#CHICKEN} component. Stacks written by older
+ * versions kept the same values inside {@code minecraft:custom_data} and are
+ * converted the first time any helper touches them.
  */
 public final class ChickenItemHelper {
     public static final String TAG_CHICKEN_TYPE = "ChickenType";
@@ -27,24 +30,57 @@ public final class ChickenItemHelper {
     private ChickenItemHelper() {
     }
 
-    public static void setChickenType(ItemStack stack, int type) {
-        CustomData.update(DataComponents.CUSTOM_DATA, stack, tag -> tag.putInt(TAG_CHICKEN_TYPE, type));
-        stack.set(DataComponents.CUSTOM_MODEL_DATA, new CustomModelData(type));
+    /**
+     * Returns the chicken component of the stack, migrating legacy custom
+     * data on first access. Stacks without chicken data yield
+     * {@link ChickenItemData#EMPTY} without allocating.
+     */
+    public static ChickenItemData getData(ItemStack stack) {
+        ChickenItemData data = stack.get(ModDataComponents.CHICKEN.get());
+        return data != null ? data : migrateLegacyData(stack);
     }
 
-    public static int getChickenType(ItemStack stack) {
-        CustomData data = stack.getOrDefault(DataComponents.CUSTOM_DATA, CustomData.EMPTY);
-        if (data.contains(TAG_CHICKEN_TYPE)) {
-            int type = data.copyTag().getInt(TAG_CHICKEN_TYPE);
+    private static ChickenItemData migrateLegacyData(ItemStack stack) {
+        CustomData custom = stack.get(DataComponents.CUSTOM_DATA);
+        if (custom == null || stack.isEmpty()
+                || !(custom.contains(TAG_CHICKEN_TYPE) || custom.contains(TAG_ROOSTER) || custom.contains(TAG_STATS))) {
+            return ChickenItemData.EMPTY;
+        }
+        // One-off copy: the legacy keys move into the component and any
+        // unrelated custom data (rooster inventory, flux charge) stays put.
+        CompoundTag tag = custom.copyTag();
+        boolean hasType = tag.contains(TAG_CHICKEN_TYPE);
+        ChickenItemData data = new ChickenItemData(
+                tag.getInt(TAG_CHICKEN_TYPE),
+                tag.contains(TAG_STATS) ? ChickenStats.fromTag(tag.getCompound(TAG_STATS)) : ChickenStats.DEFAULT,
+                tag.getBoolean(TAG_ROOSTER));
+        tag.remove(TAG_CHICKEN_TYPE);
+        tag.remove(TAG_ROOSTER);
+        tag.remove(TAG_STATS);
+        if (tag.isEmpty()) {
+            stack.remove(DataComponents.CUSTOM_DATA);
+        } else {
+            stack.set(DataComponents.CUSTOM_DATA, CustomData.of(tag));
+        }
+        stack.set(ModDataComponents.CHICKEN.get(), data);
+        if (hasType) {
             CustomModelData modelData = stack.get(DataComponents.CUSTOM_MODEL_DATA);
-            if (modelData == null || modelData.value() != type) {
-                // Ensure the item displays with the correct baked model, even if an older stack
-                // or command-generated item forgot to sync the model data component.
-                stack.set(DataComponents.CUSTOM_MODEL_DATA, new CustomModelData(type));
+            if (modelData == null || modelData.value() != data.type()) {
+                // Older stacks and command-generated items may lack the model id
+                // the baked item overrides select on.
+                stack.set(DataComponents.CUSTOM_MODEL_DATA, new CustomModelData(data.type()));
             }
-            return type;
         }
-        return 0;
+        return data;
+    }
+
+    public static void setChickenType(ItemStack stack, int type) {
+        stack.set(ModDataComponents.CHICKEN.get(), getData(stack).withType(type));
+        stack.set(DataComponents.CUSTOM_MODEL_DATA, new CustomModelData(type));
+    }
+
+    public static int getChickenType(ItemStack stack) {
+        return getData(stack).type();
     }
 
     /**
@@ -53,41 +89,30 @@ public final class ChickenItemHelper {
      * item renderer can swap to textures/item/rooster.png.
      */
     public static void setRooster(ItemStack stack, boolean rooster) {
-        CustomData.update(DataComponents.CUSTOM_DATA, stack, tag -> {
-            if (rooster) {
-                tag.putBoolean(TAG_ROOSTER, true);
-            } else {
-                tag.remove(TAG_ROOSTER);
-            }
-        });
+        stack.set(ModDataComponents.CHICKEN.get(), getData(stack).withRooster(rooster));
     }
 
     public static boolean isRooster(ItemStack stack) {
-        CustomData data = stack.getOrDefault(DataComponents.CUSTOM_DATA, CustomData.EMPTY);
-        return data.contains(TAG_ROOSTER) && data.copyTag().getBoolean(TAG_ROOSTER);
+        return getData(stack).rooster();
     }
 
     @Nullable
     public static ChickensRegistryItem resolve(ItemStack stack) {
-        if (isRooster(stack)) {
+        ChickenItemData data = getData(stack);
+        if (data.rooster()) {
             // Rooster stacks do not map to a ChickensRegistryItem; callers that
             // need rooster data should consult RoosterItemData instead.
             return null;
         }
-        return ChickensRegistry.getByType(getChickenType(stack));
+        return ChickensRegistry.getByType(data.type());
     }
 
     public static void setStats(ItemStack stack, ChickenStats stats) {
-        CustomData.update(DataComponents.CUSTOM_DATA, stack, tag -> tag.put(TAG_STATS, stats.toTag()));
+        stack.set(ModDataComponents.CHICKEN.get(), getData(stack).withStats(stats));
     }
 
     public static ChickenStats getStats(ItemStack stack) {
-        CustomData data = stack.getOrDefault(DataComponents.CUSTOM_DATA, CustomData.EMPTY);
-        if (data.contains(TAG_STATS)) {
-            CompoundTag tag = data.copyTag().getCompound(TAG_STATS);
-            return ChickenStats.fromTag(tag);
-        }
-        return ChickenStats.DEFAULT;
+        return getData(stack).stats();
     }
 
     public static void copyFromEntity(ItemStack stack, ChickensChicken chicken) {
@@ -97,10 +122,11 @@ public final class ChickenItemHelper {
     }
 
     public static void applyToEntity(ItemStack stack, ChickensChicken chicken) {
-        chicken.setChickenType(getChickenType(stack));
-        ChickenStats stats = getStats(stack);
+        ChickenItemData data = getData(stack);
+        chicken.setChickenType(data.type());
+        ChickenStats stats = data.stats();
         CompoundTag tag = stats.toTag();
-        tag.putInt("Type", getChickenType(stack));
+        tag.putInt("Type", data.type());
         chicken.readAdditionalSaveData(tag);
         chicken.setStatsAnalyzed(stats.analysed());
     }
@@ -1,6 +1,11 @@
 package com.setycz.chickens.item;
 
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import io.netty.buffer.ByteBuf;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
 
 /**
  * Immutable snapshot of a chicken's growth, gain, and strength values. The
@@ -15,6 +20,20 @@ public record ChickenStats(int growth, int gain, int strength, boolean analysed)
 
     public static final ChickenStats DEFAULT = new ChickenStats(1, 1, 1, false);
 
+    public static final Codec<ChickenStats> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            Codec.INT.optionalFieldOf("growth", 1).forGetter(ChickenStats::growth),
+            Codec.INT.optionalFieldOf("gain", 1).forGetter(ChickenStats::gain),
+            Codec.INT.optionalFieldOf("strength", 1).forGetter(ChickenStats::strength),
+            Codec.BOOL.optionalFieldOf("analysed", false).forGetter(ChickenStats::analysed)
+    ).apply(instance, ChickenStats::new));
+
+    public static final StreamCodec<ByteBuf, ChickenStats> STREAM_CODEC = StreamCodec.composite(
+            ByteBufCodecs.VAR_INT, ChickenStats::growth,
+            ByteBufCodecs.VAR_INT, ChickenStats::gain,
+            ByteBufCodecs.VAR_INT, ChickenStats::strength,
+            ByteBufCodecs.BOOL, ChickenStats::analysed,
+            ChickenStats::new);
+
     public ChickenStats {
         // Clamp the stored stats to the vanilla Chickens range (1-10) so any
         // malformed data coming from configs or older saves cannot break the
@@ -0,0 +1,37 @@
+package com.setycz.chickens.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** A block entity delta sent to the players tracking its chunk. */
+@Name("chickens.BlockEntitySync")
+@Label("Block Entity Sync")
+@Category({ "Chickens", "Network" })
+@Description("A block entity delta was encoded and sent to tracking players")
+@StackTrace(false)
+public final class BlockEntitySyncEvent extends Event {
+    @Label("Block Entity")
+    public String blockEntity;
+
+    @Label("X")
+    public int x;
+
+    @Label("Y")
+    public int y;
+
+    @Label("Z")
+    public int z;
+
+    @Label("Bytes")
+    @Description("Payload body size, sent once to each tracking player")
+    @DataAmount
+    public int bytes;
+
+    @Label("Players")
+    public int players;
+}
@@ -0,0 +1,47 @@
+package com.setycz.chickens.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** A breeder producing a child chicken item. */
+@Name("chickens.BreederOffspring")
+@Label("Breeder Offspring")
+@Category({ "Chickens", "Farm" })
+@Description("A breeder rolled a child from its two parents")
+@StackTrace(false)
+public final class BreederOffspringEvent extends Event {
+    @Label("X")
+    public int x;
+
+    @Label("Y")
+    public int y;
+
+    @Label("Z")
+    public int z;
+
+    @Label("Parent A")
+    public String parentA;
+
+    @Label("Parent B")
+    public String parentB;
+
+    @Label("Child")
+    public String child;
+
+    @Label("Growth")
+    public int growth;
+
+    @Label("Gain")
+    public int gain;
+
+    @Label("Strength")
+    public int strength;
+
+    @Label("Dropped")
+    @Description("The output slots were full, so the child was dropped in the world")
+    public boolean dropped;
+}
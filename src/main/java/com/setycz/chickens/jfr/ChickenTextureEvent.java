@@ -0,0 +1,31 @@
+package com.setycz.chickens.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** Producing the tinted skin for a generated chicken on the client. */
+@Name("chickens.ChickenTexture")
+@Label("Dynamic Chicken Texture")
+@Category({ "Chickens", "Client" })
+@Description("A tinted chicken skin was generated or read back from the disk cache")
+@StackTrace(false)
+public final class ChickenTextureEvent extends Event {
+    @Label("Chicken")
+    public String chickenName;
+
+    @Label("Template")
+    public String template;
+
+    @Label("Width")
+    public int width;
+
+    @Label("Height")
+    public int height;
+
+    @Label("Disk Cache Hit")
+    public boolean diskCacheHit;
+}
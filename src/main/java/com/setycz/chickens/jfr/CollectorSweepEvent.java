@@ -0,0 +1,39 @@
+package com.setycz.chickens.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** One collector gather pass over the containers in range. */
+@Name("chickens.CollectorSweep")
+@Label("Collector Sweep")
+@Category({ "Chickens", "Farm" })
+@Description("A collector pulled items out of the roosts and breeders around it")
+@StackTrace(false)
+public final class CollectorSweepEvent extends Event {
+    @Label("X")
+    public int x;
+
+    @Label("Y")
+    public int y;
+
+    @Label("Z")
+    public int z;
+
+    @Label("Range")
+    public int range;
+
+    @Label("Event Driven")
+    @Description("Drained the queue of containers with output instead of sweeping the whole cube")
+    public boolean eventDriven;
+
+    @Label("Positions Scanned")
+    @Description("Queued containers visited, or block positions probed by the cube sweep")
+    public int positionsScanned;
+
+    @Label("Items Moved")
+    public int itemsMoved;
+}
@@ -0,0 +1,37 @@
+package com.setycz.chickens.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** An Avian Dousing Machine switching to a different infusion. */
+@Name("chickens.DousingPlanChange")
+@Label("Dousing Plan Change")
+@Category({ "Chickens", "Machines" })
+@Description("An Avian Dousing Machine re-evaluated its inputs and picked a different infusion")
+@StackTrace(false)
+public final class DousingPlanChangeEvent extends Event {
+    @Label("X")
+    public int x;
+
+    @Label("Y")
+    public int y;
+
+    @Label("Z")
+    public int z;
+
+    @Label("Previous Mode")
+    public String previousMode;
+
+    @Label("Mode")
+    public String mode;
+
+    @Label("Target Chicken")
+    public String chicken;
+
+    @Label("Energy Cost")
+    public int energyCost;
+}
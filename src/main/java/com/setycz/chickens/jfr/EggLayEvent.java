@@ -0,0 +1,35 @@
+package com.setycz.chickens.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** A chicken entity laying its drops, and whether a nearby henhouse took them. */
+@Name("chickens.EggLay")
+@Label("Egg Lay")
+@Category({ "Chickens", "Farm" })
+@Description("A chicken laid its drops and tried to deliver them to nearby henhouses")
+@StackTrace(false)
+public final class EggLayEvent extends Event {
+    @Label("Chicken Id")
+    public int chickenId;
+
+    @Label("Chicken")
+    public String chickenName;
+
+    @Label("Gain")
+    public int gain;
+
+    @Label("Items Laid")
+    public int itemsLaid;
+
+    @Label("Items Stored")
+    @Description("Items accepted by henhouses; the rest were dropped in the world")
+    public int itemsStored;
+
+    @Label("Henhouse Hit")
+    public boolean henhouseHit;
+}
@@ -0,0 +1,36 @@
+package com.setycz.chickens.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** Looking up the henhouses around a laying chicken. */
+@Name("chickens.HenhouseSearch")
+@Label("Henhouse Search")
+@Category({ "Chickens", "Farm" })
+@Description("Henhouse index lookup for a chicken delivering its drops")
+@StackTrace(false)
+public final class HenhouseSearchEvent extends Event {
+    @Label("X")
+    public double x;
+
+    @Label("Y")
+    public double y;
+
+    @Label("Z")
+    public double z;
+
+    @Label("Candidates")
+    @Description("Henhouses returned by the section index before the exact range check")
+    public int candidates;
+
+    @Label("Matches")
+    public int matches;
+
+    @Label("Cached")
+    @Description("The caller passed a nearby cache from its previous lookup")
+    public boolean cached;
+}
@@ -6,14 +6,17 @@ import com.setycz.chickens.GasEggRegistry;
 import com.setycz.chickens.blockentity.AvianChemicalConverterBlockEntity;
 import com.setycz.chickens.item.ChemicalEggItem;
 import com.setycz.chickens.item.GasEggItem;
+import com.setycz.chickens.network.MenuStateSync;
+import com.setycz.chickens.network.StateSyncedMenu;
 import com.setycz.chickens.registry.ModMenuTypes;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.inventory.ContainerLevelAccess;
-import net.minecraft.world.inventory.DataSlot;
 import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
@@ -28,11 +31,12 @@ import java.util.Objects;
  * the GUI can reuse the same slot layout while synchronising the buffered
  * chemical information back to the client.
  */
-public class AvianChemicalConverterMenu extends AbstractContainerMenu {
+public class AvianChemicalConverterMenu extends AbstractContainerMenu implements StateSyncedMenu {
     private static final int INVENTORY_SIZE = AvianChemicalConverterBlockEntity.SLOT_COUNT;
 
     private final AvianChemicalConverterBlockEntity converter;
     private final ContainerLevelAccess access;
+    private final MenuStateSync<State> stateSync;
     private int clientAmount;
     private int clientCapacity;
     private int clientEntryId = -1;
@@ -63,72 +67,8 @@ public class AvianChemicalConverterMenu extends AbstractContainerMenu {
             this.addSlot(new Slot(playerInventory, hotbar, 8 + hotbar * 18, 142));
         }
 
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return getServerAmount() & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientAmount = (clientAmount & 0xFFFF0000) | (value & 0xFFFF);
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return (getServerAmount() >>> 16) & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientAmount = (clientAmount & 0x0000FFFF) | ((value & 0xFFFF) << 16);
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return getServerCapacity() & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientCapacity = (clientCapacity & 0xFFFF0000) | (value & 0xFFFF);
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return (getServerCapacity() >>> 16) & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientCapacity = (clientCapacity & 0x0000FFFF) | ((value & 0xFFFF) << 16);
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return getServerEntryId();
-            }
-
-            @Override
-            public void set(int value) {
-                clientEntryId = value;
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return converter.isStoredGaseous() ? 1 : 0;
-            }
-
-            @Override
-            public void set(int value) {
-                clientGaseous = value != 0;
-            }
-        });
+        this.stateSync = new MenuStateSync<>(this, playerInventory, State.STREAM_CODEC, this::captureState,
+                this::applyState);
     }
 
     private static AvianChemicalConverterBlockEntity resolveBlockEntity(Inventory inventory, RegistryFriendlyByteBuf buffer) {
@@ -143,6 +83,23 @@ public class AvianChemicalConverterMenu extends AbstractContainerMenu {
         throw new IllegalStateException("Avian Chemical Converter not found at " + pos);
     }
 
+    @Override
+    public MenuStateSync<?> getStateSync() {
+        return stateSync;
+    }
+
+    @Override
+    public void broadcastChanges() {
+        super.broadcastChanges();
+        stateSync.broadcastChanges();
+    }
+
+    @Override
+    public void sendAllDataToRemote() {
+        super.sendAllDataToRemote();
+        stateSync.broadcastFullState();
+    }
+
     @Override
     public boolean stillValid(Player player) {
         return converter.stillValid(player);
@@ -220,6 +177,29 @@ public class AvianChemicalConverterMenu extends AbstractContainerMenu {
         return converter != null ? converter.getStoredEntryId() : -1;
     }
 
+
+    private State captureState() {
+        return new State(getServerAmount(), getServerCapacity(), getServerEntryId(),
+                converter != null && converter.isStoredGaseous());
+    }
+
+    private void applyState(State state) {
+        clientAmount = state.amount();
+        clientCapacity = state.capacity();
+        clientEntryId = state.entryId();
+        clientGaseous = state.gaseous();
+    }
+
+    /** Buffered chemical as shown by the screen; sent only when a value changes. */
+    private record State(int amount, int capacity, int entryId, boolean gaseous) {
+        static final StreamCodec<RegistryFriendlyByteBuf, State> STREAM_CODEC = StreamCodec.composite(
+                ByteBufCodecs.VAR_INT, State::amount,
+                ByteBufCodecs.VAR_INT, State::capacity,
+                ByteBufCodecs.VAR_INT, State::entryId,
+                ByteBufCodecs.BOOL, State::gaseous,
+                State::new);
+    }
+
     private static class ChemicalEggSlot extends Slot {
         private final AvianChemicalConverterBlockEntity converter;
 
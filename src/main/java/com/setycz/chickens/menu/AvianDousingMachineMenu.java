@@ -9,15 +9,17 @@ import com.setycz.chickens.blockentity.AvianDousingMachineBlockEntity.SpecialInf
 import com.setycz.chickens.item.ChickenItem;
 import com.setycz.chickens.item.ChickenItemHelper;
 import com.setycz.chickens.item.ChickensSpawnEggItem;
+import com.setycz.chickens.network.MenuStateSync;
+import com.setycz.chickens.network.StateSyncedMenu;
 import com.setycz.chickens.registry.ModMenuTypes;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.inventory.ContainerLevelAccess;
-import net.minecraft.world.inventory.DataSlot;
 import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
@@ -33,11 +35,12 @@ import java.util.Objects;
  * energy, liquid, and chemical buffers back to the client so the GUI can render
  * live progress and gauge information.
  */
-public class AvianDousingMachineMenu extends AbstractContainerMenu {
+public class AvianDousingMachineMenu extends AbstractContainerMenu implements StateSyncedMenu {
     private static final int MACHINE_SLOTS = AvianDousingMachineBlockEntity.SLOT_COUNT;
 
     private final AvianDousingMachineBlockEntity machine;
     private final ContainerLevelAccess access;
+    private final MenuStateSync<State> stateSync;
 
     private int clientEnergy;
     private int clientEnergyCapacity;
@@ -102,165 +105,8 @@ public class AvianDousingMachineMenu extends AbstractContainerMenu {
             this.addSlot(new Slot(playerInventory, hotbar, 8 + hotbar * 18, 142));
         }
 
-        // Energy stored
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return getServerEnergy() & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientEnergy = (clientEnergy & 0xFFFF0000) | (value & 0xFFFF);
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return (getServerEnergy() >>> 16) & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientEnergy = (clientEnergy & 0x0000FFFF) | ((value & 0xFFFF) << 16);
-            }
-        });
-
-        // Energy capacity
-        this.addDataSlot(splitGetter(
-                () -> getServerEnergyCapacity(),
-                value -> clientEnergyCapacity = (clientEnergyCapacity & 0xFFFF0000) | (value & 0xFFFF)));
-        this.addDataSlot(splitGetter(
-                () -> getServerEnergyCapacity() >>> 16,
-                value -> clientEnergyCapacity = (clientEnergyCapacity & 0x0000FFFF) | ((value & 0xFFFF) << 16)));
-
-        // Progress
-        this.addDataSlot(splitGetter(
-                () -> getServerProgress(),
-                value -> clientProgress = (clientProgress & 0xFFFF0000) | (value & 0xFFFF)));
-        this.addDataSlot(splitGetter(
-                () -> getServerProgress() >>> 16,
-                value -> clientProgress = (clientProgress & 0x0000FFFF) | ((value & 0xFFFF) << 16)));
-
-        // Fluid amount and capacity
-        this.addDataSlot(splitGetter(
-                () -> getServerFluidAmount(),
-                value -> {
-                    clientFluidAmount = (clientFluidAmount & 0xFFFF0000) | (value & 0xFFFF);
-                    updateClientFluid();
-                }));
-        this.addDataSlot(splitGetter(
-                () -> getServerFluidAmount() >>> 16,
-                value -> {
-                    clientFluidAmount = (clientFluidAmount & 0x0000FFFF) | ((value & 0xFFFF) << 16);
-                    updateClientFluid();
-                }));
-        this.addDataSlot(splitGetter(
-                () -> getServerFluidCapacity(),
-                value -> clientFluidCapacity = (clientFluidCapacity & 0xFFFF0000) | (value & 0xFFFF)));
-        this.addDataSlot(splitGetter(
-                () -> getServerFluidCapacity() >>> 16,
-                value -> clientFluidCapacity = (clientFluidCapacity & 0x0000FFFF) | ((value & 0xFFFF) << 16)));
-
-        // Special infusion amount and type
-        this.addDataSlot(splitGetter(
-                () -> getServerSpecialAmount(),
-                value -> clientSpecialAmount = (clientSpecialAmount & 0xFFFF0000) | (value & 0xFFFF)));
-        this.addDataSlot(splitGetter(
-                () -> getServerSpecialAmount() >>> 16,
-                value -> clientSpecialAmount = (clientSpecialAmount & 0x0000FFFF) | ((value & 0xFFFF) << 16)));
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return getServerSpecialType();
-            }
-
-            @Override
-            public void set(int value) {
-                clientSpecialType = Math.max(0, Math.min(value, SpecialInfusion.values().length - 1));
-            }
-        });
-
-        // Fluid id
-        this.addDataSlot(splitGetter(
-                () -> getServerFluidId(),
-                value -> {
-                    clientFluidId = (clientFluidId & 0xFFFF0000) | (value & 0xFFFF);
-                    updateClientFluid();
-                }));
-        this.addDataSlot(splitGetter(
-                () -> getServerFluidId() >>> 16,
-                value -> {
-                    clientFluidId = (clientFluidId & 0x0000FFFF) | ((value & 0xFFFF) << 16);
-                    updateClientFluid();
-                }));
-
-        // Liquid dousing cost (per stored fluid/chicken)
-        this.addDataSlot(splitGetter(
-                () -> getServerLiquidCost(),
-                value -> clientLiquidCost = (clientLiquidCost & 0xFFFF0000) | (value & 0xFFFF)));
-        this.addDataSlot(splitGetter(
-                () -> getServerLiquidCost() >>> 16,
-                value -> clientLiquidCost = (clientLiquidCost & 0x0000FFFF) | ((value & 0xFFFF) << 16)));
-
-        // Liquid dousing energy cost (per stored fluid/chicken)
-        this.addDataSlot(splitGetter(
-                () -> getServerLiquidEnergyCost(),
-                value -> clientLiquidEnergyCost = (clientLiquidEnergyCost & 0xFFFF0000) | (value & 0xFFFF)));
-        this.addDataSlot(splitGetter(
-                () -> getServerLiquidEnergyCost() >>> 16,
-                value -> clientLiquidEnergyCost = (clientLiquidEnergyCost & 0x0000FFFF) | ((value & 0xFFFF) << 16)));
-
-        // Chemical dousing cost (per stored chemical/chicken)
-        this.addDataSlot(splitGetter(
-                () -> getServerChemicalCost(),
-                value -> clientChemicalCost = (clientChemicalCost & 0xFFFF0000) | (value & 0xFFFF)));
-        this.addDataSlot(splitGetter(
-                () -> getServerChemicalCost() >>> 16,
-                value -> clientChemicalCost = (clientChemicalCost & 0x0000FFFF) | ((value & 0xFFFF) << 16)));
-
-        // Chemical dousing energy cost (per stored chemical/chicken)
-        this.addDataSlot(splitGetter(
-                () -> getServerChemicalEnergyCost(),
-                value -> clientChemicalEnergyCost = (clientChemicalEnergyCost & 0xFFFF0000) | (value & 0xFFFF)));
-        this.addDataSlot(splitGetter(
-                () -> getServerChemicalEnergyCost() >>> 16,
-                value -> clientChemicalEnergyCost = (clientChemicalEnergyCost & 0x0000FFFF) | ((value & 0xFFFF) << 16)));
-
-        // Chemical amount and capacity
-        this.addDataSlot(splitGetter(
-                () -> getServerChemicalAmount(),
-                value -> clientChemicalAmount = (clientChemicalAmount & 0xFFFF0000) | (value & 0xFFFF)));
-        this.addDataSlot(splitGetter(
-                () -> getServerChemicalAmount() >>> 16,
-                value -> clientChemicalAmount = (clientChemicalAmount & 0x0000FFFF) | ((value & 0xFFFF) << 16)));
-        this.addDataSlot(splitGetter(
-                () -> getServerChemicalCapacity(),
-                value -> clientChemicalCapacity = (clientChemicalCapacity & 0xFFFF0000) | (value & 0xFFFF)));
-        this.addDataSlot(splitGetter(
-                () -> getServerChemicalCapacity() >>> 16,
-                value -> clientChemicalCapacity = (clientChemicalCapacity & 0x0000FFFF) | ((value & 0xFFFF) << 16)));
-
-        // Chemical entry id
-        this.addDataSlot(splitGetter(
-                () -> getServerChemicalEntryId(),
-                value -> clientChemicalEntryId = (clientChemicalEntryId & 0xFFFF0000) | (value & 0xFFFF)));
-        this.addDataSlot(splitGetter(
-                () -> getServerChemicalEntryId() >>> 16,
-                value -> clientChemicalEntryId = (clientChemicalEntryId & 0x0000FFFF) | ((value & 0xFFFF) << 16)));
-
-        // Mode
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return getServerMode();
-            }
-
-            @Override
-            public void set(int value) {
-                clientMode = InfusionMode.values()[Math.max(0, Math.min(value, InfusionMode.values().length - 1))];
-            }
-        });
+        this.stateSync = new MenuStateSync<>(this, playerInventory, State.STREAM_CODEC, this::captureState,
+                this::applyState);
     }
 
     private static AvianDousingMachineBlockEntity resolveBlockEntity(Inventory inventory, RegistryFriendlyByteBuf buffer) {
@@ -275,6 +121,23 @@ public class AvianDousingMachineMenu extends AbstractContainerMenu {
         throw new IllegalStateException("Avian Dousing Machine not found at " + pos);
     }
 
+    @Override
+    public MenuStateSync<?> getStateSync() {
+        return stateSync;
+    }
+
+    @Override
+    public void broadcastChanges() {
+        super.broadcastChanges();
+        stateSync.broadcastChanges();
+    }
+
+    @Override
+    public void sendAllDataToRemote() {
+        super.sendAllDataToRemote();
+        stateSync.broadcastFullState();
+    }
+
     @Override
     public boolean stillValid(Player player) {
         return machine.stillValid(player);
@@ -400,24 +263,6 @@ public class AvianDousingMachineMenu extends AbstractContainerMenu {
         return clientSpecialAmount > 0 && clientSpecialType != SpecialInfusion.NONE.ordinal();
     }
 
-    private static DataSlot splitGetter(IntSupplier supplier, IntConsumer consumer) {
-        return new DataSlot() {
-            private int cached;
-
-            @Override
-            public int get() {
-                cached = supplier.getAsInt() & 0xFFFF;
-                return cached;
-            }
-
-            @Override
-            public void set(int value) {
-                cached = value & 0xFFFF;
-                consumer.accept(cached);
-            }
-        };
-    }
-
     private void updateClientFluid() {
         if (clientFluidId < 0 || clientFluidAmount <= 0) {
             clientFluid = FluidStack.EMPTY;
@@ -502,12 +347,74 @@ public class AvianDousingMachineMenu extends AbstractContainerMenu {
         return machine != null ? machine.getChemicalEnergyCostForStoredChemical() : AvianDousingMachineBlockEntity.CHEMICAL_ENERGY_COST;
     }
 
-    private interface IntSupplier {
-        int getAsInt();
-    }
-
-    private interface IntConsumer {
-        void accept(int value);
+    private int getServerMaxProgress() {
+        return machine != null ? machine.getMaxProgress() : 0;
+    }
+
+    private State captureState() {
+        return new State(getServerEnergy(), getServerEnergyCapacity(), getServerProgress(), getServerMaxProgress(),
+                getServerFluidId(), getServerFluidAmount(), getServerFluidCapacity(),
+                getServerSpecialType(), getServerSpecialAmount(),
+                getServerChemicalEntryId(), getServerChemicalAmount(), getServerChemicalCapacity(),
+                getServerLiquidCost(), getServerLiquidEnergyCost(), getServerChemicalCost(),
+                getServerChemicalEnergyCost(), getServerMode());
+    }
+
+    private void applyState(State state) {
+        clientEnergy = state.energy();
+        clientEnergyCapacity = state.energyCapacity();
+        clientProgress = state.progress();
+        clientMaxProgress = state.maxProgress();
+        clientFluidId = state.fluidId();
+        clientFluidAmount = state.fluidAmount();
+        clientFluidCapacity = state.fluidCapacity();
+        clientSpecialType = Math.max(0, Math.min(state.specialType(), SpecialInfusion.values().length - 1));
+        clientSpecialAmount = state.specialAmount();
+        clientChemicalEntryId = state.chemicalEntryId();
+        clientChemicalAmount = state.chemicalAmount();
+        clientChemicalCapacity = state.chemicalCapacity();
+        clientLiquidCost = state.liquidCost();
+        clientLiquidEnergyCost = state.liquidEnergyCost();
+        clientChemicalCost = state.chemicalCost();
+        clientChemicalEnergyCost = state.chemicalEnergyCost();
+        clientMode = InfusionMode.values()[Math.max(0, Math.min(state.mode(), InfusionMode.values().length - 1))];
+        updateClientFluid();
+    }
+
+    /**
+     * Every gauge and cost the screen shows. Too many fields for
+     * {@link StreamCodec#composite}, so the codec writes them in declaration
+     * order by hand.
+     */
+    private record State(int energy, int energyCapacity, int progress, int maxProgress,
+            int fluidId, int fluidAmount, int fluidCapacity, int specialType, int specialAmount,
+            int chemicalEntryId, int chemicalAmount, int chemicalCapacity,
+            int liquidCost, int liquidEnergyCost, int chemicalCost, int chemicalEnergyCost, int mode) {
+        static final StreamCodec<RegistryFriendlyByteBuf, State> STREAM_CODEC = StreamCodec.of(
+                (buffer, state) -> {
+                    buffer.writeVarInt(state.energy);
+                    buffer.writeVarInt(state.energyCapacity);
+                    buffer.writeVarInt(state.progress);
+                    buffer.writeVarInt(state.maxProgress);
+                    buffer.writeVarInt(state.fluidId);
+                    buffer.writeVarInt(state.fluidAmount);
+                    buffer.writeVarInt(state.fluidCapacity);
+                    buffer.writeVarInt(state.specialType);
+                    buffer.writeVarInt(state.specialAmount);
+                    buffer.writeVarInt(state.chemicalEntryId);
+                    buffer.writeVarInt(state.chemicalAmount);
+                    buffer.writeVarInt(state.chemicalCapacity);
+                    buffer.writeVarInt(state.liquidCost);
+                    buffer.writeVarInt(state.liquidEnergyCost);
+                    buffer.writeVarInt(state.chemicalCost);
+                    buffer.writeVarInt(state.chemicalEnergyCost);
+                    buffer.writeVarInt(state.mode);
+                },
+                buffer -> new State(buffer.readVarInt(), buffer.readVarInt(), buffer.readVarInt(),
+                        buffer.readVarInt(), buffer.readVarInt(), buffer.readVarInt(), buffer.readVarInt(),
+                        buffer.readVarInt(), buffer.readVarInt(), buffer.readVarInt(), buffer.readVarInt(),
+                        buffer.readVarInt(), buffer.readVarInt(), buffer.readVarInt(), buffer.readVarInt(),
+                        buffer.readVarInt(), buffer.readVarInt()));
     }
 
     private static class SmartChickenSlot extends Slot {
@@ -2,15 +2,18 @@ package com.setycz.chickens.menu;
 
 import com.setycz.chickens.blockentity.AvianFluidConverterBlockEntity;
 import com.setycz.chickens.item.LiquidEggItem;
+import com.setycz.chickens.network.MenuStateSync;
+import com.setycz.chickens.network.StateSyncedMenu;
 import com.setycz.chickens.registry.ModMenuTypes;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.inventory.ContainerLevelAccess;
-import net.minecraft.world.inventory.DataSlot;
 import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
@@ -26,11 +29,12 @@ import java.util.Objects;
  * while syncing the tank contents back to the client so the GUI can render
  * fluid gauges without polling the world every frame.
  */
-public class AvianFluidConverterMenu extends AbstractContainerMenu {
+public class AvianFluidConverterMenu extends AbstractContainerMenu implements StateSyncedMenu {
     private static final int INVENTORY_SIZE = AvianFluidConverterBlockEntity.SLOT_COUNT;
 
     private final AvianFluidConverterBlockEntity converter;
     private final ContainerLevelAccess access;
+    private final MenuStateSync<State> stateSync;
     private FluidStack clientFluid = FluidStack.EMPTY;
     private int clientAmount;
     private int clientCapacity;
@@ -62,76 +66,8 @@ public class AvianFluidConverterMenu extends AbstractContainerMenu {
             this.addSlot(new Slot(playerInventory, hotbar, 8 + hotbar * 18, 142));
         }
 
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return getServerAmount() & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientAmount = (clientAmount & 0xFFFF0000) | (value & 0xFFFF);
-                updateClientFluid();
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return (getServerAmount() >>> 16) & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientAmount = (clientAmount & 0x0000FFFF) | ((value & 0xFFFF) << 16);
-                updateClientFluid();
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return getServerCapacity() & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientCapacity = (clientCapacity & 0xFFFF0000) | (value & 0xFFFF);
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return (getServerCapacity() >>> 16) & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientCapacity = (clientCapacity & 0x0000FFFF) | ((value & 0xFFFF) << 16);
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return getServerFluidId() & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientFluidId = (clientFluidId & 0xFFFF0000) | (value & 0xFFFF);
-                updateClientFluid();
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return (getServerFluidId() >>> 16) & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientFluidId = (clientFluidId & 0x0000FFFF) | ((value & 0xFFFF) << 16);
-                updateClientFluid();
-            }
-        });
+        this.stateSync = new MenuStateSync<>(this, playerInventory, State.STREAM_CODEC, this::captureState,
+                this::applyState);
     }
 
     private static AvianFluidConverterBlockEntity resolveBlockEntity(Inventory inventory, RegistryFriendlyByteBuf buffer) {
@@ -146,6 +82,23 @@ public class AvianFluidConverterMenu extends AbstractContainerMenu {
         throw new IllegalStateException("Avian Fluid Converter not found at " + pos);
     }
 
+    @Override
+    public MenuStateSync<?> getStateSync() {
+        return stateSync;
+    }
+
+    @Override
+    public void broadcastChanges() {
+        super.broadcastChanges();
+        stateSync.broadcastChanges();
+    }
+
+    @Override
+    public void sendAllDataToRemote() {
+        super.sendAllDataToRemote();
+        stateSync.broadcastFullState();
+    }
+
     @Override
     public boolean stillValid(Player player) {
         return converter.stillValid(player);
@@ -228,6 +181,27 @@ public class AvianFluidConverterMenu extends AbstractContainerMenu {
         clientFluid = new FluidStack(fluid, clientAmount);
     }
 
+
+    private State captureState() {
+        return new State(getServerFluidId(), getServerAmount(), getServerCapacity());
+    }
+
+    private void applyState(State state) {
+        clientFluidId = state.fluidId();
+        clientAmount = state.amount();
+        clientCapacity = state.capacity();
+        updateClientFluid();
+    }
+
+    /** Tank contents as shown by the screen, with the fluid as a registry id so states compare by value. */
+    private record State(int fluidId, int amount, int capacity) {
+        static final StreamCodec<RegistryFriendlyByteBuf, State> STREAM_CODEC = StreamCodec.composite(
+                ByteBufCodecs.VAR_INT, State::fluidId,
+                ByteBufCodecs.VAR_INT, State::amount,
+                ByteBufCodecs.VAR_INT, State::capacity,
+                State::new);
+    }
+
     private static class LiquidEggSlot extends Slot {
         public LiquidEggSlot(AvianFluidConverterBlockEntity converter, int index, int x, int y) {
             super(converter, index, x, y);
@@ -2,13 +2,16 @@ package com.setycz.chickens.menu;
 
 import com.setycz.chickens.blockentity.AvianFluxConverterBlockEntity;
 import com.setycz.chickens.item.FluxEggItem;
+import com.setycz.chickens.network.MenuStateSync;
+import com.setycz.chickens.network.StateSyncedMenu;
 import com.setycz.chickens.registry.ModMenuTypes;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
-import net.minecraft.world.inventory.DataSlot;
 import net.minecraft.world.inventory.ContainerLevelAccess;
 import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.ItemStack;
@@ -22,11 +25,12 @@ import java.util.Objects;
  * with a single input slot followed by the player inventory, while syncing the
  * machine's energy buffer back to the screen for tooltip rendering.
  */
-public class AvianFluxConverterMenu extends AbstractContainerMenu {
+public class AvianFluxConverterMenu extends AbstractContainerMenu implements StateSyncedMenu {
     private static final int INVENTORY_SIZE = AvianFluxConverterBlockEntity.SLOT_COUNT;
 
     private final AvianFluxConverterBlockEntity converter;
     private final ContainerLevelAccess access;
+    private final MenuStateSync<State> stateSync;
     private int clientEnergy;
     private int clientCapacity;
 
@@ -54,52 +58,8 @@ public class AvianFluxConverterMenu extends AbstractContainerMenu {
             this.addSlot(new Slot(playerInventory, hotbar, 8 + hotbar * 18, 142));
         }
 
-        // Split the 32-bit energy and capacity values across vanilla DataSlots so they
-        // synchronise to the client without truncation.
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return getServerEnergy() & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientEnergy = (clientEnergy & 0xFFFF0000) | (value & 0xFFFF);
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return (getServerEnergy() >>> 16) & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientEnergy = (clientEnergy & 0x0000FFFF) | ((value & 0xFFFF) << 16);
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return getServerCapacity() & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientCapacity = (clientCapacity & 0xFFFF0000) | (value & 0xFFFF);
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return (getServerCapacity() >>> 16) & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientCapacity = (clientCapacity & 0x0000FFFF) | ((value & 0xFFFF) << 16);
-            }
-        });
+        this.stateSync = new MenuStateSync<>(this, playerInventory, State.STREAM_CODEC, this::captureState,
+                this::applyState);
     }
 
     private static AvianFluxConverterBlockEntity resolveBlockEntity(Inventory inventory, RegistryFriendlyByteBuf buffer) {
@@ -114,6 +74,23 @@ public class AvianFluxConverterMenu extends AbstractContainerMenu {
         throw new IllegalStateException("Avian Flux Converter not found at " + pos);
     }
 
+    @Override
+    public MenuStateSync<?> getStateSync() {
+        return stateSync;
+    }
+
+    @Override
+    public void broadcastChanges() {
+        super.broadcastChanges();
+        stateSync.broadcastChanges();
+    }
+
+    @Override
+    public void sendAllDataToRemote() {
+        super.sendAllDataToRemote();
+        stateSync.broadcastFullState();
+    }
+
     @Override
     public boolean stillValid(Player player) {
         return converter.stillValid(player);
@@ -150,7 +127,7 @@ public class AvianFluxConverterMenu extends AbstractContainerMenu {
 
     public int getEnergy() {
         // Server reads straight from the block entity while the client consumes the
-        // values hydrated through the DataSlot callbacks above.
+        // values last received through the menu state sync.
         return isServerSide() ? getServerEnergy() : clientEnergy;
     }
 
@@ -170,6 +147,24 @@ public class AvianFluxConverterMenu extends AbstractContainerMenu {
         return converter != null ? converter.getEnergyCapacity() : 0;
     }
 
+
+    private State captureState() {
+        return new State(getServerEnergy(), getServerCapacity());
+    }
+
+    private void applyState(State state) {
+        clientEnergy = state.energy();
+        clientCapacity = state.capacity();
+    }
+
+    /** Energy buffer as shown by the screen; sent only when either value changes. */
+    private record State(int energy, int capacity) {
+        static final StreamCodec<RegistryFriendlyByteBuf, State> STREAM_CODEC = StreamCodec.composite(
+                ByteBufCodecs.VAR_INT, State::energy,
+                ByteBufCodecs.VAR_INT, State::capacity,
+                State::new);
+    }
+
     private static class FluxEggSlot extends Slot {
         public FluxEggSlot(AvianFluxConverterBlockEntity converter, int index, int x, int y) {
             super(converter, index, x, y);
@@ -20,7 +20,8 @@ import java.util.Objects;
 
 /**
  * Menu wiring for the breeder. Two parent slots, a seed slot, and three outputs
- * mirror the legacy GUI layout while syncing progress back to the client.
+ * mirror the legacy GUI layout; progress is derived on the client from the
+ * breeder's synced lay schedule rather than sent as a data slot.
  */
 public class BreederMenu extends AbstractContainerMenu {
     private static final int INVENTORY_SIZE = BreederBlockEntity.INVENTORY_SIZE;
@@ -58,8 +59,6 @@ public class BreederMenu extends AbstractContainerMenu {
         for (int hotbar = 0; hotbar < 9; ++hotbar) {
             this.addSlot(new Slot(playerInventory, hotbar, 8 + hotbar * 18, 109));
         }
-
-        this.addDataSlots(data);
     }
 
     private static BreederBlockEntity resolveBlockEntity(Inventory inventory, RegistryFriendlyByteBuf buffer) {
@@ -2,15 +2,18 @@ package com.setycz.chickens.menu;
 
 import com.setycz.chickens.blockentity.IncubatorBlockEntity;
 import com.setycz.chickens.item.ChickensSpawnEggItem;
+import com.setycz.chickens.network.MenuStateSync;
+import com.setycz.chickens.network.StateSyncedMenu;
 import com.setycz.chickens.registry.ModMenuTypes;
 import com.setycz.chickens.registry.ModRegistry;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.inventory.ContainerLevelAccess;
-import net.minecraft.world.inventory.DataSlot;
 import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
@@ -23,7 +26,7 @@ import java.util.Objects;
  * progress, and per-egg RF cost back to the client so the GUI can render live
  * gauges while exposing standard furnace-style slots for automation.
  */
-public class IncubatorMenu extends AbstractContainerMenu {
+public class IncubatorMenu extends AbstractContainerMenu implements StateSyncedMenu {
     private static final int MACHINE_SLOTS = IncubatorBlockEntity.SLOT_COUNT;
     private static final int PLAYER_INVENTORY_ROWS = 3;
     private static final int PLAYER_COLUMNS = 9;
@@ -35,6 +38,7 @@ public class IncubatorMenu extends AbstractContainerMenu {
 
     private final IncubatorBlockEntity incubator;
     private final ContainerLevelAccess access;
+    private final MenuStateSync<State> stateSync;
     private int clientEnergy;
     private int clientCapacity;
     private int clientProgress;
@@ -67,101 +71,8 @@ public class IncubatorMenu extends AbstractContainerMenu {
             this.addSlot(new Slot(playerInventory, hotbar, 8 + hotbar * 18, 142));
         }
 
-        // Energy stored
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return getServerEnergy() & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientEnergy = (clientEnergy & 0xFFFF0000) | (value & 0xFFFF);
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return (getServerEnergy() >>> 16) & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientEnergy = (clientEnergy & 0x0000FFFF) | ((value & 0xFFFF) << 16);
-            }
-        });
-
-        // Energy capacity
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return getServerCapacity() & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientCapacity = (clientCapacity & 0xFFFF0000) | (value & 0xFFFF);
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return (getServerCapacity() >>> 16) & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientCapacity = (clientCapacity & 0x0000FFFF) | ((value & 0xFFFF) << 16);
-            }
-        });
-
-        // Progress
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return getServerProgress() & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientProgress = (clientProgress & 0xFFFF0000) | (value & 0xFFFF);
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return (getServerProgress() >>> 16) & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientProgress = (clientProgress & 0x0000FFFF) | ((value & 0xFFFF) << 16);
-            }
-        });
-
-        // Energy cost per egg
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return getServerEnergyCost() & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientEnergyCost = (clientEnergyCost & 0xFFFF0000) | (value & 0xFFFF);
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return (getServerEnergyCost() >>> 16) & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientEnergyCost = (clientEnergyCost & 0x0000FFFF) | ((value & 0xFFFF) << 16);
-            }
-        });
+        this.stateSync = new MenuStateSync<>(this, playerInventory, State.STREAM_CODEC, this::captureState,
+                this::applyState);
     }
 
     private static IncubatorBlockEntity resolveBlockEntity(Inventory inventory, RegistryFriendlyByteBuf buffer) {
@@ -176,6 +87,23 @@ public class IncubatorMenu extends AbstractContainerMenu {
         throw new IllegalStateException("Incubator not found at " + pos);
     }
 
+    @Override
+    public MenuStateSync<?> getStateSync() {
+        return stateSync;
+    }
+
+    @Override
+    public void broadcastChanges() {
+        super.broadcastChanges();
+        stateSync.broadcastChanges();
+    }
+
+    @Override
+    public void sendAllDataToRemote() {
+        super.sendAllDataToRemote();
+        stateSync.broadcastFullState();
+    }
+
     @Override
     public boolean stillValid(Player player) {
         return stillValid(access, player, ModRegistry.INCUBATOR.get());
@@ -273,6 +201,28 @@ public class IncubatorMenu extends AbstractContainerMenu {
         }
     }
 
+
+    private State captureState() {
+        return new State(getServerEnergy(), getServerCapacity(), getServerProgress(), getServerEnergyCost());
+    }
+
+    private void applyState(State state) {
+        clientEnergy = state.energy();
+        clientCapacity = state.capacity();
+        clientProgress = state.progress();
+        clientEnergyCost = state.energyCost();
+    }
+
+    /** Everything the incubator screen reads, sent as one payload whenever a value changes. */
+    private record State(int energy, int capacity, int progress, int energyCost) {
+        static final StreamCodec<RegistryFriendlyByteBuf, State> STREAM_CODEC = StreamCodec.composite(
+                ByteBufCodecs.VAR_INT, State::energy,
+                ByteBufCodecs.VAR_INT, State::capacity,
+                ByteBufCodecs.VAR_INT, State::progress,
+                ByteBufCodecs.VAR_INT, State::energyCost,
+                State::new);
+    }
+
     private static class OutputSlot extends Slot {
         public OutputSlot(IncubatorBlockEntity incubator, int index, int x, int y) {
             super(incubator, index, x, y);
@@ -18,8 +18,9 @@ import net.minecraft.world.level.block.entity.BlockEntity;
 import java.util.Objects;
 
 /**
- * Menu wiring for the roost. It mirrors the slot layout of the 1.12 GUI while
- * syncing the drop progress to the client.
+ * Menu wiring for the roost. It mirrors the slot layout of the 1.12 GUI; the
+ * drop progress is not a data slot but derived on the client from the lay
+ * schedule the roost already syncs.
  */
 public class RoostMenu extends AbstractContainerMenu {
     private final RoostBlockEntity roost;
@@ -55,8 +56,6 @@ public class RoostMenu extends AbstractContainerMenu {
         for (int hotbar = 0; hotbar < 9; ++hotbar) {
             this.addSlot(new Slot(playerInventory, hotbar, 8 + hotbar * 18, 109));
         }
-
-        this.addDataSlots(data);
     }
 
     private static RoostBlockEntity resolveBlockEntity(Inventory inventory, RegistryFriendlyByteBuf buffer) {
@@ -0,0 +1,92 @@
+package com.setycz.chickens.network;
+
+import com.setycz.chickens.ChickensMod;
+import com.setycz.chickens.jfr.BlockEntitySyncEvent;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.neoforged.neoforge.network.PacketDistributor;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Server-to-client delta for a single block entity. The body is written by the
+ * block entity itself while still on the server thread, so the payload only
+ * carries the few fields renderers and screens actually read rather than a
+ * full {@code saveWithoutMetadata} tag.
+ */
+public record BlockEntitySyncPayload(BlockPos pos, byte[] data) implements CustomPacketPayload {
+    public static final Type<BlockEntitySyncPayload> TYPE = new Type<>(
+            ResourceLocation.fromNamespaceAndPath(ChickensMod.MOD_ID, "block_entity_sync"));
+    public static final StreamCodec<ByteBuf, BlockEntitySyncPayload> STREAM_CODEC = StreamCodec.composite(
+            BlockPos.STREAM_CODEC, BlockEntitySyncPayload::pos,
+            ByteBufCodecs.BYTE_ARRAY, BlockEntitySyncPayload::data,
+            BlockEntitySyncPayload::new);
+
+    @Override
+    public Type<BlockEntitySyncPayload> type() {
+        return TYPE;
+    }
+
+    /**
+     * Serialises a delta for the block entity and sends it to every player
+     * tracking its chunk. Nothing is encoded when nobody is watching; those
+     * players receive the full update tag once the chunk is sent to them.
+     */
+    public static void sendToTracking(BlockEntity blockEntity, Consumer<RegistryFriendlyByteBuf> writer) {
+        if (!(blockEntity.getLevel() instanceof ServerLevel level)) {
+            return;
+        }
+        BlockPos pos = blockEntity.getBlockPos();
+        ChunkPos chunk = new ChunkPos(pos);
+        List<ServerPlayer> players = level.getChunkSource().chunkMap.getPlayers(chunk, false);
+        if (players.isEmpty()) {
+            return;
+        }
+        RegistryFriendlyByteBuf buffer = new RegistryFriendlyByteBuf(Unpooled.buffer(), level.registryAccess());
+        try {
+            writer.accept(buffer);
+            byte[] data = new byte[buffer.readableBytes()];
+            buffer.readBytes(data);
+            PacketDistributor.sendToPlayersTrackingChunk(level, chunk, new BlockEntitySyncPayload(pos.immutable(), data));
+            BlockEntitySyncEvent event = new BlockEntitySyncEvent();
+            if (event.isEnabled()) {
+                ResourceLocation type = BuiltInRegistries.BLOCK_ENTITY_TYPE.getKey(blockEntity.getType());
+                event.blockEntity = type != null ? type.toString() : null;
+                event.x = pos.getX();
+                event.y = pos.getY();
+                event.z = pos.getZ();
+                event.bytes = data.length;
+                event.players = players.size();
+                event.commit();
+            }
+        } finally {
+            buffer.release();
+        }
+    }
+
+    public static void handle(BlockEntitySyncPayload payload, IPayloadContext context) {
+        Level level = context.player().level();
+        if (!level.isLoaded(payload.pos())) {
+            return;
+        }
+        if (level.getBlockEntity(payload.pos()) instanceof ClientSyncedBlockEntity synced) {
+            RegistryFriendlyByteBuf buffer = new RegistryFriendlyByteBuf(Unpooled.wrappedBuffer(payload.data()),
+                    level.registryAccess());
+            synced.readClientSync(buffer);
+        }
+    }
+}
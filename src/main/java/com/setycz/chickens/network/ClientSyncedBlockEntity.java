@@ -0,0 +1,16 @@
+package com.setycz.chickens.network;
+
+import net.minecraft.network.RegistryFriendlyByteBuf;
+
+/**
+ * Implemented by block entities that push compact state deltas to tracking
+ * clients through {@link BlockEntitySyncPayload} instead of resending their
+ * whole save tag. The reader must consume exactly what the server-side writer
+ * produced for the same block entity type.
+ */
+public interface ClientSyncedBlockEntity {
+    /**
+     * Applies a delta written on the server. Only called on the client thread.
+     */
+    void readClientSync(RegistryFriendlyByteBuf buffer);
+}
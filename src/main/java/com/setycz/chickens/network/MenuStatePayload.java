@@ -0,0 +1,42 @@
+package com.setycz.chickens.network;
+
+import com.setycz.chickens.ChickensMod;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.player.Player;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+
+/**
+ * Server-to-client state for the machine screen a player has open. The body
+ * is the menu's state record as written by its own codec, so one payload
+ * replaces the many 16-bit {@code DataSlot} updates vanilla would send.
+ */
+public record MenuStatePayload(int containerId, byte[] data) implements CustomPacketPayload {
+    public static final Type<MenuStatePayload> TYPE = new Type<>(
+            ResourceLocation.fromNamespaceAndPath(ChickensMod.MOD_ID, "menu_state"));
+    public static final StreamCodec<ByteBuf, MenuStatePayload> STREAM_CODEC = StreamCodec.composite(
+            ByteBufCodecs.VAR_INT, MenuStatePayload::containerId,
+            ByteBufCodecs.BYTE_ARRAY, MenuStatePayload::data,
+            MenuStatePayload::new);
+
+    @Override
+    public Type<MenuStatePayload> type() {
+        return TYPE;
+    }
+
+    public static void handle(MenuStatePayload payload, IPayloadContext context) {
+        Player player = context.player();
+        // A state for a screen that has since been closed or replaced is simply dropped.
+        if (player.containerMenu.containerId == payload.containerId()
+                && player.containerMenu instanceof StateSyncedMenu synced) {
+            RegistryFriendlyByteBuf buffer = new RegistryFriendlyByteBuf(Unpooled.wrappedBuffer(payload.data()),
+                    player.level().registryAccess());
+            synced.getStateSync().read(buffer);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.setycz.chickens.network;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.inventory.AbstractContainerMenu;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+import javax.annotation.Nullable;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Keeps a machine screen in sync with its block entity through one typed
+ * state record. On the server the menu's {@code broadcastChanges} captures a
+ * fresh record each tick and sends it as a single {@link MenuStatePayload}
+ * only when it differs from the last one sent, so an idle machine with an
+ * open screen costs one record comparison per tick and no traffic. On the
+ * client each received record is handed to the menu to update its cached
+ * fields.
+ *
+ * <p>State records must compare by value; use registry ids or plain numbers
+ * rather than stacks, which compare by identity.</p>
+ */
+public final class MenuStateSync<S> {
+    private final AbstractContainerMenu menu;
+    @Nullable
+    private final ServerPlayer player;
+    private final StreamCodec<? super RegistryFriendlyByteBuf, S> codec;
+    private final Supplier<S> capture;
+    private final Consumer<S> apply;
+    @Nullable
+    private S lastSent;
+
+    /**
+     * @param capture reads the current state from the block entity; server only
+     * @param apply   stores a received state in the menu's client fields
+     */
+    public MenuStateSync(AbstractContainerMenu menu, Inventory playerInventory,
+            StreamCodec<? super RegistryFriendlyByteBuf, S> codec, Supplier<S> capture, Consumer<S> apply) {
+        this.menu = menu;
+        this.player = playerInventory.player instanceof ServerPlayer serverPlayer ? serverPlayer : null;
+        this.codec = codec;
+        this.capture = capture;
+        this.apply = apply;
+    }
+
+    /** Sends the current state if any field changed since the last send. */
+    public void broadcastChanges() {
+        if (player == null) {
+            return;
+        }
+        S state = capture.get();
+        if (state.equals(lastSent)) {
+            return;
+        }
+        lastSent = state;
+        RegistryFriendlyByteBuf buffer = new RegistryFriendlyByteBuf(Unpooled.buffer(), player.registryAccess());
+        try {
+            codec.encode(buffer, state);
+            byte[] data = new byte[buffer.readableBytes()];
+            buffer.readBytes(data);
+            PacketDistributor.sendToPlayer(player, new MenuStatePayload(menu.containerId, data));
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /** Sends the current state unconditionally, e.g. when the screen opens. */
+    public void broadcastFullState() {
+        lastSent = null;
+        broadcastChanges();
+    }
+
+    void read(RegistryFriendlyByteBuf buffer) {
+        apply.accept(codec.decode(buffer));
+    }
+}
@@ -0,0 +1,9 @@
+package com.setycz.chickens.network;
+
+/**
+ * Implemented by menus that mirror their machine to the client through a
+ * {@link MenuStateSync} instead of vanilla data slots.
+ */
+public interface StateSyncedMenu {
+    MenuStateSync<?> getStateSync();
+}
@@ -0,0 +1,123 @@
+package com.setycz.chickens.perf;
+
+import com.setycz.chickens.blockentity.BlockEntityTickTimer;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.server.ServerStoppingEvent;
+
+import javax.annotation.Nullable;
+import java.util.Optional;
+
+/**
+ * Opt-in tick accounting behind {@code /chickens perf}. Block entity ticks
+ * arrive through {@link BlockEntityTickTimer}; other hot paths bracket their
+ * work with {@link #begin()} and one of the {@code end} overloads. While the
+ * profiler is stopped {@code begin()} is a single volatile read and the
+ * matching {@code end} returns straight away.
+ *
+ * <p>A session belongs to the server that started it: stopping the server
+ * ends the running session and forgets the last one, so leaving a
+ * single-player world never carries samples into the next.</p>
+ */
+public final class ChickensProfiler {
+    public static final String COLLECTOR_GATHER = "collector_gather";
+    public static final String HENHOUSE_PUSH = "henhouse_push";
+    public static final String CHICKEN_LAYING = "chicken_laying";
+
+    private static final long OFF = Long.MIN_VALUE;
+    private static final BlockEntityTickTimer.Listener BLOCK_ENTITY_LISTENER = ChickensProfiler::onBlockEntityTicked;
+
+    @Nullable
+    private static volatile ProfilerSession running;
+    @Nullable
+    private static ProfilerSession last;
+
+    private ChickensProfiler() {
+    }
+
+    public static void init() {
+        NeoForge.EVENT_BUS.addListener(ChickensProfiler::onServerStopping);
+    }
+
+    private static void onServerStopping(ServerStoppingEvent event) {
+        stop();
+        synchronized (ChickensProfiler.class) {
+            last = null;
+        }
+    }
+
+    /** Returns a start timestamp for {@code end}, or a marker that makes {@code end} a no-op. */
+    public static long begin() {
+        return running != null ? System.nanoTime() : OFF;
+    }
+
+    /**
+     * Records work nested inside another timed tick, such as the collector's
+     * gather pass. It is only added to the per-type totals so chunk and
+     * position totals do not count the same time twice.
+     */
+    public static void end(String section, long start) {
+        if (start == OFF) {
+            return;
+        }
+        ProfilerSession session = running;
+        if (session != null) {
+            session.recordNested(section, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Records a top-level tick that does not belong to a block entity, such
+     * as a chicken's lay timer. It counts towards its type and chunk but not
+     * towards the hottest positions, since entities move around.
+     */
+    public static void end(String section, Level level, BlockPos pos, long start) {
+        if (start == OFF || level.isClientSide) {
+            return;
+        }
+        ProfilerSession session = running;
+        if (session != null) {
+            session.recordTick(section, level.dimension(), pos, System.nanoTime() - start, false);
+        }
+    }
+
+    private static void onBlockEntityTicked(BlockEntity blockEntity, long nanos) {
+        ProfilerSession session = running;
+        Level level = blockEntity.getLevel();
+        if (session != null && level != null && !level.isClientSide) {
+            session.recordTick(session.typeName(blockEntity.getType()), level.dimension(), blockEntity.getBlockPos(),
+                    nanos, true);
+        }
+    }
+
+    /** Starts a fresh session; returns {@code false} when one is already running. */
+    public static synchronized boolean start() {
+        if (running != null) {
+            return false;
+        }
+        running = new ProfilerSession();
+        BlockEntityTickTimer.addListener(BLOCK_ENTITY_LISTENER);
+        return true;
+    }
+
+    /** Stops the running session and keeps it for {@code top} and {@code dump}. */
+    public static synchronized Optional<ProfilerSession> stop() {
+        ProfilerSession session = running;
+        if (session == null) {
+            return Optional.empty();
+        }
+        BlockEntityTickTimer.removeListener(BLOCK_ENTITY_LISTENER);
+        running = null;
+        session.finish();
+        last = session;
+        return Optional.of(session);
+    }
+
+    /** The running session, or the most recently stopped one. */
+    public static synchronized Optional<ProfilerSession> current() {
+        ProfilerSession session = running;
+        return Optional.ofNullable(session != null ? session : last);
+    }
+}
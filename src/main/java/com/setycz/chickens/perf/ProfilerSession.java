@@ -0,0 +1,220 @@
+package com.setycz.chickens.perf;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Histograms gathered by one {@code /chickens perf start ... stop} run,
+ * grouped per type, per chunk and per block entity position. Only the server
+ * thread records into a session, and the commands that read it run on the
+ * same thread.
+ *
+ * <p>There is no allocation per sample once a key is known; the first sample
+ * of a new type, chunk or position creates its histogram. Chickens wander
+ * into new chunks all the time, so chunk and position keys are capped and
+ * later ticks on untracked keys only count towards their type.</p>
+ */
+public final class ProfilerSession {
+    private static final Comparator<Entry> BY_TOTAL = Comparator
+            .comparingLong((Entry entry) -> entry.histogram().totalNanos()).reversed();
+    static final int MAX_TRACKED_CHUNKS = 4_096;
+    static final int MAX_TRACKED_POSITIONS = 16_384;
+
+    private final long startNanos = System.nanoTime();
+    private long stopNanos;
+    private long samples;
+    private long untrackedSamples;
+    private int trackedChunks;
+    private int trackedPositions;
+    private final Map<BlockEntityType<?>, String> typeNames = new IdentityHashMap<>();
+    private final Map<String, TickHistogram> types = new HashMap<>();
+    private final Map<ResourceKey<Level>, Long2ObjectMap<TickHistogram>> chunks = new HashMap<>();
+    private final Map<ResourceKey<Level>, Long2ObjectMap<PositionStats>> positions = new HashMap<>();
+
+    ProfilerSession() {
+    }
+
+    String typeName(BlockEntityType<?> type) {
+        return typeNames.computeIfAbsent(type, key -> {
+            ResourceLocation id = BuiltInRegistries.BLOCK_ENTITY_TYPE.getKey(key);
+            return id != null ? id.getPath() : "unknown";
+        });
+    }
+
+    void recordNested(String section, long nanos) {
+        types.computeIfAbsent(section, key -> new TickHistogram()).record(nanos);
+    }
+
+    void recordTick(String type, ResourceKey<Level> dimension, BlockPos pos, long nanos, boolean trackPosition) {
+        samples++;
+        types.computeIfAbsent(type, key -> new TickHistogram()).record(nanos);
+        boolean untracked = false;
+        long chunk = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+        Long2ObjectMap<TickHistogram> byChunk = chunks.computeIfAbsent(dimension, key -> new Long2ObjectOpenHashMap<>());
+        TickHistogram chunkHistogram = byChunk.get(chunk);
+        if (chunkHistogram == null && trackedChunks < MAX_TRACKED_CHUNKS) {
+            chunkHistogram = new TickHistogram();
+            byChunk.put(chunk, chunkHistogram);
+            trackedChunks++;
+        }
+        if (chunkHistogram != null) {
+            chunkHistogram.record(nanos);
+        } else {
+            untracked = true;
+        }
+        if (trackPosition) {
+            Long2ObjectMap<PositionStats> byPosition = positions.computeIfAbsent(dimension,
+                    key -> new Long2ObjectOpenHashMap<>());
+            PositionStats stats = byPosition.get(pos.asLong());
+            if (stats == null && trackedPositions < MAX_TRACKED_POSITIONS) {
+                stats = new PositionStats(type);
+                byPosition.put(pos.asLong(), stats);
+                trackedPositions++;
+            }
+            if (stats != null) {
+                stats.histogram.record(nanos);
+            } else {
+                untracked = true;
+            }
+        }
+        if (untracked) {
+            untrackedSamples++;
+        }
+    }
+
+    void finish() {
+        stopNanos = System.nanoTime();
+    }
+
+    public boolean isRunning() {
+        return stopNanos == 0L;
+    }
+
+    public long durationNanos() {
+        return (isRunning() ? System.nanoTime() : stopNanos) - startNanos;
+    }
+
+    /** Top-level ticks recorded; nested sections are not counted. */
+    public long sampleCount() {
+        return samples;
+    }
+
+    /** Top-level ticks whose chunk or position fell past the tracking caps. */
+    public long untrackedSampleCount() {
+        return untrackedSamples;
+    }
+
+    public List<TypeEntry> types() {
+        List<TypeEntry> result = new ArrayList<>(types.size());
+        types.forEach((type, histogram) -> result.add(new TypeEntry(type, histogram)));
+        result.sort(BY_TOTAL);
+        return result;
+    }
+
+    public List<ChunkEntry> hottestChunks(int limit) {
+        List<ChunkEntry> result = new ArrayList<>();
+        chunks.forEach((dimension, byChunk) -> {
+            for (Long2ObjectMap.Entry<TickHistogram> entry : byChunk.long2ObjectEntrySet()) {
+                result.add(new ChunkEntry(dimension, new ChunkPos(entry.getLongKey()), entry.getValue()));
+            }
+        });
+        result.sort(BY_TOTAL);
+        return limit(result, limit);
+    }
+
+    public List<PositionEntry> hottestPositions(int limit) {
+        List<PositionEntry> result = new ArrayList<>();
+        positions.forEach((dimension, byPosition) -> {
+            for (Long2ObjectMap.Entry<PositionStats> entry : byPosition.long2ObjectEntrySet()) {
+                PositionStats stats = entry.getValue();
+                result.add(new PositionEntry(dimension, BlockPos.of(entry.getLongKey()), stats.type, stats.histogram));
+            }
+        });
+        result.sort(BY_TOTAL);
+        return limit(result, limit);
+    }
+
+    /**
+     * Writes every type, chunk and position as one CSV row each, hottest first
+     * within each scope. Times are in microseconds.
+     */
+    public void writeCsv(Path output) throws IOException {
+        Files.createDirectories(output.getParent());
+        try (Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            writer.write("scope,key,dimension,x,y,z,count,total_us,mean_us,p50_us,p99_us,max_us\n");
+            for (TypeEntry entry : types()) {
+                writeRow(writer, "type", entry.type(), "", "", "", "", entry.histogram());
+            }
+            for (ChunkEntry entry : hottestChunks(Integer.MAX_VALUE)) {
+                writeRow(writer, "chunk", "", entry.dimension().location().toString(),
+                        Integer.toString(entry.chunk().x), "", Integer.toString(entry.chunk().z), entry.histogram());
+            }
+            for (PositionEntry entry : hottestPositions(Integer.MAX_VALUE)) {
+                BlockPos pos = entry.pos();
+                writeRow(writer, "position", entry.type(), entry.dimension().location().toString(),
+                        Integer.toString(pos.getX()), Integer.toString(pos.getY()), Integer.toString(pos.getZ()),
+                        entry.histogram());
+            }
+        }
+    }
+
+    private static void writeRow(Writer writer, String scope, String key, String dimension, String x, String y,
+            String z, TickHistogram histogram) throws IOException {
+        writer.write(String.join(",", scope, key, dimension, x, y, z, Long.toString(histogram.count()),
+                micros(histogram.totalNanos()), micros(histogram.meanNanos()),
+                micros(histogram.percentileNanos(0.5D)), micros(histogram.percentileNanos(0.99D)),
+                micros(histogram.maxNanos())));
+        writer.write('\n');
+    }
+
+    private static String micros(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1000.0D);
+    }
+
+    private static <T> List<T> limit(List<T> entries, int limit) {
+        return entries.size() > limit ? entries.subList(0, limit) : entries;
+    }
+
+    private static final class PositionStats {
+        private final String type;
+        private final TickHistogram histogram = new TickHistogram();
+
+        private PositionStats(String type) {
+            this.type = type;
+        }
+    }
+
+    public sealed interface Entry permits TypeEntry, ChunkEntry, PositionEntry {
+        TickHistogram histogram();
+    }
+
+    public record TypeEntry(String type, TickHistogram histogram) implements Entry {
+    }
+
+    public record ChunkEntry(ResourceKey<Level> dimension, ChunkPos chunk, TickHistogram histogram) implements Entry {
+    }
+
+    public record PositionEntry(ResourceKey<Level> dimension, BlockPos pos, String type, TickHistogram histogram)
+            implements Entry {
+    }
+}
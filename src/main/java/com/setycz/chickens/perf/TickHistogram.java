@@ -0,0 +1,61 @@
+package com.setycz.chickens.perf;
+
+/**
+ * Fixed-size histogram of tick durations. Samples land in power-of-two
+ * nanosecond buckets, so recording is a couple of array writes with no
+ * allocation, and percentiles are accurate to within a factor of two.
+ * Not thread-safe; the profiler only records from the server thread.
+ */
+public final class TickHistogram {
+    private static final int BUCKETS = 48;
+
+    private final long[] buckets = new long[BUCKETS];
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0L);
+        buckets[Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(value))]++;
+        count++;
+        totalNanos += value;
+        if (value > maxNanos) {
+            maxNanos = value;
+        }
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long totalNanos() {
+        return totalNanos;
+    }
+
+    public long maxNanos() {
+        return maxNanos;
+    }
+
+    public long meanNanos() {
+        return count == 0 ? 0L : totalNanos / count;
+    }
+
+    /**
+     * Returns the upper bound of the bucket holding the given quantile, capped
+     * at the largest recorded sample.
+     */
+    public long percentileNanos(double quantile) {
+        if (count == 0) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(count * quantile));
+        long seen = 0L;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += buckets[bucket];
+            if (seen >= rank) {
+                return bucket == 0 ? 0L : Math.min(maxNanos, (1L << bucket) - 1L);
+            }
+        }
+        return maxNanos;
+    }
+}
@@ -0,0 +1,33 @@
+package com.setycz.chickens.registry;
+
+import com.setycz.chickens.ChickensMod;
+import com.setycz.chickens.item.ChickenItemData;
+import net.minecraft.core.component.DataComponentType;
+import net.minecraft.core.registries.Registries;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.registries.DeferredHolder;
+import net.neoforged.neoforge.registries.DeferredRegister;
+
+/**
+ * Item data components owned by the mod. Chicken-backed stacks store their
+ * type, stats and rooster flag here; see {@link com.setycz.chickens.item.ChickenItemHelper}
+ * for the lazy migration of stacks written before the component existed.
+ */
+public final class ModDataComponents {
+    public static final DeferredRegister<DataComponentType<?>> DATA_COMPONENTS =
+            DeferredRegister.create(Registries.DATA_COMPONENT_TYPE, ChickensMod.MOD_ID);
+
+    public static final DeferredHolder<DataComponentType<?>, DataComponentType<ChickenItemData>> CHICKEN =
+            DATA_COMPONENTS.register("chicken", () -> DataComponentType.<ChickenItemData>builder()
+                    .persistent(ChickenItemData.CODEC)
+                    .networkSynchronized(ChickenItemData.STREAM_CODEC)
+                    .cacheEncoding()
+                    .build());
+
+    private ModDataComponents() {
+    }
+
+    public static void init(IEventBus modBus) {
+        DATA_COMPONENTS.register(modBus);
+    }
+}
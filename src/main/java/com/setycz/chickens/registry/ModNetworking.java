@@ -0,0 +1,30 @@
+package com.setycz.chickens.registry;
+
+import com.setycz.chickens.network.BlockEntitySyncPayload;
+import com.setycz.chickens.network.MenuStatePayload;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.network.event.RegisterPayloadHandlersEvent;
+import net.neoforged.neoforge.network.registration.PayloadRegistrar;
+
+/**
+ * Registers the mod's custom payloads. Bump the protocol version whenever a
+ * payload layout changes so mismatched clients are refused at login rather
+ * than misreading deltas.
+ */
+public final class ModNetworking {
+    private static final String PROTOCOL_VERSION = "3";
+
+    private ModNetworking() {
+    }
+
+    public static void init(IEventBus modBus) {
+        modBus.addListener(ModNetworking::registerPayloads);
+    }
+
+    private static void registerPayloads(RegisterPayloadHandlersEvent event) {
+        PayloadRegistrar registrar = event.registrar(PROTOCOL_VERSION);
+        registrar.playToClient(BlockEntitySyncPayload.TYPE, BlockEntitySyncPayload.STREAM_CODEC,
+                BlockEntitySyncPayload::handle);
+        registrar.playToClient(MenuStatePayload.TYPE, MenuStatePayload.STREAM_CODEC, MenuStatePayload::handle);
+    }
+}
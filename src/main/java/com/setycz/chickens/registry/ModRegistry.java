@@ -56,6 +56,7 @@ public final class ModRegistry {
     }
 
     public static void init(IEventBus modBus) {
+        ModDataComponents.init(modBus);
         ITEMS.register(modBus);
         BLOCKS.register(modBus);
         ModEntityTypes.init(modBus);
@@ -64,6 +65,7 @@ public final class ModRegistry {
         ModSpawns.init(modBus);
         ModBiomeModifiers.init(modBus);
         ModCapabilities.init(modBus);
+        ModNetworking.init(modBus);
         ModCreativeTabs.init(modBus);
         modBus.addListener(ModRegistry::onBuildCreativeTabs);
     }
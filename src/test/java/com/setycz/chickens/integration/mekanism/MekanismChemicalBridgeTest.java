@@ -0,0 +1,116 @@
+package com.setycz.chickens.integration.mekanism;
+
+import mekanism.api.Action;
+import mekanism.api.chemical.Chemical;
+import mekanism.api.chemical.ChemicalStack;
+import mekanism.api.chemical.IChemicalHandler;
+import net.minecraft.core.Holder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Binds {@link MekanismChemicalBridge} against the stub Mekanism API on the
+ * test classpath, so a renamed member or a wrong erased signature fails here
+ * instead of silently disabling chemical transfers in game.
+ */
+class MekanismChemicalBridgeTest {
+    private static final Chemical HYDROGEN = new Chemical("hydrogen");
+    private static final Chemical OXYGEN = new Chemical("oxygen");
+
+    @Test
+    void resolvesEveryHandle() {
+        assertTrue(MekanismChemicalBridge.isReady());
+        assertTrue(MekanismChemicalBridge.hasHolderConstructor());
+        assertTrue(MekanismChemicalBridge.hasChemicalConstructor());
+    }
+
+    @Test
+    void buildsStacksFromChemicalsAndHolders() throws Throwable {
+        Object fromChemical = MekanismChemicalBridge.stackFromChemical(HYDROGEN, 1_000L);
+        assertEquals(1_000L, MekanismChemicalBridge.getAmount(fromChemical));
+        assertSame(HYDROGEN, MekanismChemicalBridge.getChemical(fromChemical));
+        assertFalse(MekanismChemicalBridge.isEmpty(fromChemical));
+
+        Object fromHolder = MekanismChemicalBridge.stackFromHolder(Holder.direct(OXYGEN), 250L);
+        assertEquals(250L, MekanismChemicalBridge.getAmount(fromHolder));
+        assertSame(OXYGEN, MekanismChemicalBridge.getChemical(fromHolder));
+
+        assertTrue(MekanismChemicalBridge.isEmpty(MekanismChemicalBridge.stackFromChemical(HYDROGEN, 0L)));
+    }
+
+    @Test
+    void roundTripsStackThroughHandler() throws Throwable {
+        SingleTankHandler tank = new SingleTankHandler(800L);
+        Object offered = MekanismChemicalBridge.stackFromChemical(HYDROGEN, 1_000L);
+
+        Object simulated = MekanismChemicalBridge.insert(tank, offered, Action.SIMULATE);
+        assertEquals(200L, MekanismChemicalBridge.getAmount(simulated));
+        assertEquals(0L, tank.stored.getAmount());
+
+        Object remainder = MekanismChemicalBridge.insert(tank, offered, Action.EXECUTE);
+        assertEquals(200L, MekanismChemicalBridge.getAmount(remainder));
+        assertSame(HYDROGEN, MekanismChemicalBridge.getChemical(remainder));
+        assertEquals(800L, tank.stored.getAmount());
+
+        Object drained = MekanismChemicalBridge.extract(tank, 300L, Action.EXECUTE);
+        assertEquals(300L, MekanismChemicalBridge.getAmount(drained));
+        assertSame(HYDROGEN, MekanismChemicalBridge.getChemical(drained));
+
+        Object wrongType = MekanismChemicalBridge.extract(tank,
+                MekanismChemicalBridge.stackFromChemical(OXYGEN, 100L), Action.EXECUTE);
+        assertTrue(MekanismChemicalBridge.isEmpty(wrongType));
+
+        Object rest = MekanismChemicalBridge.extract(tank,
+                MekanismChemicalBridge.stackFromChemical(HYDROGEN, 1_000L), Action.EXECUTE);
+        assertEquals(500L, MekanismChemicalBridge.getAmount(rest));
+        assertTrue(tank.stored.isEmpty());
+    }
+
+    private static final class SingleTankHandler implements IChemicalHandler {
+        private final long capacity;
+        private ChemicalStack stored = ChemicalStack.EMPTY;
+
+        private SingleTankHandler(long capacity) {
+            this.capacity = capacity;
+        }
+
+        @Override
+        public ChemicalStack insertChemical(ChemicalStack stack, Action action) {
+            if (stack.isEmpty() || (!stored.isEmpty() && stored.getChemical() != stack.getChemical())) {
+                return stack;
+            }
+            long accepted = Math.min(capacity - stored.getAmount(), stack.getAmount());
+            if (action.execute() && accepted > 0L) {
+                stored = new ChemicalStack(stack.getChemical(), stored.getAmount() + accepted);
+            }
+            long remaining = stack.getAmount() - accepted;
+            return remaining > 0L ? new ChemicalStack(stack.getChemical(), remaining) : ChemicalStack.EMPTY;
+        }
+
+        @Override
+        public ChemicalStack extractChemical(long amount, Action action) {
+            if (stored.isEmpty() || amount <= 0L) {
+                return ChemicalStack.EMPTY;
+            }
+            long extracted = Math.min(amount, stored.getAmount());
+            Chemical chemical = stored.getChemical();
+            if (action.execute()) {
+                long left = stored.getAmount() - extracted;
+                stored = left > 0L ? new ChemicalStack(chemical, left) : ChemicalStack.EMPTY;
+            }
+            return new ChemicalStack(chemical, extracted);
+        }
+
+        @Override
+        public ChemicalStack extractChemical(ChemicalStack stack, Action action) {
+            if (stack.isEmpty() || stored.isEmpty() || stored.getChemical() != stack.getChemical()) {
+                return ChemicalStack.EMPTY;
+            }
+            return extractChemical(stack.getAmount(), action);
+        }
+    }
+}
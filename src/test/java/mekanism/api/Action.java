@@ -0,0 +1,13 @@
+package mekanism.api;
+
+/**
+ * Test stub mirroring the Mekanism API enum the chemical bridge resolves.
+ */
+public enum Action {
+    EXECUTE,
+    SIMULATE;
+
+    public boolean execute() {
+        return this == EXECUTE;
+    }
+}
@@ -0,0 +1,17 @@
+package mekanism.api.chemical;
+
+/**
+ * Test stub for a Mekanism chemical; identity is all the bridge relies on.
+ */
+public class Chemical {
+    private final String name;
+
+    public Chemical(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
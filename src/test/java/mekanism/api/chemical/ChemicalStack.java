@@ -0,0 +1,35 @@
+package mekanism.api.chemical;
+
+import net.minecraft.core.Holder;
+
+/**
+ * Test stub exposing both stack constructors the bridge probes for: the
+ * holder-based one from Mekanism 10.7 and the older chemical-based one.
+ */
+public final class ChemicalStack {
+    public static final ChemicalStack EMPTY = new ChemicalStack((Chemical) null, 0L);
+
+    private final Chemical chemical;
+    private final long amount;
+
+    public ChemicalStack(Holder<Chemical> chemical, long amount) {
+        this(chemical.value(), amount);
+    }
+
+    public ChemicalStack(Chemical chemical, long amount) {
+        this.chemical = chemical;
+        this.amount = amount;
+    }
+
+    public Chemical getChemical() {
+        return chemical;
+    }
+
+    public long getAmount() {
+        return amount;
+    }
+
+    public boolean isEmpty() {
+        return chemical == null || amount <= 0L;
+    }
+}
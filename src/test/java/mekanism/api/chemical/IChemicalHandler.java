@@ -0,0 +1,14 @@
+package mekanism.api.chemical;
+
+import mekanism.api.Action;
+
+/**
+ * Test stub with the three handler members the bridge binds.
+ */
+public interface IChemicalHandler {
+    ChemicalStack insertChemical(ChemicalStack stack, Action action);
+
+    ChemicalStack extractChemical(long amount, Action action);
+
+    ChemicalStack extractChemical(ChemicalStack stack, Action action);
+}